@@ -6,10 +6,14 @@ import jakarta.validation.Valid;
 import org.springframework.http.HttpStatus;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.ResponseStatus;
 import org.springframework.web.bind.annotation.RestController;
 
+import static com.edu.ossimulator.service.ProcessSchedulerService.DEFAULT_SESSION;
+import static com.edu.ossimulator.service.ProcessSchedulerService.SESSION_HEADER;
+
 @RestController
 @RequestMapping("/api/interruptions")
 public class InterruptionController {
@@ -22,8 +26,9 @@ public class InterruptionController {
 
     @PostMapping
     @ResponseStatus(HttpStatus.ACCEPTED)
-    public void emit(@Valid @RequestBody InterruptionRequest request) {
-        schedulerService.emitInterruption(request);
+    public void emit(@RequestHeader(name = SESSION_HEADER, defaultValue = DEFAULT_SESSION) String sessionId,
+                     @Valid @RequestBody InterruptionRequest request) {
+        schedulerService.emitInterruption(sessionId, request);
     }
 }
 
@@ -0,0 +1,60 @@
+package com.edu.ossimulator.controller;
+
+import com.edu.ossimulator.dto.JournalEventPage;
+import com.edu.ossimulator.dto.JournalReplayResponse;
+import com.edu.ossimulator.dto.JournalRunSummary;
+import com.edu.ossimulator.service.JournalStore;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.io.IOException;
+import java.util.List;
+
+import static com.edu.ossimulator.service.ProcessSchedulerService.DEFAULT_SESSION;
+import static com.edu.ossimulator.service.ProcessSchedulerService.SESSION_HEADER;
+
+@RestController
+@RequestMapping("/api/journal")
+public class JournalController {
+
+    private static final int MAX_PAGE = 10_000;
+
+    private final JournalStore journalStore;
+
+    public JournalController(JournalStore journalStore) {
+        this.journalStore = journalStore;
+    }
+
+    @GetMapping("/runs")
+    public List<JournalRunSummary> runs(@RequestHeader(name = SESSION_HEADER, defaultValue = DEFAULT_SESSION) String sessionId)
+            throws IOException {
+        return journalStore.runs(sessionId);
+    }
+
+    @GetMapping("/runs/{run}/events")
+    public JournalEventPage events(@RequestHeader(name = SESSION_HEADER, defaultValue = DEFAULT_SESSION) String sessionId,
+                                   @PathVariable int run,
+                                   @RequestParam(defaultValue = "0") long from,
+                                   @RequestParam(defaultValue = "1000") int limit) throws IOException {
+        return journalStore.events(sessionId, run, Math.max(0, from), clamp(limit));
+    }
+
+    // Sin offset se reconstruye la corrida completa
+    @GetMapping("/runs/{run}/replay")
+    public JournalReplayResponse replay(@RequestHeader(name = SESSION_HEADER, defaultValue = DEFAULT_SESSION) String sessionId,
+                                        @PathVariable int run,
+                                        @RequestParam(required = false) Long offset,
+                                        @RequestParam(defaultValue = "1000") int processLimit,
+                                        @RequestParam(defaultValue = "100") int timelineLimit) throws IOException {
+        return journalStore.replay(sessionId, run, offset, Math.max(0, Math.min(processLimit, MAX_PAGE)),
+                Math.max(0, Math.min(timelineLimit, MAX_PAGE)));
+    }
+
+    private static int clamp(int limit) {
+        return Math.max(1, Math.min(limit, MAX_PAGE));
+    }
+}
@@ -1,38 +1,63 @@
 package com.edu.ossimulator.controller;
 
+import com.edu.ossimulator.dto.BulkIngestResponse;
 import com.edu.ossimulator.dto.CreateProcessRequest;
 import com.edu.ossimulator.model.ProcessControlBlock;
+import com.edu.ossimulator.service.ProcessIngestService;
 import com.edu.ossimulator.service.ProcessSchedulerService;
 import jakarta.validation.Valid;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.ResponseStatus;
 import org.springframework.web.bind.annotation.RestController;
 
+import java.io.IOException;
+import java.io.InputStream;
 import java.util.List;
 
+import static com.edu.ossimulator.service.ProcessSchedulerService.DEFAULT_SESSION;
+import static com.edu.ossimulator.service.ProcessSchedulerService.SESSION_HEADER;
+
 @RestController
 @RequestMapping("/api/processes")
 public class ProcessController {
 
     private final ProcessSchedulerService schedulerService;
+    private final ProcessIngestService ingestService;
 
-    public ProcessController(ProcessSchedulerService schedulerService) {
+    public ProcessController(ProcessSchedulerService schedulerService, ProcessIngestService ingestService) {
         this.schedulerService = schedulerService;
+        this.ingestService = ingestService;
     }
 
     @PostMapping
     @ResponseStatus(HttpStatus.CREATED)
-    public ProcessControlBlock createProcess(@Valid @RequestBody CreateProcessRequest request) {
-        return schedulerService.createProcess(request);
+    public ProcessControlBlock createProcess(@RequestHeader(name = SESSION_HEADER, defaultValue = DEFAULT_SESSION) String sessionId,
+                                             @Valid @RequestBody CreateProcessRequest request) {
+        return schedulerService.createProcess(sessionId, request);
+    }
+
+    // El cuerpo se lee como stream para no cargar miles de procesos en memoria de una vez
+    @PostMapping(path = "/bulk", consumes = MediaType.APPLICATION_JSON_VALUE)
+    public BulkIngestResponse createProcesses(@RequestHeader(name = SESSION_HEADER, defaultValue = DEFAULT_SESSION) String sessionId,
+                                              InputStream body) throws IOException {
+        return ingestService.ingestJsonArray(sessionId, body);
+    }
+
+    @PostMapping(path = "/bulk", consumes = MediaType.APPLICATION_NDJSON_VALUE)
+    public BulkIngestResponse streamProcesses(@RequestHeader(name = SESSION_HEADER, defaultValue = DEFAULT_SESSION) String sessionId,
+                                              InputStream body) throws IOException {
+        return ingestService.ingestNdjson(sessionId, body);
     }
 
     @GetMapping
-    public List<ProcessControlBlock> listProcesses() {
-        return schedulerService.getProcessTable();
+    public List<ProcessControlBlock> listProcesses(@RequestHeader(name = SESSION_HEADER, defaultValue = DEFAULT_SESSION) String sessionId) {
+        return schedulerService.getProcessTable(sessionId);
     }
 }
 
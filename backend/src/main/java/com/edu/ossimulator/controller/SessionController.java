@@ -0,0 +1,49 @@
+package com.edu.ossimulator.controller;
+
+import com.edu.ossimulator.dto.SessionResponse;
+import com.edu.ossimulator.service.ProcessSchedulerService;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.ResponseStatus;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+
+@RestController
+@RequestMapping("/api/sessions")
+public class SessionController {
+
+    private final ProcessSchedulerService schedulerService;
+
+    public SessionController(ProcessSchedulerService schedulerService) {
+        this.schedulerService = schedulerService;
+    }
+
+    @PostMapping
+    @ResponseStatus(HttpStatus.CREATED)
+    public SessionResponse createSession() {
+        return SessionResponse.from(schedulerService.createSession());
+    }
+
+    @GetMapping
+    public List<SessionResponse> listSessions() {
+        return schedulerService.getSessions().stream()
+                .map(SessionResponse::from)
+                .toList();
+    }
+
+    @GetMapping("/{sessionId}")
+    public SessionResponse getSession(@PathVariable String sessionId) {
+        return SessionResponse.from(schedulerService.getSession(sessionId));
+    }
+
+    @DeleteMapping("/{sessionId}")
+    @ResponseStatus(HttpStatus.NO_CONTENT)
+    public void deleteSession(@PathVariable String sessionId) {
+        schedulerService.deleteSession(sessionId);
+    }
+}
@@ -1,59 +1,161 @@
 package com.edu.ossimulator.controller;
 
+import com.edu.ossimulator.dto.CheckpointRequest;
+import com.edu.ossimulator.dto.CheckpointResponse;
+import com.edu.ossimulator.dto.CompareRequest;
+import com.edu.ossimulator.dto.ComparisonResponse;
+import com.edu.ossimulator.dto.QuantumSweepRequest;
+import com.edu.ossimulator.dto.QuantumSweepResponse;
+import com.edu.ossimulator.dto.SchedulabilityResponse;
 import com.edu.ossimulator.dto.SimulationRequest;
+import com.edu.ossimulator.dto.SimulationStatsResponse;
 import com.edu.ossimulator.dto.SystemStateResponse;
 import com.edu.ossimulator.dto.TimelineEntry;
+import com.edu.ossimulator.dto.TimelinePage;
+import com.edu.ossimulator.model.TimelineFormat;
+import com.edu.ossimulator.service.ExperimentService;
 import com.edu.ossimulator.service.ProcessSchedulerService;
+import com.edu.ossimulator.service.TimelineExportService;
+import com.edu.ossimulator.util.SegmentedLog;
+import jakarta.servlet.http.HttpServletResponse;
 import jakarta.validation.Valid;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.ResponseStatus;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
+import java.io.IOException;
 import java.util.List;
 
+import static com.edu.ossimulator.service.ProcessSchedulerService.DEFAULT_SESSION;
+import static com.edu.ossimulator.service.ProcessSchedulerService.SESSION_HEADER;
+
 @RestController
 @RequestMapping("/api/simulation")
 public class SimulationController {
 
     private final ProcessSchedulerService schedulerService;
+    private final ExperimentService experimentService;
+    private final TimelineExportService timelineExportService;
 
-    public SimulationController(ProcessSchedulerService schedulerService) {
+    public SimulationController(ProcessSchedulerService schedulerService, ExperimentService experimentService,
+                                TimelineExportService timelineExportService) {
         this.schedulerService = schedulerService;
+        this.experimentService = experimentService;
+        this.timelineExportService = timelineExportService;
     }
 
     @PostMapping("/start")
     @ResponseStatus(HttpStatus.ACCEPTED)
-    public void start(@Valid @RequestBody SimulationRequest request) {
-        schedulerService.startSimulation(request);
+    public void start(@RequestHeader(name = SESSION_HEADER, defaultValue = DEFAULT_SESSION) String sessionId,
+                      @Valid @RequestBody SimulationRequest request) {
+        schedulerService.startSimulation(sessionId, request);
     }
 
     @PostMapping("/pause")
-    public void pause() {
-        schedulerService.pauseSimulation();
+    public void pause(@RequestHeader(name = SESSION_HEADER, defaultValue = DEFAULT_SESSION) String sessionId) {
+        schedulerService.pauseSimulation(sessionId);
     }
 
     @PostMapping("/resume")
-    public void resume() {
-        schedulerService.resumeSimulation();
+    public void resume(@RequestHeader(name = SESSION_HEADER, defaultValue = DEFAULT_SESSION) String sessionId) {
+        schedulerService.resumeSimulation(sessionId);
     }
 
     @PostMapping("/stop")
-    public void stop() {
-        schedulerService.stopSimulation();
+    public void stop(@RequestHeader(name = SESSION_HEADER, defaultValue = DEFAULT_SESSION) String sessionId) {
+        schedulerService.stopSimulation(sessionId);
+    }
+
+    // Guarda la sesión en disco; una corrida en curso se puede retomar después con /restore y /resume
+    @PostMapping("/checkpoint")
+    public CheckpointResponse checkpoint(@RequestHeader(name = SESSION_HEADER, defaultValue = DEFAULT_SESSION) String sessionId,
+                                         @Valid @RequestBody(required = false) CheckpointRequest request) throws IOException {
+        return schedulerService.checkpoint(sessionId, request != null ? request.getName() : null);
+    }
+
+    @PostMapping("/restore")
+    public CheckpointResponse restore(@RequestHeader(name = SESSION_HEADER, defaultValue = DEFAULT_SESSION) String sessionId,
+                                      @Valid @RequestBody(required = false) CheckpointRequest request) throws IOException {
+        return schedulerService.restore(sessionId, request != null ? request.getName() : null);
+    }
+
+    // Corre los algoritmos en paralelo sobre copias de la tabla de procesos, sin tocar la sesión
+    @PostMapping("/compare")
+    public ComparisonResponse compare(@RequestHeader(name = SESSION_HEADER, defaultValue = DEFAULT_SESSION) String sessionId,
+                                      @Valid @RequestBody(required = false) CompareRequest request) {
+        return experimentService.compare(sessionId, request != null ? request : new CompareRequest());
+    }
+
+    @PostMapping("/quantum-sweep")
+    public QuantumSweepResponse quantumSweep(@RequestHeader(name = SESSION_HEADER, defaultValue = DEFAULT_SESSION) String sessionId,
+                                             @Valid @RequestBody QuantumSweepRequest request) {
+        return experimentService.sweepQuantum(sessionId, request);
     }
 
     @GetMapping("/state")
-    public SystemStateResponse getState() {
-        return schedulerService.getSystemState();
+    public SystemStateResponse getState(@RequestHeader(name = SESSION_HEADER, defaultValue = DEFAULT_SESSION) String sessionId) {
+        return schedulerService.getSystemState(sessionId);
+    }
+
+    @GetMapping("/stats")
+    public SimulationStatsResponse getStats(@RequestHeader(name = SESSION_HEADER, defaultValue = DEFAULT_SESSION) String sessionId) {
+        return schedulerService.getStats(sessionId);
+    }
+
+    @GetMapping("/schedulability")
+    public SchedulabilityResponse getSchedulability(@RequestHeader(name = SESSION_HEADER, defaultValue = DEFAULT_SESSION) String sessionId) {
+        return schedulerService.getSchedulability(sessionId);
     }
 
     @GetMapping("/timeline")
-    public List<TimelineEntry> getTimeline() {
-        return schedulerService.getTimeline();
+    public List<TimelineEntry> getTimeline(@RequestHeader(name = SESSION_HEADER, defaultValue = DEFAULT_SESSION) String sessionId) {
+        return schedulerService.getTimeline(sessionId);
+    }
+
+    // Con ?since= se devuelve solo el tramo nuevo en lugar del timeline completo
+    @GetMapping(path = "/timeline", params = "since")
+    public TimelinePage getTimelinePage(@RequestHeader(name = SESSION_HEADER, defaultValue = DEFAULT_SESSION) String sessionId,
+                                        @RequestParam long since,
+                                        @RequestParam(defaultValue = "1000") int limit) {
+        return schedulerService.getTimelinePage(sessionId, since, limit);
+    }
+
+    // Se escribe directo en la respuesta; la sesión también puede ir como parámetro para descargar desde un enlace
+    @GetMapping("/timeline/export")
+    public void exportTimeline(@RequestHeader(name = SESSION_HEADER, defaultValue = DEFAULT_SESSION) String sessionId,
+                               @RequestParam(name = "sessionId", required = false) String sessionParam,
+                               @RequestParam(defaultValue = "CHROME") TimelineFormat format,
+                               @RequestParam(defaultValue = "1000") long unitMicros,
+                               HttpServletResponse response) throws IOException {
+        String session = sessionParam != null ? sessionParam : sessionId;
+        SegmentedLog.View<TimelineEntry> timeline = schedulerService.getTimelineView(session);
+        String extension = switch (format) {
+            case CHROME -> "json";
+            case CSV -> "csv";
+            case COLUMNAR -> "ostl";
+        };
+        response.setContentType(switch (format) {
+            case CHROME -> MediaType.APPLICATION_JSON_VALUE;
+            case CSV -> "text/csv";
+            case COLUMNAR -> MediaType.APPLICATION_OCTET_STREAM_VALUE;
+        });
+        response.setHeader(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"timeline-" + session + "." + extension + "\"");
+        response.setHeader("X-Timeline-Entries", Integer.toString(timeline.size()));
+        timelineExportService.export(timeline, format, unitMicros, response.getOutputStream());
     }
-}
 
+    // EventSource no permite cabeceras propias, por eso la sesión viaja como parámetro
+    @GetMapping(path = "/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter stream(@RequestParam(name = "sessionId", defaultValue = DEFAULT_SESSION) String sessionId) {
+        return schedulerService.openStream(sessionId);
+    }
+}
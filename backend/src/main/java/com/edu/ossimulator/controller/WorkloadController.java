@@ -0,0 +1,63 @@
+package com.edu.ossimulator.controller;
+
+import com.edu.ossimulator.dto.TraceImportRequest;
+import com.edu.ossimulator.dto.TraceImportResponse;
+import com.edu.ossimulator.dto.WorkloadRequest;
+import com.edu.ossimulator.dto.WorkloadResponse;
+import com.edu.ossimulator.service.TraceImportService;
+import com.edu.ossimulator.service.WorkloadService;
+import jakarta.servlet.http.HttpServletResponse;
+import jakarta.validation.Valid;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.ResponseStatus;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.io.IOException;
+import java.io.InputStream;
+
+import static com.edu.ossimulator.service.ProcessSchedulerService.DEFAULT_SESSION;
+import static com.edu.ossimulator.service.ProcessSchedulerService.SESSION_HEADER;
+
+@RestController
+@RequestMapping("/api/workloads")
+public class WorkloadController {
+
+    private final WorkloadService workloadService;
+    private final TraceImportService traceImportService;
+
+    public WorkloadController(WorkloadService workloadService, TraceImportService traceImportService) {
+        this.workloadService = workloadService;
+        this.traceImportService = traceImportService;
+    }
+
+    @PostMapping("/generate")
+    @ResponseStatus(HttpStatus.CREATED)
+    public WorkloadResponse generate(@RequestHeader(name = SESSION_HEADER, defaultValue = DEFAULT_SESSION) String sessionId,
+                                     @Valid @RequestBody WorkloadRequest request) {
+        return workloadService.generate(sessionId, request);
+    }
+
+    // Se escribe directo en la respuesta, proceso a proceso, sin armar el archivo en memoria
+    @PostMapping("/export")
+    public void export(@Valid @RequestBody WorkloadRequest request, HttpServletResponse response) throws IOException {
+        long seed = workloadService.resolveSeed(request);
+        response.setContentType(MediaType.APPLICATION_NDJSON_VALUE);
+        response.setHeader(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"workload-" + seed + ".ndjson\"");
+        response.setHeader("X-Workload-Seed", Long.toString(seed));
+        workloadService.export(request, seed, response.getOutputStream());
+    }
+
+    // Las opciones van en la URL y el cuerpo es el archivo de la traza, leído como stream
+    @PostMapping(path = "/import", consumes = {MediaType.TEXT_PLAIN_VALUE, "text/csv", MediaType.APPLICATION_OCTET_STREAM_VALUE})
+    public TraceImportResponse importTrace(@RequestHeader(name = SESSION_HEADER, defaultValue = DEFAULT_SESSION) String sessionId,
+                                           @Valid TraceImportRequest request,
+                                           InputStream body) throws IOException {
+        return traceImportService.importTrace(sessionId, request, body);
+    }
+}
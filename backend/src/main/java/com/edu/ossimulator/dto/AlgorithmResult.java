@@ -0,0 +1,57 @@
+package com.edu.ossimulator.dto;
+
+import java.util.List;
+
+import com.edu.ossimulator.engine.ExperimentRun;
+import com.edu.ossimulator.model.SchedulerAlgorithm;
+import com.edu.ossimulator.service.SimulationStatus;
+
+/** Resultado de un algoritmo dentro de una comparación. */
+public class AlgorithmResult {
+
+    private SchedulerAlgorithm algorithm;
+    private int quantum;
+    private long contextSwitches;
+    private long wallTimeMillis;
+    private SimulationStatsResponse stats;
+    private List<TimelineEntry> timeline;
+    private boolean timelineTruncated;
+
+    public AlgorithmResult(ExperimentRun run) {
+        this.algorithm = run.getAlgorithm();
+        this.quantum = run.getQuantum();
+        this.contextSwitches = run.getContextSwitches();
+        this.wallTimeMillis = run.getWallTimeNanos() / 1_000_000;
+        this.stats = new SimulationStatsResponse(SimulationStatus.COMPLETED, run.getAlgorithm(), run.getStats());
+        this.timeline = run.getTimeline();
+        this.timelineTruncated = run.isTimelineTruncated();
+    }
+
+    public SchedulerAlgorithm getAlgorithm() {
+        return algorithm;
+    }
+
+    public int getQuantum() {
+        return quantum;
+    }
+
+    public long getContextSwitches() {
+        return contextSwitches;
+    }
+
+    public long getWallTimeMillis() {
+        return wallTimeMillis;
+    }
+
+    public SimulationStatsResponse getStats() {
+        return stats;
+    }
+
+    public List<TimelineEntry> getTimeline() {
+        return timeline;
+    }
+
+    public boolean isTimelineTruncated() {
+        return timelineTruncated;
+    }
+}
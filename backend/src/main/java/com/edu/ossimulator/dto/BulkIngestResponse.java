@@ -0,0 +1,44 @@
+package com.edu.ossimulator.dto;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Resultado de una carga masiva. {@code errors} se recorta a las primeras
+ * entradas; {@code rejected} siempre cuenta todas.
+ */
+public class BulkIngestResponse {
+
+    private long accepted;
+    private long rejected;
+    private boolean truncated;
+    private final List<IngestError> errors = new ArrayList<>();
+
+    public long getAccepted() {
+        return accepted;
+    }
+
+    public void setAccepted(long accepted) {
+        this.accepted = accepted;
+    }
+
+    public long getRejected() {
+        return rejected;
+    }
+
+    public void setRejected(long rejected) {
+        this.rejected = rejected;
+    }
+
+    public boolean isTruncated() {
+        return truncated;
+    }
+
+    public void setTruncated(boolean truncated) {
+        this.truncated = truncated;
+    }
+
+    public List<IngestError> getErrors() {
+        return errors;
+    }
+}
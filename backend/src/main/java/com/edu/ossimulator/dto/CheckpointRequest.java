@@ -0,0 +1,20 @@
+package com.edu.ossimulator.dto;
+
+import jakarta.validation.constraints.Pattern;
+
+public class CheckpointRequest {
+
+    public static final String NAME_PATTERN = "[A-Za-z0-9][A-Za-z0-9_-]{0,63}";
+
+    // Nombre del archivo dentro del directorio de checkpoints (por defecto, el id de la sesión)
+    @Pattern(regexp = NAME_PATTERN)
+    private String name;
+
+    public String getName() {
+        return name;
+    }
+
+    public void setName(String name) {
+        this.name = name;
+    }
+}
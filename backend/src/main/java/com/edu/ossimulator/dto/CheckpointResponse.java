@@ -0,0 +1,52 @@
+package com.edu.ossimulator.dto;
+
+import com.edu.ossimulator.service.SimulationStatus;
+
+/**
+ * Resultado de guardar o restaurar un checkpoint. {@code status} es el estado
+ * con que la sesión queda al restaurarlo: una corrida guardada en curso vuelve
+ * en pausa en el instante {@code clock}.
+ */
+public class CheckpointResponse {
+
+    private String name;
+    private SimulationStatus status;
+    private int processes;
+    private int clock;
+    private long bytes;
+    private long elapsedMillis;
+
+    public CheckpointResponse(String name, SimulationStatus status, int processes, int clock, long bytes,
+                              long elapsedMillis) {
+        this.name = name;
+        this.status = status;
+        this.processes = processes;
+        this.clock = clock;
+        this.bytes = bytes;
+        this.elapsedMillis = elapsedMillis;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public SimulationStatus getStatus() {
+        return status;
+    }
+
+    public int getProcesses() {
+        return processes;
+    }
+
+    public int getClock() {
+        return clock;
+    }
+
+    public long getBytes() {
+        return bytes;
+    }
+
+    public long getElapsedMillis() {
+        return elapsedMillis;
+    }
+}
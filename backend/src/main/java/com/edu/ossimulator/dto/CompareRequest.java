@@ -0,0 +1,142 @@
+package com.edu.ossimulator.dto;
+
+import java.util.List;
+
+import com.edu.ossimulator.engine.MultilevelReadyQueue;
+import com.edu.ossimulator.model.SchedulerAlgorithm;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+
+public class CompareRequest {
+
+    public static final int MAX_TIMELINE = 10_000;
+
+    // Vacío = todos los algoritmos
+    private List<SchedulerAlgorithm> algorithms;
+
+    @Min(1)
+    private Integer quantum;
+
+    @Min(1)
+    private Integer agingInterval;
+
+    // MLFQ: cantidad de niveles o quantum explícito de cada nivel, y período del boost (0 = sin boost)
+    @Min(1)
+    @Max(MultilevelReadyQueue.MAX_LEVELS)
+    private Integer mlfqLevels;
+
+    @Size(min = 1, max = MultilevelReadyQueue.MAX_LEVELS)
+    private List<@NotNull @Min(1) Integer> mlfqQuanta;
+
+    @Min(0)
+    private Integer boostInterval;
+
+    // FAIR: latencia objetivo y granularidad mínima, en unidades de tiempo
+    @Min(1)
+    private Integer targetLatency;
+
+    @Min(1)
+    private Integer minGranularity;
+
+    // LOTTERY: semilla de los sorteos (fija por defecto)
+    private Long seed;
+
+    // Tareas periódicas: instante a partir del cual no se liberan más trabajos (1000 por defecto)
+    @Min(1)
+    private Integer horizon;
+
+    // Entradas del timeline que se devuelven por algoritmo
+    @Min(0)
+    @Max(MAX_TIMELINE)
+    private Integer timelineLimit;
+
+    public List<SchedulerAlgorithm> getAlgorithms() {
+        return algorithms;
+    }
+
+    public void setAlgorithms(List<SchedulerAlgorithm> algorithms) {
+        this.algorithms = algorithms;
+    }
+
+    public Integer getQuantum() {
+        return quantum;
+    }
+
+    public void setQuantum(Integer quantum) {
+        this.quantum = quantum;
+    }
+
+    public Integer getMlfqLevels() {
+        return mlfqLevels;
+    }
+
+    public void setMlfqLevels(Integer mlfqLevels) {
+        this.mlfqLevels = mlfqLevels;
+    }
+
+    public List<Integer> getMlfqQuanta() {
+        return mlfqQuanta;
+    }
+
+    public void setMlfqQuanta(List<Integer> mlfqQuanta) {
+        this.mlfqQuanta = mlfqQuanta;
+    }
+
+    public Integer getBoostInterval() {
+        return boostInterval;
+    }
+
+    public void setBoostInterval(Integer boostInterval) {
+        this.boostInterval = boostInterval;
+    }
+
+    public Integer getTargetLatency() {
+        return targetLatency;
+    }
+
+    public void setTargetLatency(Integer targetLatency) {
+        this.targetLatency = targetLatency;
+    }
+
+    public Integer getMinGranularity() {
+        return minGranularity;
+    }
+
+    public void setMinGranularity(Integer minGranularity) {
+        this.minGranularity = minGranularity;
+    }
+
+    public Long getSeed() {
+        return seed;
+    }
+
+    public void setSeed(Long seed) {
+        this.seed = seed;
+    }
+
+    public Integer getHorizon() {
+        return horizon;
+    }
+
+    public void setHorizon(Integer horizon) {
+        this.horizon = horizon;
+    }
+
+    public Integer getAgingInterval() {
+        return agingInterval;
+    }
+
+    public void setAgingInterval(Integer agingInterval) {
+        this.agingInterval = agingInterval;
+    }
+
+    public Integer getTimelineLimit() {
+        return timelineLimit;
+    }
+
+    public void setTimelineLimit(Integer timelineLimit) {
+        this.timelineLimit = timelineLimit;
+    }
+}
@@ -0,0 +1,22 @@
+package com.edu.ossimulator.dto;
+
+import java.util.List;
+
+public class ComparisonResponse {
+
+    private int processCount;
+    private List<AlgorithmResult> results;
+
+    public ComparisonResponse(int processCount, List<AlgorithmResult> results) {
+        this.processCount = processCount;
+        this.results = results;
+    }
+
+    public int getProcessCount() {
+        return processCount;
+    }
+
+    public List<AlgorithmResult> getResults() {
+        return results;
+    }
+}
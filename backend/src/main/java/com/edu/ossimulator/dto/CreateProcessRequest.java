@@ -1,5 +1,8 @@
 package com.edu.ossimulator.dto;
 
+import com.edu.ossimulator.model.ProcessControlBlock;
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import jakarta.validation.constraints.AssertTrue;
 import jakarta.validation.constraints.Max;
 import jakarta.validation.constraints.Min;
 import jakarta.validation.constraints.NotBlank;
@@ -21,6 +24,21 @@ public class CreateProcessRequest {
     @Max(10)
     private Integer priority;
 
+    @Min(0)
+    private Integer affinity;
+
+    // LOTTERY y STRIDE (100 si se omite)
+    @Min(1)
+    @Max(ProcessControlBlock.MAX_TICKETS)
+    private Integer tickets;
+
+    // Tiempo real: período de liberación de trabajos y deadline relativo (por defecto, el período)
+    @Min(1)
+    private Integer period;
+
+    @Min(1)
+    private Integer deadline;
+
     public String getName() {
         return name;
     }
@@ -52,5 +70,43 @@ public class CreateProcessRequest {
     public void setPriority(Integer priority) {
         this.priority = priority;
     }
-}
 
+    public Integer getAffinity() {
+        return affinity;
+    }
+
+    public void setAffinity(Integer affinity) {
+        this.affinity = affinity;
+    }
+
+    public Integer getTickets() {
+        return tickets;
+    }
+
+    public void setTickets(Integer tickets) {
+        this.tickets = tickets;
+    }
+
+    public Integer getPeriod() {
+        return period;
+    }
+
+    public void setPeriod(Integer period) {
+        this.period = period;
+    }
+
+    public Integer getDeadline() {
+        return deadline;
+    }
+
+    public void setDeadline(Integer deadline) {
+        this.deadline = deadline;
+    }
+
+    // Un trabajo debe vencer antes de que se libere el siguiente
+    @JsonIgnore
+    @AssertTrue(message = "deadline must not exceed period")
+    public boolean isDeadlineWithinPeriod() {
+        return period == null || deadline == null || deadline <= period;
+    }
+}
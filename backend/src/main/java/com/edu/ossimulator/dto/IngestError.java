@@ -0,0 +1,26 @@
+package com.edu.ossimulator.dto;
+
+public class IngestError {
+
+    private long index;
+    private long line;
+    private String message;
+
+    public IngestError(long index, long line, String message) {
+        this.index = index;
+        this.line = line;
+        this.message = message;
+    }
+
+    public long getIndex() {
+        return index;
+    }
+
+    public long getLine() {
+        return line;
+    }
+
+    public String getMessage() {
+        return message;
+    }
+}
@@ -16,6 +16,9 @@ public class InterruptionRequest {
     @NotBlank
     private String reason;
 
+    @Min(1)
+    private Integer ioDuration;
+
     public long getPid() {
         return pid;
     }
@@ -39,5 +42,12 @@ public class InterruptionRequest {
     public void setReason(String reason) {
         this.reason = reason;
     }
-}
 
+    public Integer getIoDuration() {
+        return ioDuration;
+    }
+
+    public void setIoDuration(Integer ioDuration) {
+        this.ioDuration = ioDuration;
+    }
+}
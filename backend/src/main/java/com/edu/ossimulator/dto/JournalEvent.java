@@ -0,0 +1,92 @@
+package com.edu.ossimulator.dto;
+
+import com.edu.ossimulator.model.ProcessState;
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+/**
+ * Un registro del journal tal como se guardó. Solo vienen los campos de su
+ * tipo; {@code detail} resume los parámetros de la corrida, los datos de un
+ * proceso o el estado final.
+ */
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class JournalEvent {
+
+    private long offset;
+    private String type;
+    private Long pid;
+    private Integer cpu;
+    private Integer time;
+    private Integer start;
+    private Integer end;
+    private ProcessState state;
+    private String detail;
+
+    public JournalEvent(long offset, String type) {
+        this.offset = offset;
+        this.type = type;
+    }
+
+    public long getOffset() {
+        return offset;
+    }
+
+    public String getType() {
+        return type;
+    }
+
+    public Long getPid() {
+        return pid;
+    }
+
+    public void setPid(Long pid) {
+        this.pid = pid;
+    }
+
+    public Integer getCpu() {
+        return cpu;
+    }
+
+    public void setCpu(Integer cpu) {
+        this.cpu = cpu;
+    }
+
+    public Integer getTime() {
+        return time;
+    }
+
+    public void setTime(Integer time) {
+        this.time = time;
+    }
+
+    public Integer getStart() {
+        return start;
+    }
+
+    public void setStart(Integer start) {
+        this.start = start;
+    }
+
+    public Integer getEnd() {
+        return end;
+    }
+
+    public void setEnd(Integer end) {
+        this.end = end;
+    }
+
+    public ProcessState getState() {
+        return state;
+    }
+
+    public void setState(ProcessState state) {
+        this.state = state;
+    }
+
+    public String getDetail() {
+        return detail;
+    }
+
+    public void setDetail(String detail) {
+        this.detail = detail;
+    }
+}
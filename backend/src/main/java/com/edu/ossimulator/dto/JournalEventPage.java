@@ -0,0 +1,45 @@
+package com.edu.ossimulator.dto;
+
+import java.util.List;
+
+/**
+ * Tramo de registros de una corrida a partir de {@code from}. {@code nextOffset}
+ * es el valor a usar como {@code from} en la siguiente consulta y {@code end}
+ * indica que no hay más registros escritos por ahora.
+ */
+public class JournalEventPage {
+
+    private int run;
+    private long from;
+    private long nextOffset;
+    private boolean end;
+    private List<JournalEvent> events;
+
+    public JournalEventPage(int run, long from, long nextOffset, boolean end, List<JournalEvent> events) {
+        this.run = run;
+        this.from = from;
+        this.nextOffset = nextOffset;
+        this.end = end;
+        this.events = events;
+    }
+
+    public int getRun() {
+        return run;
+    }
+
+    public long getFrom() {
+        return from;
+    }
+
+    public long getNextOffset() {
+        return nextOffset;
+    }
+
+    public boolean isEnd() {
+        return end;
+    }
+
+    public List<JournalEvent> getEvents() {
+        return events;
+    }
+}
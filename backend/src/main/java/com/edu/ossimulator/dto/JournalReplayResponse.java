@@ -0,0 +1,109 @@
+package com.edu.ossimulator.dto;
+
+import java.util.List;
+
+import com.edu.ossimulator.model.SchedulerAlgorithm;
+import com.edu.ossimulator.service.SimulationStatus;
+
+/**
+ * Estado de una corrida reconstruido desde su journal hasta el registro
+ * {@code offset} inclusive. {@code processes} trae como máximo
+ * {@code processLimit} procesos y {@code timeline} las últimas
+ * {@code timelineLimit} ráfagas hasta ese punto.
+ */
+public class JournalReplayResponse {
+
+    private int run;
+    private long offset;
+    private boolean complete;
+    private SchedulerAlgorithm algorithm;
+    private SimulationStatus status;
+    private int clock;
+    private List<Long> runningPids;
+    private int ready;
+    private int waiting;
+    private int terminated;
+    private SimulationStatsResponse stats;
+    private List<ProcessSummary> processes;
+    private List<TimelineEntry> timeline;
+    private long replayMillis;
+
+    public JournalReplayResponse(int run, long offset, boolean complete, SchedulerAlgorithm algorithm,
+                                 SimulationStatus status, int clock, List<Long> runningPids, int ready, int waiting,
+                                 int terminated, SimulationStatsResponse stats, List<ProcessSummary> processes,
+                                 List<TimelineEntry> timeline, long replayMillis) {
+        this.run = run;
+        this.offset = offset;
+        this.complete = complete;
+        this.algorithm = algorithm;
+        this.status = status;
+        this.clock = clock;
+        this.runningPids = runningPids;
+        this.ready = ready;
+        this.waiting = waiting;
+        this.terminated = terminated;
+        this.stats = stats;
+        this.processes = processes;
+        this.timeline = timeline;
+        this.replayMillis = replayMillis;
+    }
+
+    public int getRun() {
+        return run;
+    }
+
+    /** Último registro aplicado (-1 si ninguno). */
+    public long getOffset() {
+        return offset;
+    }
+
+    /** Se llegó al final del journal. */
+    public boolean isComplete() {
+        return complete;
+    }
+
+    public SchedulerAlgorithm getAlgorithm() {
+        return algorithm;
+    }
+
+    public SimulationStatus getStatus() {
+        return status;
+    }
+
+    public int getClock() {
+        return clock;
+    }
+
+    /** PID en cada CPU (0 si está ociosa). */
+    public List<Long> getRunningPids() {
+        return runningPids;
+    }
+
+    public int getReady() {
+        return ready;
+    }
+
+    public int getWaiting() {
+        return waiting;
+    }
+
+    public int getTerminated() {
+        return terminated;
+    }
+
+    public SimulationStatsResponse getStats() {
+        return stats;
+    }
+
+    public List<ProcessSummary> getProcesses() {
+        return processes;
+    }
+
+    public List<TimelineEntry> getTimeline() {
+        return timeline;
+    }
+
+    public long getReplayMillis() {
+        return replayMillis;
+    }
+}
@@ -0,0 +1,69 @@
+package com.edu.ossimulator.dto;
+
+import java.time.Instant;
+
+import com.edu.ossimulator.model.ExecutionMode;
+import com.edu.ossimulator.model.SchedulerAlgorithm;
+
+/** Corrida guardada en el journal de una sesión, según su registro inicial. */
+public class JournalRunSummary {
+
+    private int run;
+    private SchedulerAlgorithm algorithm;
+    private ExecutionMode mode;
+    private int cpus;
+    private int quantum;
+    private int processes;
+    private Instant startedAt;
+    private int segments;
+    private long bytes;
+
+    public JournalRunSummary(int run, SchedulerAlgorithm algorithm, ExecutionMode mode, int cpus, int quantum,
+                             int processes, Instant startedAt, int segments, long bytes) {
+        this.run = run;
+        this.algorithm = algorithm;
+        this.mode = mode;
+        this.cpus = cpus;
+        this.quantum = quantum;
+        this.processes = processes;
+        this.startedAt = startedAt;
+        this.segments = segments;
+        this.bytes = bytes;
+    }
+
+    public int getRun() {
+        return run;
+    }
+
+    public SchedulerAlgorithm getAlgorithm() {
+        return algorithm;
+    }
+
+    public ExecutionMode getMode() {
+        return mode;
+    }
+
+    public int getCpus() {
+        return cpus;
+    }
+
+    public int getQuantum() {
+        return quantum;
+    }
+
+    public int getProcesses() {
+        return processes;
+    }
+
+    public Instant getStartedAt() {
+        return startedAt;
+    }
+
+    public int getSegments() {
+        return segments;
+    }
+
+    public long getBytes() {
+        return bytes;
+    }
+}
@@ -0,0 +1,53 @@
+package com.edu.ossimulator.dto;
+
+import com.edu.ossimulator.model.ProcessControlBlock;
+import com.edu.ossimulator.model.ProcessState;
+
+public class ProcessSummary {
+
+    private long pid;
+    private String name;
+    private ProcessState state;
+    private int arrivalTime;
+    private int burstTime;
+    private int remainingTime;
+    private int priority;
+
+    public ProcessSummary(ProcessControlBlock pcb) {
+        this.pid = pcb.getPid();
+        this.name = pcb.getName();
+        this.state = pcb.getState();
+        this.arrivalTime = pcb.getArrivalTime();
+        this.burstTime = pcb.getBurstTime();
+        this.remainingTime = pcb.getRemainingTime();
+        this.priority = pcb.getPriority();
+    }
+
+    public long getPid() {
+        return pid;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public ProcessState getState() {
+        return state;
+    }
+
+    public int getArrivalTime() {
+        return arrivalTime;
+    }
+
+    public int getBurstTime() {
+        return burstTime;
+    }
+
+    public int getRemainingTime() {
+        return remainingTime;
+    }
+
+    public int getPriority() {
+        return priority;
+    }
+}
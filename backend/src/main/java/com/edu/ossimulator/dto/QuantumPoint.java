@@ -0,0 +1,67 @@
+package com.edu.ossimulator.dto;
+
+import com.edu.ossimulator.engine.ExperimentRun;
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+/**
+ * Un punto de la curva de Round Robin. Si la corrida se podó solo se informa
+ * la cota inferior de la espera promedio con la que se descartó.
+ */
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class QuantumPoint {
+
+    private int quantum;
+    private boolean pruned;
+    private Long contextSwitches;
+    private Double averageWaitingTime;
+    private Double averageResponseTime;
+    private Double averageTurnaroundTime;
+    private Double waitingTimeLowerBound;
+    private long wallTimeMillis;
+
+    public QuantumPoint(ExperimentRun run, int processCount) {
+        this.quantum = run.getQuantum();
+        this.pruned = run.isPruned();
+        this.wallTimeMillis = run.getWallTimeNanos() / 1_000_000;
+        if (pruned) {
+            this.waitingTimeLowerBound = processCount > 0 ? (double) run.getWaitingLowerBound() / processCount : 0;
+        } else {
+            this.contextSwitches = run.getContextSwitches();
+            this.averageWaitingTime = run.getStats().getWaiting().getMean();
+            this.averageResponseTime = run.getStats().getResponse().getMean();
+            this.averageTurnaroundTime = run.getStats().getTurnaround().getMean();
+        }
+    }
+
+    public int getQuantum() {
+        return quantum;
+    }
+
+    public boolean isPruned() {
+        return pruned;
+    }
+
+    public Long getContextSwitches() {
+        return contextSwitches;
+    }
+
+    public Double getAverageWaitingTime() {
+        return averageWaitingTime;
+    }
+
+    public Double getAverageResponseTime() {
+        return averageResponseTime;
+    }
+
+    public Double getAverageTurnaroundTime() {
+        return averageTurnaroundTime;
+    }
+
+    public Double getWaitingTimeLowerBound() {
+        return waitingTimeLowerBound;
+    }
+
+    public long getWallTimeMillis() {
+        return wallTimeMillis;
+    }
+}
@@ -0,0 +1,55 @@
+package com.edu.ossimulator.dto;
+
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotNull;
+
+public class QuantumSweepRequest {
+
+    public static final int MAX_POINTS = 10_000;
+
+    @NotNull
+    @Min(1)
+    private Integer from;
+
+    @NotNull
+    @Min(1)
+    private Integer to;
+
+    @Min(1)
+    private Integer step;
+
+    // Abandona los quantums que ya no pueden mejorar la espera promedio (true por defecto)
+    private Boolean prune;
+
+    public Integer getFrom() {
+        return from;
+    }
+
+    public void setFrom(Integer from) {
+        this.from = from;
+    }
+
+    public Integer getTo() {
+        return to;
+    }
+
+    public void setTo(Integer to) {
+        this.to = to;
+    }
+
+    public Integer getStep() {
+        return step;
+    }
+
+    public void setStep(Integer step) {
+        this.step = step;
+    }
+
+    public Boolean getPrune() {
+        return prune;
+    }
+
+    public void setPrune(Boolean prune) {
+        this.prune = prune;
+    }
+}
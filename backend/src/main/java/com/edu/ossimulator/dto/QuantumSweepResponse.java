@@ -0,0 +1,42 @@
+package com.edu.ossimulator.dto;
+
+import java.util.List;
+
+public class QuantumSweepResponse {
+
+    private int processCount;
+    private Integer bestQuantum;
+    private int pruned;
+    private long wallTimeMillis;
+    private List<QuantumPoint> points;
+
+    public QuantumSweepResponse(int processCount, Integer bestQuantum, int pruned, long wallTimeMillis,
+                                List<QuantumPoint> points) {
+        this.processCount = processCount;
+        this.bestQuantum = bestQuantum;
+        this.pruned = pruned;
+        this.wallTimeMillis = wallTimeMillis;
+        this.points = points;
+    }
+
+    public int getProcessCount() {
+        return processCount;
+    }
+
+    /** Quantum con menor espera promedio (el menor en caso de empate). */
+    public Integer getBestQuantum() {
+        return bestQuantum;
+    }
+
+    public int getPruned() {
+        return pruned;
+    }
+
+    public long getWallTimeMillis() {
+        return wallTimeMillis;
+    }
+
+    public List<QuantumPoint> getPoints() {
+        return points;
+    }
+}
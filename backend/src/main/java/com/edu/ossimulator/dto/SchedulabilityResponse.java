@@ -0,0 +1,57 @@
+package com.edu.ossimulator.dto;
+
+import com.edu.ossimulator.engine.SchedulabilityAnalysis;
+
+/**
+ * Resultado de las pruebas de planificabilidad sobre las tareas periódicas de
+ * la sesión. {@code edfSchedulable} y {@code rateMonotonicSchedulable} son
+ * {@code null} cuando la prueba suficiente no alcanza para decidir.
+ */
+public class SchedulabilityResponse {
+
+    private int periodicTasks;
+    private double utilization;
+    private double density;
+    private double liuLaylandBound;
+    private double hyperbolicProduct;
+    private Boolean edfSchedulable;
+    private Boolean rateMonotonicSchedulable;
+
+    public SchedulabilityResponse(SchedulabilityAnalysis analysis) {
+        this.periodicTasks = analysis.getTasks();
+        this.utilization = analysis.getUtilization();
+        this.density = analysis.getDensity();
+        this.liuLaylandBound = analysis.getLiuLaylandBound();
+        this.hyperbolicProduct = analysis.getHyperbolicProduct();
+        this.edfSchedulable = analysis.isEdfSchedulable();
+        this.rateMonotonicSchedulable = analysis.isRateMonotonicSchedulable();
+    }
+
+    public int getPeriodicTasks() {
+        return periodicTasks;
+    }
+
+    public double getUtilization() {
+        return utilization;
+    }
+
+    public double getDensity() {
+        return density;
+    }
+
+    public double getLiuLaylandBound() {
+        return liuLaylandBound;
+    }
+
+    public double getHyperbolicProduct() {
+        return hyperbolicProduct;
+    }
+
+    public Boolean getEdfSchedulable() {
+        return edfSchedulable;
+    }
+
+    public Boolean getRateMonotonicSchedulable() {
+        return rateMonotonicSchedulable;
+    }
+}
@@ -0,0 +1,41 @@
+package com.edu.ossimulator.dto;
+
+import com.edu.ossimulator.service.SimulationSession;
+import com.edu.ossimulator.service.SimulationStatus;
+
+import java.time.Instant;
+
+public class SessionResponse {
+
+    private String id;
+    private SimulationStatus status;
+    private int processCount;
+    private Instant createdAt;
+
+    public SessionResponse(String id, SimulationStatus status, int processCount, Instant createdAt) {
+        this.id = id;
+        this.status = status;
+        this.processCount = processCount;
+        this.createdAt = createdAt;
+    }
+
+    public static SessionResponse from(SimulationSession session) {
+        return new SessionResponse(session.getId(), session.getStatus(), session.getProcessCount(), session.getCreatedAt());
+    }
+
+    public String getId() {
+        return id;
+    }
+
+    public SimulationStatus getStatus() {
+        return status;
+    }
+
+    public int getProcessCount() {
+        return processCount;
+    }
+
+    public Instant getCreatedAt() {
+        return createdAt;
+    }
+}
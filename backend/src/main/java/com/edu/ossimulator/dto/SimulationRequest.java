@@ -1,17 +1,69 @@
 package com.edu.ossimulator.dto;
 
+import java.util.List;
+
+import com.edu.ossimulator.engine.MultilevelReadyQueue;
+import com.edu.ossimulator.model.ExecutionMode;
 import com.edu.ossimulator.model.SchedulerAlgorithm;
+import jakarta.validation.constraints.Max;
 import jakarta.validation.constraints.Min;
 import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
 
 public class SimulationRequest {
 
+    public static final int MAX_CPUS = 256;
+
     @NotNull
     private SchedulerAlgorithm algorithm;
 
     @Min(1)
     private Integer quantum;
 
+    private ExecutionMode mode;
+
+    // Aging de PRIORITY y PRIORITY_PREEMPTIVE: unidades en READY por nivel ganado
+    @Min(1)
+    private Integer agingInterval;
+
+    // MLFQ: cantidad de niveles o quantum explícito de cada nivel, y período del boost (0 = sin boost)
+    @Min(1)
+    @Max(MultilevelReadyQueue.MAX_LEVELS)
+    private Integer mlfqLevels;
+
+    @Size(min = 1, max = MultilevelReadyQueue.MAX_LEVELS)
+    private List<@NotNull @Min(1) Integer> mlfqQuanta;
+
+    @Min(0)
+    private Integer boostInterval;
+
+    // FAIR: latencia objetivo y granularidad mínima, en unidades de tiempo
+    @Min(1)
+    private Integer targetLatency;
+
+    @Min(1)
+    private Integer minGranularity;
+
+    // LOTTERY: semilla de los sorteos (fija por defecto)
+    private Long seed;
+
+    // Tareas periódicas: instante a partir del cual no se liberan más trabajos (1000 por defecto)
+    @Min(1)
+    private Integer horizon;
+
+    @Min(1)
+    private Integer ioDuration;
+
+    // Multinúcleo: cantidad de CPUs y cada cuántas unidades de tiempo se reparte
+    // la carga entre ellas. En REAL_TIME, con más de una CPU corre el mismo motor
+    // a una unidad por segundo en lugar de los bucles propios
+    @Min(1)
+    @Max(MAX_CPUS)
+    private Integer cpus;
+
+    @Min(1)
+    private Integer balanceInterval;
+
     public SchedulerAlgorithm getAlgorithm() {
         return algorithm;
     }
@@ -27,5 +79,100 @@ public class SimulationRequest {
     public void setQuantum(Integer quantum) {
         this.quantum = quantum;
     }
-}
 
+    public Integer getMlfqLevels() {
+        return mlfqLevels;
+    }
+
+    public void setMlfqLevels(Integer mlfqLevels) {
+        this.mlfqLevels = mlfqLevels;
+    }
+
+    public List<Integer> getMlfqQuanta() {
+        return mlfqQuanta;
+    }
+
+    public void setMlfqQuanta(List<Integer> mlfqQuanta) {
+        this.mlfqQuanta = mlfqQuanta;
+    }
+
+    public Integer getBoostInterval() {
+        return boostInterval;
+    }
+
+    public void setBoostInterval(Integer boostInterval) {
+        this.boostInterval = boostInterval;
+    }
+
+    public Integer getTargetLatency() {
+        return targetLatency;
+    }
+
+    public void setTargetLatency(Integer targetLatency) {
+        this.targetLatency = targetLatency;
+    }
+
+    public Integer getMinGranularity() {
+        return minGranularity;
+    }
+
+    public void setMinGranularity(Integer minGranularity) {
+        this.minGranularity = minGranularity;
+    }
+
+    public Long getSeed() {
+        return seed;
+    }
+
+    public void setSeed(Long seed) {
+        this.seed = seed;
+    }
+
+    public Integer getHorizon() {
+        return horizon;
+    }
+
+    public void setHorizon(Integer horizon) {
+        this.horizon = horizon;
+    }
+
+    public Integer getAgingInterval() {
+        return agingInterval;
+    }
+
+    public void setAgingInterval(Integer agingInterval) {
+        this.agingInterval = agingInterval;
+    }
+
+    public ExecutionMode getMode() {
+        return mode;
+    }
+
+    public void setMode(ExecutionMode mode) {
+        this.mode = mode;
+    }
+
+    public Integer getIoDuration() {
+        return ioDuration;
+    }
+
+    public void setIoDuration(Integer ioDuration) {
+        this.ioDuration = ioDuration;
+    }
+
+    public Integer getCpus() {
+        return cpus;
+    }
+
+    public void setCpus(Integer cpus) {
+        this.cpus = cpus;
+    }
+
+    public Integer getBalanceInterval() {
+        return balanceInterval;
+    }
+
+    public void setBalanceInterval(Integer balanceInterval) {
+        this.balanceInterval = balanceInterval;
+    }
+}
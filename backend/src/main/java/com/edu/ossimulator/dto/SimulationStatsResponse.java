@@ -0,0 +1,96 @@
+package com.edu.ossimulator.dto;
+
+import com.edu.ossimulator.engine.SchedulingStats;
+import com.edu.ossimulator.model.SchedulerAlgorithm;
+import com.edu.ossimulator.service.SimulationStatus;
+
+/**
+ * Resumen de la corrida actual o de la última. {@code throughput} son procesos
+ * terminados por unidad de tiempo y {@code cpuUtilization} la fracción del
+ * tiempo transcurrido con las CPUs ocupadas ({@code busyTime} suma todas).
+ * En cargas periódicas {@code completed} cuenta trabajos, no tareas.
+ */
+public class SimulationStatsResponse {
+
+    private SimulationStatus status;
+    private SchedulerAlgorithm algorithm;
+    private int cpus;
+    private int elapsed;
+    private long completed;
+    private long slices;
+    private long busyTime;
+    private long deadlineMisses;
+    private double throughput;
+    private double cpuUtilization;
+    private StatSummary waitingTime;
+    private StatSummary turnaroundTime;
+    private StatSummary responseTime;
+
+    public SimulationStatsResponse(SimulationStatus status, SchedulerAlgorithm algorithm, SchedulingStats stats) {
+        this.status = status;
+        this.algorithm = algorithm;
+        this.cpus = stats.getCpus();
+        this.elapsed = stats.getElapsed();
+        this.completed = stats.getCompleted();
+        this.slices = stats.getSlices();
+        this.busyTime = stats.getBusyTime();
+        this.deadlineMisses = stats.getDeadlineMisses();
+        this.throughput = elapsed > 0 ? (double) completed / elapsed : 0;
+        this.cpuUtilization = elapsed > 0 ? (double) busyTime / ((long) elapsed * cpus) : 0;
+        this.waitingTime = new StatSummary(stats.getWaiting());
+        this.turnaroundTime = new StatSummary(stats.getTurnaround());
+        this.responseTime = new StatSummary(stats.getResponse());
+    }
+
+    public SimulationStatus getStatus() {
+        return status;
+    }
+
+    public SchedulerAlgorithm getAlgorithm() {
+        return algorithm;
+    }
+
+    public int getCpus() {
+        return cpus;
+    }
+
+    public int getElapsed() {
+        return elapsed;
+    }
+
+    public long getCompleted() {
+        return completed;
+    }
+
+    public long getSlices() {
+        return slices;
+    }
+
+    public long getBusyTime() {
+        return busyTime;
+    }
+
+    public long getDeadlineMisses() {
+        return deadlineMisses;
+    }
+
+    public double getThroughput() {
+        return throughput;
+    }
+
+    public double getCpuUtilization() {
+        return cpuUtilization;
+    }
+
+    public StatSummary getWaitingTime() {
+        return waitingTime;
+    }
+
+    public StatSummary getTurnaroundTime() {
+        return turnaroundTime;
+    }
+
+    public StatSummary getResponseTime() {
+        return responseTime;
+    }
+}
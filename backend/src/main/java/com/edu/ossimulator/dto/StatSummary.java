@@ -0,0 +1,52 @@
+package com.edu.ossimulator.dto;
+
+import com.edu.ossimulator.util.LogHistogram;
+
+public class StatSummary {
+
+    private long count;
+    private double mean;
+    private long min;
+    private long max;
+    private long p50;
+    private long p95;
+    private long p99;
+
+    public StatSummary(LogHistogram histogram) {
+        this.count = histogram.getCount();
+        this.mean = histogram.getMean();
+        this.min = histogram.getMin();
+        this.max = histogram.getMax();
+        this.p50 = histogram.percentile(0.50);
+        this.p95 = histogram.percentile(0.95);
+        this.p99 = histogram.percentile(0.99);
+    }
+
+    public long getCount() {
+        return count;
+    }
+
+    public double getMean() {
+        return mean;
+    }
+
+    public long getMin() {
+        return min;
+    }
+
+    public long getMax() {
+        return max;
+    }
+
+    public long getP50() {
+        return p50;
+    }
+
+    public long getP95() {
+        return p95;
+    }
+
+    public long getP99() {
+        return p99;
+    }
+}
@@ -0,0 +1,98 @@
+package com.edu.ossimulator.dto;
+
+import com.edu.ossimulator.service.SimulationStatus;
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+import java.util.List;
+
+/**
+ * Cambios acumulados desde el último envío a un cliente del stream. Con
+ * {@code snapshot = true} el cliente debe descartar lo que tenía y reconstruir
+ * su estado a partir de este mensaje (las colas solo se envían en ese caso).
+ */
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class StateDelta {
+
+    private boolean snapshot;
+    private SimulationStatus status;
+    private long runningPid;
+    private List<Long> runningPids;
+    private List<ProcessSummary> processes;
+    private List<TimelineEntry> timeline;
+    private List<Long> readyQueue;
+    private List<Long> waitingQueue;
+    private List<Long> terminatedQueue;
+
+    public boolean isSnapshot() {
+        return snapshot;
+    }
+
+    public void setSnapshot(boolean snapshot) {
+        this.snapshot = snapshot;
+    }
+
+    public SimulationStatus getStatus() {
+        return status;
+    }
+
+    public void setStatus(SimulationStatus status) {
+        this.status = status;
+    }
+
+    public long getRunningPid() {
+        return runningPid;
+    }
+
+    public void setRunningPid(long runningPid) {
+        this.runningPid = runningPid;
+    }
+
+    /** Solo en simulaciones con varias CPUs: PID en cada CPU (0 si está ociosa). */
+    public List<Long> getRunningPids() {
+        return runningPids;
+    }
+
+    public void setRunningPids(List<Long> runningPids) {
+        this.runningPids = runningPids;
+    }
+
+    public List<ProcessSummary> getProcesses() {
+        return processes;
+    }
+
+    public void setProcesses(List<ProcessSummary> processes) {
+        this.processes = processes;
+    }
+
+    public List<TimelineEntry> getTimeline() {
+        return timeline;
+    }
+
+    public void setTimeline(List<TimelineEntry> timeline) {
+        this.timeline = timeline;
+    }
+
+    public List<Long> getReadyQueue() {
+        return readyQueue;
+    }
+
+    public void setReadyQueue(List<Long> readyQueue) {
+        this.readyQueue = readyQueue;
+    }
+
+    public List<Long> getWaitingQueue() {
+        return waitingQueue;
+    }
+
+    public void setWaitingQueue(List<Long> waitingQueue) {
+        this.waitingQueue = waitingQueue;
+    }
+
+    public List<Long> getTerminatedQueue() {
+        return terminatedQueue;
+    }
+
+    public void setTerminatedQueue(List<Long> terminatedQueue) {
+        this.terminatedQueue = terminatedQueue;
+    }
+}
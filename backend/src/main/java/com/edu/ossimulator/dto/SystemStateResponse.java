@@ -3,6 +3,7 @@ package com.edu.ossimulator.dto;
 import com.edu.ossimulator.model.ProcessControlBlock;
 import com.edu.ossimulator.service.SimulationStatus;
 
+import java.util.Collections;
 import java.util.List;
 
 public class SystemStateResponse {
@@ -12,17 +13,28 @@ public class SystemStateResponse {
     private List<ProcessControlBlock> waitingQueue;
     private List<ProcessControlBlock> terminatedQueue;
     private ProcessControlBlock runningProcess;
+    private List<ProcessControlBlock> runningProcesses;
 
     public SystemStateResponse(SimulationStatus status,
                                List<ProcessControlBlock> readyQueue,
                                List<ProcessControlBlock> waitingQueue,
                                List<ProcessControlBlock> terminatedQueue,
                                ProcessControlBlock runningProcess) {
+        this(status, readyQueue, waitingQueue, terminatedQueue, runningProcess, Collections.singletonList(runningProcess));
+    }
+
+    public SystemStateResponse(SimulationStatus status,
+                               List<ProcessControlBlock> readyQueue,
+                               List<ProcessControlBlock> waitingQueue,
+                               List<ProcessControlBlock> terminatedQueue,
+                               ProcessControlBlock runningProcess,
+                               List<ProcessControlBlock> runningProcesses) {
         this.status = status;
         this.readyQueue = readyQueue;
         this.waitingQueue = waitingQueue;
         this.terminatedQueue = terminatedQueue;
         this.runningProcess = runningProcess;
+        this.runningProcesses = runningProcesses;
     }
 
     public SimulationStatus getStatus() {
@@ -44,5 +56,9 @@ public class SystemStateResponse {
     public ProcessControlBlock getRunningProcess() {
         return runningProcess;
     }
-}
 
+    /** Proceso en ejecución en cada CPU (posición = número de CPU, {@code null} si está ociosa). */
+    public List<ProcessControlBlock> getRunningProcesses() {
+        return runningProcesses;
+    }
+}
@@ -8,13 +8,19 @@ public class TimelineEntry {
     private int start;
     private int end;
     private SchedulerAlgorithm algorithm;
+    private int cpu;
 
     public TimelineEntry(long pid, String name, int start, int end, SchedulerAlgorithm algorithm) {
+        this(pid, name, start, end, algorithm, 0);
+    }
+
+    public TimelineEntry(long pid, String name, int start, int end, SchedulerAlgorithm algorithm, int cpu) {
         this.pid = pid;
         this.name = name;
         this.start = start;
         this.end = end;
         this.algorithm = algorithm;
+        this.cpu = cpu;
     }
 
     public long getPid() {
@@ -36,5 +42,9 @@ public class TimelineEntry {
     public SchedulerAlgorithm getAlgorithm() {
         return algorithm;
     }
+
+    public int getCpu() {
+        return cpu;
+    }
 }
 
@@ -0,0 +1,40 @@
+package com.edu.ossimulator.dto;
+
+import java.util.List;
+
+/**
+ * Tramo del timeline a partir de una secuencia. {@code reset} indica que la
+ * secuencia pedida pertenece a una corrida anterior y que el cliente debe
+ * descartar lo que tenía; {@code nextSeq} es el valor a usar como {@code since}
+ * en la siguiente consulta.
+ */
+public class TimelinePage {
+
+    private long firstSeq;
+    private long nextSeq;
+    private boolean reset;
+    private List<TimelineEntry> entries;
+
+    public TimelinePage(long firstSeq, long nextSeq, boolean reset, List<TimelineEntry> entries) {
+        this.firstSeq = firstSeq;
+        this.nextSeq = nextSeq;
+        this.reset = reset;
+        this.entries = entries;
+    }
+
+    public long getFirstSeq() {
+        return firstSeq;
+    }
+
+    public long getNextSeq() {
+        return nextSeq;
+    }
+
+    public boolean isReset() {
+        return reset;
+    }
+
+    public List<TimelineEntry> getEntries() {
+        return entries;
+    }
+}
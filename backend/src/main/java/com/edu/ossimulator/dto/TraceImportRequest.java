@@ -0,0 +1,194 @@
+package com.edu.ossimulator.dto;
+
+import com.edu.ossimulator.model.TraceFormat;
+import jakarta.validation.constraints.DecimalMin;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+
+/**
+ * Opciones de importación de una traza, recibidas como parámetros de la URL.
+ * Las columnas se indican por posición (desde 1) o, en CSV con encabezado,
+ * por nombre. Los tiempos de {@code fromTime} y {@code toTime} están en las
+ * unidades de la traza; {@code minBurst} y {@code maxBurst}, en unidades de
+ * simulación.
+ */
+public class TraceImportRequest {
+
+    @NotNull
+    private TraceFormat format = TraceFormat.SWF;
+
+    @NotBlank
+    private String namePrefix = "J";
+
+    // Columnas: en SWF llegada (2, submit time), ráfaga (4, run time) y prioridad (15, queue number)
+    private String arrivalColumn;
+
+    private String burstColumn;
+
+    private String priorityColumn;
+
+    // Solo CSV
+    @Size(min = 1, max = 1)
+    private String delimiter = ",";
+
+    private boolean header = true;
+
+    // Unidades de la traza por unidad de simulación
+    @DecimalMin(value = "0.0", inclusive = false)
+    private double timeScale = 1.0;
+
+    // Las llegadas empiezan en 0: se les resta fromTime o, si no hay, en SWF la del primer registro aceptado
+    private boolean rebase = true;
+
+    @Min(0)
+    @Max(10)
+    private int defaultPriority = 1;
+
+    private Double fromTime;
+
+    private Double toTime;
+
+    @Min(1)
+    private Integer minBurst;
+
+    @Min(1)
+    private Integer maxBurst;
+
+    // Solo SWF: descarta los trabajos cuyo estado (campo 11) no es 1
+    private boolean completedOnly;
+
+    @Min(1)
+    @Max(10_000_000)
+    private int limit = 10_000_000;
+
+    public TraceFormat getFormat() {
+        return format;
+    }
+
+    public void setFormat(TraceFormat format) {
+        this.format = format;
+    }
+
+    public String getNamePrefix() {
+        return namePrefix;
+    }
+
+    public void setNamePrefix(String namePrefix) {
+        this.namePrefix = namePrefix;
+    }
+
+    public String getArrivalColumn() {
+        return arrivalColumn;
+    }
+
+    public void setArrivalColumn(String arrivalColumn) {
+        this.arrivalColumn = arrivalColumn;
+    }
+
+    public String getBurstColumn() {
+        return burstColumn;
+    }
+
+    public void setBurstColumn(String burstColumn) {
+        this.burstColumn = burstColumn;
+    }
+
+    public String getPriorityColumn() {
+        return priorityColumn;
+    }
+
+    public void setPriorityColumn(String priorityColumn) {
+        this.priorityColumn = priorityColumn;
+    }
+
+    public String getDelimiter() {
+        return delimiter;
+    }
+
+    public void setDelimiter(String delimiter) {
+        this.delimiter = delimiter;
+    }
+
+    public boolean isHeader() {
+        return header;
+    }
+
+    public void setHeader(boolean header) {
+        this.header = header;
+    }
+
+    public double getTimeScale() {
+        return timeScale;
+    }
+
+    public void setTimeScale(double timeScale) {
+        this.timeScale = timeScale;
+    }
+
+    public boolean isRebase() {
+        return rebase;
+    }
+
+    public void setRebase(boolean rebase) {
+        this.rebase = rebase;
+    }
+
+    public int getDefaultPriority() {
+        return defaultPriority;
+    }
+
+    public void setDefaultPriority(int defaultPriority) {
+        this.defaultPriority = defaultPriority;
+    }
+
+    public Double getFromTime() {
+        return fromTime;
+    }
+
+    public void setFromTime(Double fromTime) {
+        this.fromTime = fromTime;
+    }
+
+    public Double getToTime() {
+        return toTime;
+    }
+
+    public void setToTime(Double toTime) {
+        this.toTime = toTime;
+    }
+
+    public Integer getMinBurst() {
+        return minBurst;
+    }
+
+    public void setMinBurst(Integer minBurst) {
+        this.minBurst = minBurst;
+    }
+
+    public Integer getMaxBurst() {
+        return maxBurst;
+    }
+
+    public void setMaxBurst(Integer maxBurst) {
+        this.maxBurst = maxBurst;
+    }
+
+    public boolean isCompletedOnly() {
+        return completedOnly;
+    }
+
+    public void setCompletedOnly(boolean completedOnly) {
+        this.completedOnly = completedOnly;
+    }
+
+    public int getLimit() {
+        return limit;
+    }
+
+    public void setLimit(int limit) {
+        this.limit = limit;
+    }
+}
@@ -0,0 +1,129 @@
+package com.edu.ossimulator.dto;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import com.edu.ossimulator.model.TraceFormat;
+
+/**
+ * Resultado de importar una traza. {@code records} cuenta las líneas de datos
+ * (sin comentarios, encabezado ni líneas vacías); cada una termina aceptada,
+ * filtrada por las opciones o rechazada. {@code limited} indica que se dejó de
+ * leer al llegar a {@code limit}.
+ */
+public class TraceImportResponse {
+
+    private final TraceFormat format;
+    private long records;
+    private long accepted;
+    private long filtered;
+    private long rejected;
+    private boolean limited;
+    private Double origin;
+    private int lastArrival;
+    private long totalBurst;
+    private long bytes;
+    private long elapsedMillis;
+    private boolean truncated;
+    private final List<IngestError> errors = new ArrayList<>();
+
+    public TraceImportResponse(TraceFormat format) {
+        this.format = format;
+    }
+
+    public TraceFormat getFormat() {
+        return format;
+    }
+
+    public long getRecords() {
+        return records;
+    }
+
+    public void setRecords(long records) {
+        this.records = records;
+    }
+
+    public long getAccepted() {
+        return accepted;
+    }
+
+    public void setAccepted(long accepted) {
+        this.accepted = accepted;
+    }
+
+    public long getFiltered() {
+        return filtered;
+    }
+
+    public void setFiltered(long filtered) {
+        this.filtered = filtered;
+    }
+
+    public long getRejected() {
+        return rejected;
+    }
+
+    public void setRejected(long rejected) {
+        this.rejected = rejected;
+    }
+
+    public boolean isLimited() {
+        return limited;
+    }
+
+    public void setLimited(boolean limited) {
+        this.limited = limited;
+    }
+
+    public Double getOrigin() {
+        return origin;
+    }
+
+    public void setOrigin(Double origin) {
+        this.origin = origin;
+    }
+
+    public int getLastArrival() {
+        return lastArrival;
+    }
+
+    public void setLastArrival(int lastArrival) {
+        this.lastArrival = lastArrival;
+    }
+
+    public long getTotalBurst() {
+        return totalBurst;
+    }
+
+    public void setTotalBurst(long totalBurst) {
+        this.totalBurst = totalBurst;
+    }
+
+    public long getBytes() {
+        return bytes;
+    }
+
+    public void setBytes(long bytes) {
+        this.bytes = bytes;
+    }
+
+    public long getElapsedMillis() {
+        return elapsedMillis;
+    }
+
+    public void setElapsedMillis(long elapsedMillis) {
+        this.elapsedMillis = elapsedMillis;
+    }
+
+    public boolean isTruncated() {
+        return truncated;
+    }
+
+    public void setTruncated(boolean truncated) {
+        this.truncated = truncated;
+    }
+
+    public List<IngestError> getErrors() {
+        return errors;
+    }
+}
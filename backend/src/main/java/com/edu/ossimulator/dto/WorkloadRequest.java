@@ -0,0 +1,177 @@
+package com.edu.ossimulator.dto;
+
+import java.util.List;
+
+import com.edu.ossimulator.model.ArrivalDistribution;
+import com.edu.ossimulator.model.BurstDistribution;
+import com.edu.ossimulator.model.ProcessControlBlock;
+import jakarta.validation.constraints.DecimalMax;
+import jakarta.validation.constraints.DecimalMin;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.Size;
+
+/**
+ * Parámetros de una carga sintética. Con la misma semilla y los mismos
+ * parámetros se obtiene exactamente la misma secuencia de procesos.
+ */
+public class WorkloadRequest {
+
+    @Min(1)
+    @Max(10_000_000)
+    private int count;
+
+    private Long seed;
+
+    private String namePrefix = "P";
+
+    private ArrivalDistribution arrivals = ArrivalDistribution.POISSON;
+
+    // Llegadas promedio por unidad de tiempo (POISSON y UNIFORM)
+    @DecimalMin(value = "0.0", inclusive = false)
+    private double arrivalRate = 1.0;
+
+    private BurstDistribution bursts = BurstDistribution.EXPONENTIAL;
+
+    @DecimalMin("1.0")
+    private double meanBurst = 5.0;
+
+    @Min(1)
+    private int maxBurst = 1000;
+
+    // BIMODAL: proporción de ráfagas largas y media de cada modo
+    @DecimalMin("0.0")
+    @DecimalMax("1.0")
+    private double longFraction = 0.2;
+
+    @DecimalMin("1.0")
+    private double shortBurst = 2.0;
+
+    @DecimalMin("1.0")
+    private double longBurst = 20.0;
+
+    // PARETO: índice de cola; cuanto más cerca de 1, más pesada la cola
+    @DecimalMin(value = "1.0", inclusive = false)
+    private double paretoAlpha = 1.5;
+
+    // Peso relativo de cada prioridad 0..10; vacío equivale a pesos iguales
+    @Size(max = 11)
+    private List<@Min(0) Integer> priorityWeights;
+
+    // Boletos uniformes en 1..maxTickets para LOTTERY y STRIDE; sin valor, todos reciben 100
+    @Min(1)
+    @Max(ProcessControlBlock.MAX_TICKETS)
+    private Integer maxTickets;
+
+    public int getCount() {
+        return count;
+    }
+
+    public void setCount(int count) {
+        this.count = count;
+    }
+
+    public Long getSeed() {
+        return seed;
+    }
+
+    public void setSeed(Long seed) {
+        this.seed = seed;
+    }
+
+    public String getNamePrefix() {
+        return namePrefix;
+    }
+
+    public void setNamePrefix(String namePrefix) {
+        this.namePrefix = namePrefix;
+    }
+
+    public ArrivalDistribution getArrivals() {
+        return arrivals;
+    }
+
+    public void setArrivals(ArrivalDistribution arrivals) {
+        this.arrivals = arrivals;
+    }
+
+    public double getArrivalRate() {
+        return arrivalRate;
+    }
+
+    public void setArrivalRate(double arrivalRate) {
+        this.arrivalRate = arrivalRate;
+    }
+
+    public BurstDistribution getBursts() {
+        return bursts;
+    }
+
+    public void setBursts(BurstDistribution bursts) {
+        this.bursts = bursts;
+    }
+
+    public double getMeanBurst() {
+        return meanBurst;
+    }
+
+    public void setMeanBurst(double meanBurst) {
+        this.meanBurst = meanBurst;
+    }
+
+    public int getMaxBurst() {
+        return maxBurst;
+    }
+
+    public void setMaxBurst(int maxBurst) {
+        this.maxBurst = maxBurst;
+    }
+
+    public double getLongFraction() {
+        return longFraction;
+    }
+
+    public void setLongFraction(double longFraction) {
+        this.longFraction = longFraction;
+    }
+
+    public double getShortBurst() {
+        return shortBurst;
+    }
+
+    public void setShortBurst(double shortBurst) {
+        this.shortBurst = shortBurst;
+    }
+
+    public double getLongBurst() {
+        return longBurst;
+    }
+
+    public void setLongBurst(double longBurst) {
+        this.longBurst = longBurst;
+    }
+
+    public double getParetoAlpha() {
+        return paretoAlpha;
+    }
+
+    public void setParetoAlpha(double paretoAlpha) {
+        this.paretoAlpha = paretoAlpha;
+    }
+
+    public List<Integer> getPriorityWeights() {
+        return priorityWeights;
+    }
+
+    public void setPriorityWeights(List<Integer> priorityWeights) {
+        this.priorityWeights = priorityWeights;
+    }
+
+    public Integer getMaxTickets() {
+        return maxTickets;
+    }
+
+    public void setMaxTickets(Integer maxTickets) {
+        this.maxTickets = maxTickets;
+    }
+}
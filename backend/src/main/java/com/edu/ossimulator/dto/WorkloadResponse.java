@@ -0,0 +1,32 @@
+package com.edu.ossimulator.dto;
+
+public class WorkloadResponse {
+
+    private int generated;
+    private long seed;
+    private int lastArrival;
+    private long totalBurst;
+
+    public WorkloadResponse(int generated, long seed, int lastArrival, long totalBurst) {
+        this.generated = generated;
+        this.seed = seed;
+        this.lastArrival = lastArrival;
+        this.totalBurst = totalBurst;
+    }
+
+    public int getGenerated() {
+        return generated;
+    }
+
+    public long getSeed() {
+        return seed;
+    }
+
+    public int getLastArrival() {
+        return lastArrival;
+    }
+
+    public long getTotalBurst() {
+        return totalBurst;
+    }
+}
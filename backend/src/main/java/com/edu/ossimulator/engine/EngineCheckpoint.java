@@ -0,0 +1,169 @@
+package com.edu.ossimulator.engine;
+
+import java.io.IOException;
+import java.io.StreamCorruptedException;
+import java.util.List;
+
+import com.edu.ossimulator.model.ProcessControlBlock;
+import com.edu.ossimulator.util.SnapshotReader;
+import com.edu.ossimulator.util.SnapshotWriter;
+
+/**
+ * Estado de un motor en tiempo virtual entre dos lotes: reloj, llegadas
+ * pendientes y, por cada CPU, los eventos vivos, el orden de la cola ready y
+ * el proceso en ejecución. Los datos de cada proceso quedan en su PCB; aquí
+ * solo se referencian por PID (0 en los eventos sin proceso, como BOOST).
+ */
+public class EngineCheckpoint {
+
+    private final int clock;
+    // Procesos de la corrida en el orden de llegada del motor y cuántos ya llegaron
+    private final long[] arrivals;
+    private final int nextArrival;
+    private final CpuState[] cpus;
+
+    EngineCheckpoint(int clock, long[] arrivals, int nextArrival, CpuState[] cpus) {
+        this.clock = clock;
+        this.arrivals = arrivals;
+        this.nextArrival = nextArrival;
+        this.cpus = cpus;
+    }
+
+    public int getClock() {
+        return clock;
+    }
+
+    public long[] getArrivals() {
+        return arrivals;
+    }
+
+    public int getNextArrival() {
+        return nextArrival;
+    }
+
+    public int getCpuCount() {
+        return cpus.length;
+    }
+
+    CpuState getCpu(int cpu) {
+        return cpus[cpu];
+    }
+
+    static long[] pids(List<ProcessControlBlock> processes) {
+        long[] pids = new long[processes.size()];
+        for (int i = 0; i < pids.length; i++) {
+            pids[i] = processes.get(i).getPid();
+        }
+        return pids;
+    }
+
+    public void writeTo(SnapshotWriter out) throws IOException {
+        out.writeInt(clock);
+        writePids(out, arrivals);
+        out.writeInt(nextArrival);
+        out.writeInt(cpus.length);
+        for (CpuState cpu : cpus) {
+            cpu.writeTo(out);
+        }
+    }
+
+    public static EngineCheckpoint readFrom(SnapshotReader in) throws IOException {
+        int clock = in.readInt();
+        long[] arrivals = readPids(in);
+        int nextArrival = in.readInt();
+        if (nextArrival < 0 || nextArrival > arrivals.length) {
+            throw new StreamCorruptedException("Invalid arrival cursor " + nextArrival);
+        }
+        CpuState[] cpus = new CpuState[in.readCount()];
+        for (int i = 0; i < cpus.length; i++) {
+            cpus[i] = CpuState.readFrom(in);
+        }
+        return new EngineCheckpoint(clock, arrivals, nextArrival, cpus);
+    }
+
+    private static void writePids(SnapshotWriter out, long[] pids) throws IOException {
+        out.writeInt(pids.length);
+        for (long pid : pids) {
+            out.writeLong(pid);
+        }
+    }
+
+    private static long[] readPids(SnapshotReader in) throws IOException {
+        long[] pids = new long[in.readCount()];
+        for (int i = 0; i < pids.length; i++) {
+            pids[i] = in.readLong();
+        }
+        return pids;
+    }
+
+    /** Una CPU: los eventos cancelados no se guardan. */
+    static final class CpuState {
+
+        final int clock;
+        final long sequence;
+        final long running;
+        final int sliceStart;
+        final long queueState;
+        final long[] ready;
+        final int[] eventTimes;
+        final EventType[] eventTypes;
+        final long[] eventSequences;
+        final long[] eventPids;
+
+        CpuState(int clock, long sequence, long running, int sliceStart, long queueState, long[] ready,
+                 int[] eventTimes, EventType[] eventTypes, long[] eventSequences, long[] eventPids) {
+            this.clock = clock;
+            this.sequence = sequence;
+            this.running = running;
+            this.sliceStart = sliceStart;
+            this.queueState = queueState;
+            this.ready = ready;
+            this.eventTimes = eventTimes;
+            this.eventTypes = eventTypes;
+            this.eventSequences = eventSequences;
+            this.eventPids = eventPids;
+        }
+
+        void writeTo(SnapshotWriter out) throws IOException {
+            out.writeInt(clock);
+            out.writeLong(sequence);
+            out.writeLong(running);
+            out.writeInt(sliceStart);
+            out.writeLong(queueState);
+            writePids(out, ready);
+            out.writeInt(eventTimes.length);
+            for (int i = 0; i < eventTimes.length; i++) {
+                out.writeInt(eventTimes[i]);
+                out.writeByte(eventTypes[i].ordinal());
+                out.writeLong(eventSequences[i]);
+                out.writeLong(eventPids[i]);
+            }
+        }
+
+        static CpuState readFrom(SnapshotReader in) throws IOException {
+            int clock = in.readInt();
+            long sequence = in.readLong();
+            long running = in.readLong();
+            int sliceStart = in.readInt();
+            long queueState = in.readLong();
+            long[] ready = readPids(in);
+            int events = in.readCount();
+            int[] times = new int[events];
+            EventType[] types = new EventType[events];
+            long[] sequences = new long[events];
+            long[] pids = new long[events];
+            EventType[] known = EventType.values();
+            for (int i = 0; i < events; i++) {
+                times[i] = in.readInt();
+                int type = in.readByte();
+                if (type < 0 || type >= known.length) {
+                    throw new StreamCorruptedException("Invalid event type " + type);
+                }
+                types[i] = known[type];
+                sequences[i] = in.readLong();
+                pids[i] = in.readLong();
+            }
+            return new CpuState(clock, sequence, running, sliceStart, queueState, ready, times, types, sequences, pids);
+        }
+    }
+}
@@ -0,0 +1,17 @@
+package com.edu.ossimulator.engine;
+
+/**
+ * Tipos de evento del motor en tiempo virtual. El orden de declaración define
+ * la prioridad entre eventos que ocurren en el mismo instante.
+ */
+public enum EventType {
+    ARRIVAL,
+    SLICE_END,
+    IO_COMPLETION,
+    AGING,
+    BOOST,
+    // Un trabajo que termina justo en su deadline no lo pierde (SLICE_END va antes),
+    // y el deadline de un trabajo se revisa antes de liberar el siguiente
+    DEADLINE,
+    RELEASE
+}
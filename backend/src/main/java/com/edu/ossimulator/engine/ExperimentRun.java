@@ -0,0 +1,190 @@
+package com.edu.ossimulator.engine;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.function.LongSupplier;
+
+import com.edu.ossimulator.dto.TimelineEntry;
+import com.edu.ossimulator.model.ProcessControlBlock;
+import com.edu.ossimulator.model.SchedulerAlgorithm;
+
+/**
+ * Corrida completa en tiempo virtual sobre copias propias de los procesos,
+ * fuera de cualquier sesión. Varias corridas pueden ejecutarse a la vez en
+ * hilos distintos porque no comparten ningún estado.
+ */
+public class ExperimentRun implements SimulationListener {
+
+    private static final int HISTORY_CAPACITY = 1;
+    private static final int PRUNE_CHECK_EVENTS = 16_384;
+
+    private final SchedulerAlgorithm algorithm;
+    private final SchedulerOptions options;
+    private final List<ProcessControlBlock> processes;
+    private final SchedulingStats stats = new SchedulingStats();
+    private final List<TimelineEntry> timeline = new ArrayList<>();
+    private final int timelineLimit;
+    private boolean timelineTruncated;
+    private long contextSwitches;
+    private ProcessControlBlock running;
+    private long wallTimeNanos;
+
+    // Acumulados para la cota inferior de la espera total (ver waitingLowerBound)
+    private int arrivedCount;
+    private long arrivedArrivalSum;
+    private int completedCount;
+    private long completionSum;
+    private boolean pruned;
+    private long waitingLowerBound;
+
+    /**
+     * @param templates     procesos de referencia; se copian y no se modifican
+     * @param timelineLimit cuántas entradas del timeline conservar (0 = ninguna)
+     */
+    public ExperimentRun(SchedulerAlgorithm algorithm, SchedulerOptions options,
+                         List<ProcessControlBlock> templates, int timelineLimit) {
+        this.algorithm = algorithm;
+        this.options = options;
+        this.timelineLimit = timelineLimit;
+        this.processes = new ArrayList<>(templates.size());
+        for (ProcessControlBlock template : templates) {
+            processes.add(template.copyForRun(HISTORY_CAPACITY));
+        }
+        processes.sort(Comparator.comparingInt(ProcessControlBlock::getArrivalTime));
+    }
+
+    public ExperimentRun run() {
+        return run(() -> Long.MAX_VALUE);
+    }
+
+    /**
+     * Corre hasta el final salvo que la espera total quede demostradamente por
+     * encima de {@code bestTotalWaiting}: en ese caso se abandona y queda
+     * marcada como podada con la cota alcanzada.
+     */
+    public ExperimentRun run(LongSupplier bestTotalWaiting) {
+        long start = System.nanoTime();
+        VirtualTimeEngine engine = new VirtualTimeEngine(
+                algorithm, options, VirtualTimeEngine.DEFAULT_IO_DURATION, processes, this);
+        while (engine.advance(PRUNE_CHECK_EVENTS)) {
+            long bound = waitingLowerBound(engine.getClock());
+            if (bound > bestTotalWaiting.getAsLong()) {
+                pruned = true;
+                waitingLowerBound = bound;
+                break;
+            }
+        }
+        wallTimeNanos = System.nanoTime() - start;
+        return this;
+    }
+
+    /**
+     * Cota inferior de la suma final de tiempos de espera en el instante
+     * {@code clock}. Un proceso que ya llegó y no terminó finaliza como pronto
+     * en {@code clock + restante}, así que su espera es al menos
+     * {@code clock + restante - llegada - ráfaga}. Sumando sobre todos, lo
+     * ejecutado y lo terminado se cancela y queda
+     * {@code Σ fin(terminados) + pendientes · clock - Σ llegada(llegados) - tiempo ocupado}.
+     * El proceso en la CPU puede llevar hasta un quantum sin descontar, por eso
+     * se resta.
+     */
+    long waitingLowerBound(int clock) {
+        while (arrivedCount < processes.size() && processes.get(arrivedCount).getArrivalTime() <= clock) {
+            arrivedArrivalSum += processes.get(arrivedCount++).getArrivalTime();
+        }
+        long pending = arrivedCount - completedCount;
+        long inFlight = running != null ? running.getRemainingTime() : 0;
+        if (algorithm == SchedulerAlgorithm.ROUND_ROBIN) {
+            inFlight = Math.min(inFlight, options.getQuantum());
+        }
+        return completionSum + pending * clock - arrivedArrivalSum - stats.getBusyTime() - inFlight;
+    }
+
+    @Override
+    public void processDispatched(ProcessControlBlock pcb) {
+        running = pcb;
+        contextSwitches++;
+    }
+
+    @Override
+    public void processReleased(ProcessControlBlock pcb) {
+        running = null;
+    }
+
+    @Override
+    public void processTerminated(ProcessControlBlock pcb, int time) {
+        running = null;
+        stats.processCompleted(pcb, time);
+        completedCount++;
+        completionSum += time;
+    }
+
+    @Override
+    public void jobCompleted(ProcessControlBlock pcb, int time) {
+        running = null;
+        stats.processCompleted(pcb, time);
+    }
+
+    @Override
+    public void deadlineMissed(ProcessControlBlock pcb, int time) {
+        stats.deadlineMissed();
+    }
+
+    @Override
+    public void ioCompleted(ProcessControlBlock pcb) {
+        // Sin interrupciones no hay I/O en una corrida aislada
+    }
+
+    @Override
+    public void sliceCompleted(TimelineEntry entry) {
+        stats.sliceCompleted(running, entry.getStart(), entry.getEnd());
+        if (timeline.size() < timelineLimit) {
+            timeline.add(entry);
+        } else {
+            timelineTruncated = true;
+        }
+    }
+
+    public SchedulerAlgorithm getAlgorithm() {
+        return algorithm;
+    }
+
+    public int getQuantum() {
+        return options.getQuantum();
+    }
+
+    public SchedulingStats getStats() {
+        return stats;
+    }
+
+    public List<TimelineEntry> getTimeline() {
+        return timeline;
+    }
+
+    public boolean isTimelineTruncated() {
+        return timelineTruncated;
+    }
+
+    public long getContextSwitches() {
+        return contextSwitches;
+    }
+
+    public long getWallTimeNanos() {
+        return wallTimeNanos;
+    }
+
+    public boolean isPruned() {
+        return pruned;
+    }
+
+    /** Solo tiene sentido si la corrida fue podada. */
+    public long getWaitingLowerBound() {
+        return waitingLowerBound;
+    }
+
+    /** Suma de los tiempos de espera de los procesos terminados. */
+    public long getTotalWaiting() {
+        return stats.getWaiting().getSum();
+    }
+}
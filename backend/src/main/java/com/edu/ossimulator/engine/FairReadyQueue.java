@@ -0,0 +1,165 @@
+package com.edu.ossimulator.engine;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.TreeSet;
+
+import com.edu.ossimulator.model.ProcessControlBlock;
+
+/**
+ * Cola de FAIR al estilo de CFS: un árbol rojo-negro ordenado por tiempo
+ * virtual de ejecución (vruntime), del que siempre se despacha el nodo más a
+ * la izquierda. Insertar y retirar cuestan O(log n).
+ *
+ * <p>El vruntime de un proceso avanza más lento cuanto mayor es su peso, que
+ * sale de la prioridad (0 = nice -10, 5 = nice 0, 10 = nice 10) con la tabla de
+ * pesos de Linux. La clave solo cambia mientras el proceso está fuera del árbol.
+ */
+public class FairReadyQueue implements ProportionalShareQueue {
+
+    public static final int NICE_0_WEIGHT = 1024;
+
+    private static final int[] WEIGHTS = {9548, 6100, 3906, 2501, 1586, 1024, 655, 423, 272, 172, 110};
+
+    private static final Comparator<ProcessControlBlock> BY_VRUNTIME =
+            Comparator.comparingLong(ProcessControlBlock::vruntimeScaled)
+                    .thenComparingLong(ProcessControlBlock::getPid);
+
+    private final TreeSet<ProcessControlBlock> tree = new TreeSet<>(BY_VRUNTIME);
+    private final int targetLatency;
+    private final int minGranularity;
+    private long totalWeight;
+    // Piso monótono del vruntime: ubica a los que llegan o despiertan
+    private long minVruntime;
+
+    public FairReadyQueue(int targetLatency, int minGranularity) {
+        this.targetLatency = targetLatency;
+        this.minGranularity = minGranularity;
+    }
+
+    public static int weightOf(ProcessControlBlock pcb) {
+        return WEIGHTS[Math.max(0, Math.min(pcb.getPriority(), WEIGHTS.length - 1))];
+    }
+
+    /**
+     * Porción de CPU del proceso que se va a despachar: el período (la latencia
+     * objetivo, o {@code minGranularity} por proceso si hay demasiados) repartido
+     * según su peso frente al de todos los procesos listos.
+     */
+    public int sliceFor(ProcessControlBlock pcb) {
+        long weight = weightOf(pcb);
+        long period = Math.max(targetLatency, (long) (tree.size() + 1) * minGranularity);
+        long slice = period * weight / (totalWeight + weight);
+        return (int) Math.max(1, Math.min(slice, Integer.MAX_VALUE));
+    }
+
+    @Override
+    public void account(ProcessControlBlock pcb, int executed) {
+        pcb.assignVruntime(pcb.vruntimeScaled() + virtualDelta(pcb, executed));
+        long floor = pcb.vruntimeScaled();
+        if (!tree.isEmpty()) {
+            floor = Math.min(floor, tree.first().vruntimeScaled());
+        }
+        minVruntime = Math.max(minVruntime, floor);
+    }
+
+    @Override
+    public void placeNew(ProcessControlBlock pcb) {
+        pcb.assignVruntime(Math.max(pcb.vruntimeScaled(), minVruntime));
+    }
+
+    /** Vuelve de I/O: conserva a lo sumo media latencia de crédito por haber dormido. */
+    @Override
+    public void placeWakeup(ProcessControlBlock pcb) {
+        long credit = (long) targetLatency * ProcessControlBlock.VRUNTIME_SCALE / 2;
+        pcb.assignVruntime(Math.max(pcb.vruntimeScaled(), minVruntime - credit));
+    }
+
+    @Override
+    public void detach(ProcessControlBlock pcb) {
+        pcb.assignVruntime(pcb.vruntimeScaled() - minVruntime);
+    }
+
+    @Override
+    public void attach(ProcessControlBlock pcb) {
+        pcb.assignVruntime(pcb.vruntimeScaled() + minVruntime);
+    }
+
+    /**
+     * El proceso que despierta expropia al que corre si este lo aventaja en más
+     * de {@code minGranularity} unidades, escaladas por el peso del que despierta.
+     */
+    public boolean preempts(ProcessControlBlock candidate, ProcessControlBlock running, int executed) {
+        long current = running.vruntimeScaled() + virtualDelta(running, executed);
+        return current - candidate.vruntimeScaled() > virtualDelta(candidate, minGranularity);
+    }
+
+    @Override
+    public long checkpointState() {
+        return minVruntime;
+    }
+
+    @Override
+    public void restoreState(long state) {
+        minVruntime = state;
+    }
+
+    @Override
+    public void offer(ProcessControlBlock pcb) {
+        if (contains(pcb)) {
+            return;
+        }
+        tree.add(pcb);
+        pcb.assignDispatchSlot(this, 0);
+        totalWeight += weightOf(pcb);
+    }
+
+    @Override
+    public ProcessControlBlock poll() {
+        ProcessControlBlock pcb = tree.pollFirst();
+        if (pcb != null) {
+            detached(pcb);
+        }
+        return pcb;
+    }
+
+    @Override
+    public ProcessControlBlock peek() {
+        return tree.isEmpty() ? null : tree.first();
+    }
+
+    @Override
+    public boolean remove(ProcessControlBlock pcb) {
+        if (!contains(pcb)) {
+            return false;
+        }
+        tree.remove(pcb);
+        detached(pcb);
+        return true;
+    }
+
+    @Override
+    public boolean contains(ProcessControlBlock pcb) {
+        return pcb.getDispatchOwner() == this;
+    }
+
+    @Override
+    public int size() {
+        return tree.size();
+    }
+
+    @Override
+    public List<ProcessControlBlock> snapshot() {
+        return new ArrayList<>(tree);
+    }
+
+    private void detached(ProcessControlBlock pcb) {
+        pcb.assignDispatchSlot(null, -1);
+        totalWeight -= weightOf(pcb);
+    }
+
+    private static long virtualDelta(ProcessControlBlock pcb, long units) {
+        return units * ProcessControlBlock.VRUNTIME_SCALE * NICE_0_WEIGHT / weightOf(pcb);
+    }
+}
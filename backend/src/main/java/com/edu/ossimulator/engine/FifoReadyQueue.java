@@ -0,0 +1,46 @@
+package com.edu.ossimulator.engine;
+
+import java.util.List;
+
+import com.edu.ossimulator.model.ProcessControlBlock;
+import com.edu.ossimulator.model.ProcessQueue;
+
+public class FifoReadyQueue implements ReadyQueue {
+
+    private final ProcessQueue queue = new ProcessQueue(ProcessQueue.Link.DISPATCH);
+
+    @Override
+    public void offer(ProcessControlBlock pcb) {
+        queue.add(pcb);
+    }
+
+    @Override
+    public ProcessControlBlock poll() {
+        return queue.poll();
+    }
+
+    @Override
+    public ProcessControlBlock peek() {
+        return queue.peek();
+    }
+
+    @Override
+    public boolean remove(ProcessControlBlock pcb) {
+        return queue.remove(pcb);
+    }
+
+    @Override
+    public boolean contains(ProcessControlBlock pcb) {
+        return queue.contains(pcb);
+    }
+
+    @Override
+    public int size() {
+        return queue.size();
+    }
+
+    @Override
+    public List<ProcessControlBlock> snapshot() {
+        return queue.toList();
+    }
+}
@@ -0,0 +1,136 @@
+package com.edu.ossimulator.engine;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+
+import com.edu.ossimulator.model.ProcessControlBlock;
+
+/**
+ * Heap binario mínimo indexado: cada PCB guarda su posición en el heap, de modo
+ * que despachar, insertar, retirar un proceso arbitrario y cambiar su clave
+ * (decrease-key) cuestan O(log n).
+ */
+public class IndexedHeapReadyQueue implements ReadyQueue {
+
+    private final Comparator<ProcessControlBlock> order;
+    private ProcessControlBlock[] heap = new ProcessControlBlock[16];
+    private int size;
+
+    public IndexedHeapReadyQueue(Comparator<ProcessControlBlock> order) {
+        this.order = order;
+    }
+
+    @Override
+    public void offer(ProcessControlBlock pcb) {
+        if (contains(pcb)) {
+            return;
+        }
+        if (size == heap.length) {
+            heap = Arrays.copyOf(heap, size * 2);
+        }
+        place(pcb, size);
+        siftUp(size++);
+    }
+
+    @Override
+    public ProcessControlBlock poll() {
+        if (size == 0) {
+            return null;
+        }
+        ProcessControlBlock head = heap[0];
+        removeAt(0);
+        return head;
+    }
+
+    @Override
+    public ProcessControlBlock peek() {
+        return size == 0 ? null : heap[0];
+    }
+
+    @Override
+    public boolean remove(ProcessControlBlock pcb) {
+        if (!contains(pcb)) {
+            return false;
+        }
+        removeAt(pcb.getDispatchIndex());
+        return true;
+    }
+
+    @Override
+    public void update(ProcessControlBlock pcb) {
+        if (contains(pcb) && !siftUp(pcb.getDispatchIndex())) {
+            siftDown(pcb.getDispatchIndex());
+        }
+    }
+
+    @Override
+    public boolean contains(ProcessControlBlock pcb) {
+        return pcb.getDispatchOwner() == this;
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public List<ProcessControlBlock> snapshot() {
+        List<ProcessControlBlock> copy = new ArrayList<>(Arrays.asList(heap).subList(0, size));
+        copy.sort(order);
+        return copy;
+    }
+
+    private void removeAt(int index) {
+        heap[index].assignDispatchSlot(null, -1);
+        int last = --size;
+        if (index != last) {
+            place(heap[last], index);
+            heap[last] = null;
+            if (!siftUp(index)) {
+                siftDown(index);
+            }
+        } else {
+            heap[last] = null;
+        }
+    }
+
+    private boolean siftUp(int index) {
+        int start = index;
+        ProcessControlBlock pcb = heap[index];
+        while (index > 0) {
+            int parent = (index - 1) >>> 1;
+            if (order.compare(pcb, heap[parent]) >= 0) {
+                break;
+            }
+            place(heap[parent], index);
+            index = parent;
+        }
+        place(pcb, index);
+        return index != start;
+    }
+
+    private void siftDown(int index) {
+        ProcessControlBlock pcb = heap[index];
+        int half = size >>> 1;
+        while (index < half) {
+            int child = 2 * index + 1;
+            int right = child + 1;
+            if (right < size && order.compare(heap[right], heap[child]) < 0) {
+                child = right;
+            }
+            if (order.compare(pcb, heap[child]) <= 0) {
+                break;
+            }
+            place(heap[child], index);
+            index = child;
+        }
+        place(pcb, index);
+    }
+
+    private void place(ProcessControlBlock pcb, int index) {
+        heap[index] = pcb;
+        pcb.assignDispatchSlot(this, index);
+    }
+}
@@ -0,0 +1,154 @@
+package com.edu.ossimulator.engine;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.SplittableRandom;
+
+import com.edu.ossimulator.model.ProcessControlBlock;
+
+/**
+ * Cola de LOTTERY: cada proceso listo ocupa una ranura y un árbol de Fenwick
+ * guarda la suma de boletos por prefijo de ranuras. Un sorteo elige un boleto
+ * al azar y baja por el árbol hasta la ranura que lo contiene, así sortear,
+ * insertar y retirar cuestan O(log n) en lugar de recorrer la cola.
+ *
+ * <p>Con la misma semilla y la misma secuencia de operaciones los sorteos se
+ * repiten exactamente. {@link #peek()} deja fijado el ganador para que el
+ * siguiente {@link #poll()} devuelva el mismo proceso.
+ */
+public class LotteryReadyQueue implements ReadyQueue {
+
+    private final SplittableRandom random;
+    private ProcessControlBlock[] slots = new ProcessControlBlock[16];
+    // Árbol de Fenwick con base 1 sobre los boletos de cada ranura
+    private long[] tree = new long[slots.length + 1];
+    private int[] free = new int[16];
+    private int freeCount;
+    private int used;
+    private int size;
+    private long totalTickets;
+    private int drawn = -1;
+
+    public LotteryReadyQueue(long seed) {
+        this.random = new SplittableRandom(seed);
+    }
+
+    @Override
+    public void offer(ProcessControlBlock pcb) {
+        if (contains(pcb)) {
+            return;
+        }
+        int slot = freeCount > 0 ? free[--freeCount] : used++;
+        if (slot == slots.length) {
+            grow();
+        }
+        slots[slot] = pcb;
+        pcb.assignDispatchSlot(this, slot);
+        add(slot, pcb.getTickets());
+        totalTickets += pcb.getTickets();
+        size++;
+        drawn = -1;
+    }
+
+    @Override
+    public ProcessControlBlock poll() {
+        if (size == 0) {
+            return null;
+        }
+        ProcessControlBlock winner = slots[draw()];
+        removeSlot(winner.getDispatchIndex());
+        return winner;
+    }
+
+    @Override
+    public ProcessControlBlock peek() {
+        return size == 0 ? null : slots[draw()];
+    }
+
+    @Override
+    public boolean remove(ProcessControlBlock pcb) {
+        if (!contains(pcb)) {
+            return false;
+        }
+        removeSlot(pcb.getDispatchIndex());
+        return true;
+    }
+
+    @Override
+    public boolean contains(ProcessControlBlock pcb) {
+        return pcb.getDispatchOwner() == this;
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public List<ProcessControlBlock> snapshot() {
+        List<ProcessControlBlock> snapshot = new ArrayList<>(size);
+        for (int i = 0; i < used; i++) {
+            if (slots[i] != null) {
+                snapshot.add(slots[i]);
+            }
+        }
+        return snapshot;
+    }
+
+    private int draw() {
+        if (drawn < 0) {
+            drawn = find(random.nextLong(totalTickets));
+        }
+        return drawn;
+    }
+
+    // Ranura que contiene el boleto número ticket (0 <= ticket < totalTickets)
+    private int find(long ticket) {
+        int position = 0;
+        for (int step = Integer.highestOneBit(slots.length); step > 0; step >>>= 1) {
+            int next = position + step;
+            if (next <= slots.length && tree[next] <= ticket) {
+                position = next;
+                ticket -= tree[next];
+            }
+        }
+        return position;
+    }
+
+    private void removeSlot(int slot) {
+        ProcessControlBlock pcb = slots[slot];
+        add(slot, -pcb.getTickets());
+        totalTickets -= pcb.getTickets();
+        slots[slot] = null;
+        pcb.assignDispatchSlot(null, -1);
+        if (freeCount == free.length) {
+            free = Arrays.copyOf(free, free.length * 2);
+        }
+        free[freeCount++] = slot;
+        size--;
+        drawn = -1;
+    }
+
+    private void add(int slot, long delta) {
+        for (int i = slot + 1; i < tree.length; i += i & -i) {
+            tree[i] += delta;
+        }
+    }
+
+    // Duplica las ranuras y reconstruye el árbol en O(n)
+    private void grow() {
+        slots = Arrays.copyOf(slots, slots.length * 2);
+        tree = new long[slots.length + 1];
+        for (int i = 1; i < tree.length; i++) {
+            ProcessControlBlock pcb = slots[i - 1];
+            if (pcb != null) {
+                tree[i] += pcb.getTickets();
+            }
+            int parent = i + (i & -i);
+            if (parent < tree.length) {
+                tree[parent] += tree[i];
+            }
+        }
+    }
+}
@@ -0,0 +1,476 @@
+package com.edu.ossimulator.engine;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.PriorityQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.function.Consumer;
+import java.util.function.IntSupplier;
+import java.util.function.LongFunction;
+
+import com.edu.ossimulator.dto.TimelineEntry;
+import com.edu.ossimulator.model.ProcessControlBlock;
+import com.edu.ossimulator.model.SchedulerAlgorithm;
+
+/**
+ * Simulación SMP: cada CPU es un {@link VirtualTimeEngine} con su propia cola
+ * ready. El tiempo avanza por ventanas de {@code balanceInterval} unidades;
+ * dentro de una ventana las CPUs no comparten nada y se simulan en paralelo en
+ * hilos del host. En la frontera de cada ventana se reparten las llegadas (a la
+ * CPU de afinidad o a la menos cargada), se vuelcan los efectos al listener y
+ * las CPUs ociosas roban la mitad de la cola de la más cargada. Las tareas de
+ * tiempo real (con período o deadline) nunca se roban: sus liberaciones y
+ * deadlines quedan en la CPU donde llegaron (planificación particionada).
+ *
+ * <p>Una CPU que se queda sin trabajo a mitad de ventana espera hasta la
+ * frontera para robar: ventanas más cortas equilibran mejor y ventanas más
+ * largas aprovechan mejor el paralelismo.
+ */
+public class MultiCoreEngine implements SchedulingEngine {
+
+    private final VirtualTimeEngine[] cpus;
+    private final CpuLog[] logs;
+    // Orden de entrega de los logs: tiempo del próximo evento y, a igual tiempo, CPU
+    private final PriorityQueue<CpuLog> replayOrder = new PriorityQueue<>(
+            Comparator.comparingInt(CpuLog::nextTime).thenComparingInt(CpuLog::cpu));
+    private final int[] placed;
+    private final List<ProcessControlBlock> arrivals;
+    private final int balanceInterval;
+    private final int ioDuration;
+    private final ExecutorService workers;
+    private final SimulationListener listener;
+    private final Consumer<ProcessControlBlock> changeSink;
+
+    private int nextArrival;
+    private int clock;
+
+    public MultiCoreEngine(SchedulerAlgorithm algorithm,
+                           SchedulerOptions options,
+                           int ioDuration,
+                           int cpuCount,
+                           int balanceInterval,
+                           List<ProcessControlBlock> processes,
+                           SimulationListener listener,
+                           Consumer<ProcessControlBlock> changeSink,
+                           ExecutorService workers) {
+        this.cpus = new VirtualTimeEngine[cpuCount];
+        this.logs = new CpuLog[cpuCount];
+        this.placed = new int[cpuCount];
+        for (int i = 0; i < cpuCount; i++) {
+            logs[i] = new CpuLog(i);
+            cpus[i] = new VirtualTimeEngine(algorithm, options.forCpu(i), ioDuration, i, List.of(), logs[i]);
+            logs[i].clock = cpus[i]::getClock;
+        }
+        this.arrivals = new ArrayList<>(processes);
+        this.arrivals.sort(Comparator.comparingInt(ProcessControlBlock::getArrivalTime));
+        this.balanceInterval = balanceInterval;
+        this.ioDuration = ioDuration;
+        this.workers = workers;
+        this.listener = listener;
+        this.changeSink = changeSink;
+    }
+
+    /** Simula una ventana completa; {@code maxEvents} no aplica. */
+    @Override
+    public boolean advance(int maxEvents) {
+        return step((int) Math.min(Integer.MAX_VALUE, (long) clock + balanceInterval));
+    }
+
+    // En tiempo real las ventanas se recortan para no adelantarse al reloj
+    @Override
+    public boolean advanceTo(int time) {
+        while (clock < time) {
+            if (!step((int) Math.min(time, (long) clock + balanceInterval))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private boolean step(int end) {
+        Arrays.fill(placed, 0);
+        while (nextArrival < arrivals.size() && arrivals.get(nextArrival).getArrivalTime() < end) {
+            place(arrivals.get(nextArrival++));
+        }
+
+        runWindow(end);
+        replayLogs();
+        balance();
+        clock = end;
+
+        boolean busy = false;
+        for (VirtualTimeEngine cpu : cpus) {
+            busy |= cpu.hasWork();
+        }
+        if (!busy) {
+            if (nextArrival == arrivals.size()) {
+                return false;
+            }
+            // Sin trabajo pendiente se salta directo a la próxima llegada
+            clock = Math.max(clock, arrivals.get(nextArrival).getArrivalTime());
+        }
+        return true;
+    }
+
+    private void runWindow(int end) {
+        List<Future<?>> running = new ArrayList<>();
+        VirtualTimeEngine inline = null;
+        for (VirtualTimeEngine cpu : cpus) {
+            if (!cpu.hasWork()) {
+                cpu.advanceUntil(end);
+            } else if (inline == null) {
+                // Una CPU corre en el hilo coordinador para no dejarlo esperando ocioso
+                inline = cpu;
+            } else {
+                running.add(workers.submit(() -> cpu.advanceUntil(end)));
+            }
+        }
+        if (inline != null) {
+            inline.advanceUntil(end);
+        }
+        // Se espera a todas las CPUs aunque llegue una interrupción: soltar el
+        // lock con CPUs todavía corriendo dejaría a la sesión leyendo a medias
+        boolean interrupted = false;
+        try {
+            for (Future<?> future : running) {
+                while (true) {
+                    try {
+                        future.get();
+                        break;
+                    } catch (InterruptedException e) {
+                        interrupted = true;
+                    } catch (ExecutionException e) {
+                        throw new IllegalStateException("CPU simulation failed", e.getCause());
+                    }
+                }
+            }
+        } finally {
+            if (interrupted) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+
+    private void place(ProcessControlBlock pcb) {
+        int target = pcb.getCpu() >= 0 ? pcb.getCpu() : affinityOf(pcb);
+        if (target < 0) {
+            target = 0;
+            for (int i = 1; i < cpus.length; i++) {
+                if (cpus[i].load() + placed[i] < cpus[target].load() + placed[target]) {
+                    target = i;
+                }
+            }
+        }
+        placed[target]++;
+        pcb.setChangeObserver(logs[target]::touched);
+        cpus[target].addArrival(pcb);
+    }
+
+    private void balance() {
+        for (int thief = 0; thief < cpus.length; thief++) {
+            if (cpus[thief].load() > 0) {
+                continue;
+            }
+            int victim = -1;
+            for (int i = 0; i < cpus.length; i++) {
+                if (i != thief && cpus[i].readySize() > 0
+                        && (victim < 0 || cpus[i].readySize() > cpus[victim].readySize())) {
+                    victim = i;
+                }
+            }
+            if (victim < 0) {
+                return;
+            }
+            int target = thief;
+            List<ProcessControlBlock> stolen = cpus[victim].steal((cpus[victim].readySize() + 1) / 2,
+                    // El evento de deadline vive en la cola de la CPU víctima: robarlo lo dejaría atrás
+                    pcb -> !pcb.isRealTime() && (affinityOf(pcb) < 0 || affinityOf(pcb) == target));
+            for (ProcessControlBlock pcb : stolen) {
+                pcb.setChangeObserver(logs[thief]::touched);
+                pcb.appendHistory("Migrated to CPU " + thief);
+                cpus[thief].enqueue(pcb);
+                changeSink.accept(pcb);
+            }
+        }
+    }
+
+    private int affinityOf(ProcessControlBlock pcb) {
+        Integer affinity = pcb.getAffinity();
+        return affinity != null && affinity < cpus.length ? affinity : -1;
+    }
+
+    private VirtualTimeEngine cpuOf(ProcessControlBlock pcb) {
+        if (pcb.getCpu() < 0) {
+            // Todavía no llegó: queda fijado a su CPU de afinidad o a la 0
+            pcb.assignCpu(Math.max(0, affinityOf(pcb)));
+        }
+        return cpus[pcb.getCpu()];
+    }
+
+    @Override
+    public int getClock() {
+        return clock;
+    }
+
+    @Override
+    public EngineCheckpoint checkpoint() {
+        // Entre ventanas los logs de las CPUs ya se volcaron, así que no hay efectos pendientes
+        EngineCheckpoint.CpuState[] states = new EngineCheckpoint.CpuState[cpus.length];
+        for (int i = 0; i < cpus.length; i++) {
+            states[i] = cpus[i].captureCpu();
+        }
+        return new EngineCheckpoint(clock, EngineCheckpoint.pids(arrivals), nextArrival, states);
+    }
+
+    @Override
+    public void restore(EngineCheckpoint checkpoint, LongFunction<ProcessControlBlock> processes) {
+        if (checkpoint.getCpuCount() != cpus.length || checkpoint.getArrivals().length != arrivals.size()) {
+            throw new IllegalArgumentException("Checkpoint does not match a " + cpus.length + "-CPU run");
+        }
+        clock = checkpoint.getClock();
+        nextArrival = checkpoint.getNextArrival();
+        for (int i = 0; i < cpus.length; i++) {
+            cpus[i].restoreCpu(checkpoint.getCpu(i), processes);
+        }
+        // Los que ya llegaron publican sus cambios a través del log de su CPU
+        for (int i = 0; i < nextArrival; i++) {
+            ProcessControlBlock pcb = arrivals.get(i);
+            if (pcb.getCpu() >= 0 && pcb.getCpu() < cpus.length) {
+                pcb.setChangeObserver(logs[pcb.getCpu()]::touched);
+            }
+        }
+    }
+
+    @Override
+    public int getIoDuration() {
+        return ioDuration;
+    }
+
+    @Override
+    public int getCpuCount() {
+        return cpus.length;
+    }
+
+    @Override
+    public List<ProcessControlBlock> readySnapshot() {
+        List<ProcessControlBlock> ready = new ArrayList<>();
+        for (VirtualTimeEngine cpu : cpus) {
+            ready.addAll(cpu.readySnapshot());
+        }
+        return ready;
+    }
+
+    @Override
+    public int readySize() {
+        int size = 0;
+        for (VirtualTimeEngine cpu : cpus) {
+            size += cpu.readySize();
+        }
+        return size;
+    }
+
+    @Override
+    public List<ProcessControlBlock> runningSnapshot() {
+        List<ProcessControlBlock> running = new ArrayList<>(cpus.length);
+        for (VirtualTimeEngine cpu : cpus) {
+            running.add(cpu.getRunning());
+        }
+        return running;
+    }
+
+    @Override
+    public void onWaiting(ProcessControlBlock pcb) {
+        cpuOf(pcb).onWaiting(pcb);
+        flush(pcb);
+    }
+
+    @Override
+    public void onIoStarted(ProcessControlBlock pcb, int duration) {
+        cpuOf(pcb).onIoStarted(pcb, duration);
+        flush(pcb);
+    }
+
+    @Override
+    public void onReady(ProcessControlBlock pcb) {
+        cpuOf(pcb).onReady(pcb);
+        flush(pcb);
+    }
+
+    @Override
+    public void onTerminated(ProcessControlBlock pcb) {
+        cpuOf(pcb).onTerminated(pcb);
+        flush(pcb);
+    }
+
+    // Las interrupciones llegan entre ventanas: sus efectos se publican enseguida
+    private void flush(ProcessControlBlock pcb) {
+        replayLogs();
+        changeSink.accept(pcb);
+    }
+
+    /**
+     * Entrega al listener lo que registraron las CPUs mezclado por tiempo de
+     * simulación, con la CPU como desempate, para que el timeline y las
+     * estadísticas vean los eventos en el orden en que ocurrieron.
+     */
+    private void replayLogs() {
+        for (CpuLog log : logs) {
+            if (log.hasNext()) {
+                replayOrder.add(log);
+            }
+        }
+        while (!replayOrder.isEmpty()) {
+            CpuLog log = replayOrder.poll();
+            // Los eventos de una CPU ya vienen ordenados: se entregan mientras no la pase otra
+            CpuLog other = replayOrder.peek();
+            do {
+                log.replayNext(listener);
+            } while (log.hasNext() && (other == null || log.nextTime() < other.nextTime()
+                    || (log.nextTime() == other.nextTime() && log.cpu() < other.cpu())));
+            if (log.hasNext()) {
+                replayOrder.add(log);
+            }
+        }
+        for (CpuLog log : logs) {
+            log.finish(changeSink);
+        }
+    }
+
+    @Override
+    public void close() {
+        for (ProcessControlBlock pcb : arrivals) {
+            pcb.setChangeObserver(changeSink);
+        }
+    }
+
+    /**
+     * Acumula lo que produce una CPU durante la ventana para entregarlo al
+     * listener desde el hilo coordinador, que es el único que toca las
+     * estructuras de la sesión.
+     */
+    private static final class CpuLog implements SimulationListener {
+
+        private static final int DISPATCHED = 0;
+        private static final int RELEASED = 1;
+        private static final int TERMINATED = 2;
+        private static final int IO_COMPLETED = 3;
+        private static final int SLICE = 4;
+        private static final int JOB_COMPLETED = 5;
+        private static final int DEADLINE_MISSED = 6;
+
+        private final int cpu;
+        private final List<LoggedEvent> events = new ArrayList<>();
+        private final List<ProcessControlBlock> touched = new ArrayList<>();
+        // Reloj de la CPU que registra; marca el tiempo de cada evento
+        private IntSupplier clock;
+        private int next;
+
+        CpuLog(int cpu) {
+            this.cpu = cpu;
+        }
+
+        int cpu() {
+            return cpu;
+        }
+
+        void touched(ProcessControlBlock pcb) {
+            touched.add(pcb);
+        }
+
+        @Override
+        public void processDispatched(ProcessControlBlock pcb) {
+            events.add(new LoggedEvent(DISPATCHED, pcb, null, 0, clock.getAsInt()));
+        }
+
+        @Override
+        public void dispatchDecided(long nanos) {
+            events.add(new LoggedEvent(DISPATCHED, null, null, nanos, clock.getAsInt()));
+        }
+
+        @Override
+        public void processReleased(ProcessControlBlock pcb) {
+            events.add(new LoggedEvent(RELEASED, pcb, null, 0, clock.getAsInt()));
+        }
+
+        @Override
+        public void processTerminated(ProcessControlBlock pcb, int time) {
+            events.add(new LoggedEvent(TERMINATED, pcb, null, time, clock.getAsInt()));
+        }
+
+        @Override
+        public void jobCompleted(ProcessControlBlock pcb, int time) {
+            events.add(new LoggedEvent(JOB_COMPLETED, pcb, null, time, clock.getAsInt()));
+        }
+
+        @Override
+        public void deadlineMissed(ProcessControlBlock pcb, int time) {
+            events.add(new LoggedEvent(DEADLINE_MISSED, pcb, null, time, clock.getAsInt()));
+        }
+
+        @Override
+        public void ioCompleted(ProcessControlBlock pcb) {
+            events.add(new LoggedEvent(IO_COMPLETED, pcb, null, 0, clock.getAsInt()));
+        }
+
+        @Override
+        public void sliceCompleted(TimelineEntry entry) {
+            events.add(new LoggedEvent(SLICE, null, entry, 0, entry.getEnd()));
+        }
+
+        boolean hasNext() {
+            return next < events.size();
+        }
+
+        int nextTime() {
+            return events.get(next).time;
+        }
+
+        void replayNext(SimulationListener target) {
+            LoggedEvent event = events.get(next++);
+            switch (event.kind) {
+                case DISPATCHED -> {
+                    if (event.pcb == null) {
+                        target.dispatchDecided(event.value);
+                    } else {
+                        target.processDispatched(event.pcb);
+                    }
+                }
+                case RELEASED -> target.processReleased(event.pcb);
+                case TERMINATED -> target.processTerminated(event.pcb, (int) event.value);
+                case IO_COMPLETED -> target.ioCompleted(event.pcb);
+                case SLICE -> target.sliceCompleted(event.entry);
+                case JOB_COMPLETED -> target.jobCompleted(event.pcb, (int) event.value);
+                case DEADLINE_MISSED -> target.deadlineMissed(event.pcb, (int) event.value);
+                default -> throw new IllegalStateException("Unknown event " + event.kind);
+            }
+        }
+
+        void finish(Consumer<ProcessControlBlock> changeSink) {
+            events.clear();
+            next = 0;
+            touched.forEach(changeSink);
+            touched.clear();
+        }
+    }
+
+    private static final class LoggedEvent {
+
+        private final int kind;
+        private final ProcessControlBlock pcb;
+        private final TimelineEntry entry;
+        private final long value;
+        private final int time;
+
+        private LoggedEvent(int kind, ProcessControlBlock pcb, TimelineEntry entry, long value, int time) {
+            this.kind = kind;
+            this.pcb = pcb;
+            this.entry = entry;
+            this.value = value;
+            this.time = time;
+        }
+    }
+}
@@ -0,0 +1,151 @@
+package com.edu.ossimulator.engine;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import com.edu.ossimulator.model.ProcessControlBlock;
+
+/**
+ * Colas de MLFQ: una FIFO intrusiva por nivel (0 es el de mayor prioridad) y un
+ * bitmap con los niveles no vacíos, de modo que elegir el siguiente proceso es
+ * un {@code numberOfTrailingZeros} sin importar cuántos niveles o procesos haya.
+ *
+ * <p>El nivel de cada proceso vive en la PCB junto con la época del último
+ * boost; un boost solo incrementa la época y mueve los procesos encolados, y el
+ * resto (en CPU o en I/O) vuelve al nivel 0 la próxima vez que se consulta.
+ */
+public class MultilevelReadyQueue implements ReadyQueue {
+
+    public static final int MAX_LEVELS = Long.SIZE;
+
+    private final FifoReadyQueue[] levels;
+    private final int[] quanta;
+    private long nonEmpty;
+    private int size;
+    private int epoch;
+
+    public MultilevelReadyQueue(int[] quanta) {
+        if (quanta.length < 1 || quanta.length > MAX_LEVELS) {
+            throw new IllegalArgumentException("MLFQ needs between 1 and " + MAX_LEVELS + " levels");
+        }
+        this.quanta = quanta.clone();
+        this.levels = new FifoReadyQueue[quanta.length];
+        for (int i = 0; i < levels.length; i++) {
+            levels[i] = new FifoReadyQueue();
+        }
+    }
+
+    /** Nivel vigente del proceso: si hubo un boost desde que se fijó, es 0. */
+    public int levelOf(ProcessControlBlock pcb) {
+        return pcb.getLevelEpoch() == epoch ? pcb.getQueueLevel() : 0;
+    }
+
+    public int quantumFor(ProcessControlBlock pcb) {
+        return quanta[levelOf(pcb)];
+    }
+
+    /** Agotó su quantum: baja un nivel (si no está encolado). */
+    public void demote(ProcessControlBlock pcb) {
+        pcb.assignQueueLevel(Math.min(levelOf(pcb) + 1, levels.length - 1), epoch);
+    }
+
+    /** Volvió de I/O: sube un nivel (si no está encolado). */
+    public void promote(ProcessControlBlock pcb) {
+        pcb.assignQueueLevel(Math.max(levelOf(pcb) - 1, 0), epoch);
+    }
+
+    /** Proceso que llega de otra CPU: conserva el nivel que tenía allá. */
+    public void adopt(ProcessControlBlock pcb) {
+        pcb.assignQueueLevel(Math.min(pcb.getQueueLevel(), levels.length - 1), epoch);
+    }
+
+    /** Boost periódico: todos los procesos vuelven al nivel 0. */
+    public void boost() {
+        epoch++;
+        for (int level = 1; level < levels.length; level++) {
+            ProcessControlBlock pcb;
+            while ((pcb = levels[level].poll()) != null) {
+                pcb.assignQueueLevel(0, epoch);
+                levels[0].offer(pcb);
+            }
+        }
+        nonEmpty = levels[0].isEmpty() ? 0 : 1;
+    }
+
+    @Override
+    public long checkpointState() {
+        return epoch;
+    }
+
+    @Override
+    public void restoreState(long state) {
+        epoch = (int) state;
+    }
+
+    @Override
+    public void offer(ProcessControlBlock pcb) {
+        if (contains(pcb)) {
+            return;
+        }
+        int level = levelOf(pcb);
+        pcb.assignQueueLevel(level, epoch);
+        levels[level].offer(pcb);
+        nonEmpty |= 1L << level;
+        size++;
+    }
+
+    @Override
+    public ProcessControlBlock poll() {
+        if (nonEmpty == 0) {
+            return null;
+        }
+        int level = Long.numberOfTrailingZeros(nonEmpty);
+        ProcessControlBlock pcb = levels[level].poll();
+        afterRemoval(level);
+        return pcb;
+    }
+
+    @Override
+    public ProcessControlBlock peek() {
+        return nonEmpty == 0 ? null : levels[Long.numberOfTrailingZeros(nonEmpty)].peek();
+    }
+
+    @Override
+    public boolean remove(ProcessControlBlock pcb) {
+        if (!contains(pcb)) {
+            return false;
+        }
+        int level = pcb.getQueueLevel();
+        levels[level].remove(pcb);
+        afterRemoval(level);
+        return true;
+    }
+
+    @Override
+    public boolean contains(ProcessControlBlock pcb) {
+        // Un proceso encolado siempre tiene su nivel al día (el boost lo actualiza)
+        int level = pcb.getQueueLevel();
+        return pcb.getLevelEpoch() == epoch && level < levels.length && levels[level].contains(pcb);
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public List<ProcessControlBlock> snapshot() {
+        List<ProcessControlBlock> snapshot = new ArrayList<>(size);
+        for (FifoReadyQueue level : levels) {
+            snapshot.addAll(level.snapshot());
+        }
+        return snapshot;
+    }
+
+    private void afterRemoval(int level) {
+        size--;
+        if (levels[level].isEmpty()) {
+            nonEmpty &= ~(1L << level);
+        }
+    }
+}
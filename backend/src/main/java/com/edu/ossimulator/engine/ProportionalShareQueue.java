@@ -0,0 +1,27 @@
+package com.edu.ossimulator.engine;
+
+import com.edu.ossimulator.model.ProcessControlBlock;
+
+/**
+ * Cola ordenada por un reloj virtual propio de cada proceso (vruntime en FAIR,
+ * pass en STRIDE) que avanza con el tiempo de CPU consumido. El motor le avisa
+ * cuánto ejecutó cada proceso y cuándo entra a la cola por primera vez, al
+ * volver de I/O o al migrar de CPU; la clave solo cambia fuera de la cola.
+ */
+public interface ProportionalShareQueue extends ReadyQueue {
+
+    /** Suma al reloj del proceso las unidades que acaba de ejecutar. */
+    void account(ProcessControlBlock pcb, int executed);
+
+    /** Proceso nuevo: empieza en el piso de la cola para no acaparar la CPU. */
+    void placeNew(ProcessControlBlock pcb);
+
+    /** Vuelve de I/O: no puede quedar muy por detrás del piso por haber dormido. */
+    void placeWakeup(ProcessControlBlock pcb);
+
+    /** Sale hacia otra CPU: el reloj queda relativo al piso de esta cola. */
+    void detach(ProcessControlBlock pcb);
+
+    /** Llega desde otra CPU: el reloj relativo se traslada al piso de esta cola. */
+    void attach(ProcessControlBlock pcb);
+}
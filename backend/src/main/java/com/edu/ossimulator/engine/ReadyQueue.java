@@ -0,0 +1,95 @@
+package com.edu.ossimulator.engine;
+
+import java.util.Comparator;
+import java.util.List;
+
+import com.edu.ossimulator.model.ProcessControlBlock;
+import com.edu.ossimulator.model.SchedulerAlgorithm;
+
+/**
+ * Cola de procesos listos. Cada algoritmo decide el orden de despacho
+ * eligiendo la implementación adecuada.
+ */
+public interface ReadyQueue {
+
+    Comparator<ProcessControlBlock> BY_PRIORITY = Comparator.comparingInt(ProcessControlBlock::getEffectivePriority)
+            .thenComparingInt(ProcessControlBlock::getArrivalTime)
+            .thenComparingLong(ProcessControlBlock::getPid);
+
+    Comparator<ProcessControlBlock> BY_BURST = Comparator.comparingInt(ProcessControlBlock::getBurstTime)
+            .thenComparingInt(ProcessControlBlock::getArrivalTime)
+            .thenComparingLong(ProcessControlBlock::getPid);
+
+    Comparator<ProcessControlBlock> BY_REMAINING = Comparator.comparingInt(ProcessControlBlock::getRemainingTime)
+            .thenComparingInt(ProcessControlBlock::getArrivalTime)
+            .thenComparingLong(ProcessControlBlock::getPid);
+
+    Comparator<ProcessControlBlock> BY_DEADLINE = Comparator.comparingInt(ProcessControlBlock::getAbsoluteDeadline)
+            .thenComparingInt(ProcessControlBlock::getReleaseTime)
+            .thenComparingLong(ProcessControlBlock::getPid);
+
+    // Rate monotonic: prioridad fija por período; los procesos aperiódicos quedan al final
+    Comparator<ProcessControlBlock> BY_PERIOD = Comparator.comparingInt(ReadyQueue::ratePriority)
+            .thenComparingInt(ProcessControlBlock::getArrivalTime)
+            .thenComparingLong(ProcessControlBlock::getPid);
+
+    void offer(ProcessControlBlock pcb);
+
+    ProcessControlBlock poll();
+
+    ProcessControlBlock peek();
+
+    boolean remove(ProcessControlBlock pcb);
+
+    boolean contains(ProcessControlBlock pcb);
+
+    int size();
+
+    default boolean isEmpty() {
+        return size() == 0;
+    }
+
+    List<ProcessControlBlock> snapshot();
+
+    /**
+     * Reubica un proceso cuya clave de orden cambió mientras estaba en la cola
+     * (por ejemplo, por aging). En colas FIFO no hay nada que reordenar.
+     */
+    default void update(ProcessControlBlock pcb) {
+    }
+
+    /**
+     * Estado propio de la cola que no vive en las PCB (época del boost, piso
+     * del reloj virtual). Un checkpoint lo guarda junto con el orden de
+     * {@link #snapshot()} y lo repone antes de volver a encolar.
+     */
+    default long checkpointState() {
+        return 0;
+    }
+
+    default void restoreState(long state) {
+    }
+
+    static ReadyQueue forAlgorithm(SchedulerAlgorithm algorithm) {
+        return forAlgorithm(algorithm, new SchedulerOptions());
+    }
+
+    static ReadyQueue forAlgorithm(SchedulerAlgorithm algorithm, SchedulerOptions options) {
+        return switch (algorithm) {
+            case FCFS, ROUND_ROBIN -> new FifoReadyQueue();
+            case PRIORITY, PRIORITY_PREEMPTIVE -> new IndexedHeapReadyQueue(BY_PRIORITY);
+            case SJF -> new IndexedHeapReadyQueue(BY_BURST);
+            case SRTF -> new IndexedHeapReadyQueue(BY_REMAINING);
+            case MLFQ -> new MultilevelReadyQueue(options.getMlfqQuanta());
+            case FAIR -> new FairReadyQueue(options.getTargetLatency(), options.getMinGranularity());
+            case LOTTERY -> new LotteryReadyQueue(options.getSeed());
+            case STRIDE -> new StrideReadyQueue();
+            case EDF -> new IndexedHeapReadyQueue(BY_DEADLINE);
+            case RATE_MONOTONIC -> new IndexedHeapReadyQueue(BY_PERIOD);
+        };
+    }
+
+    static int ratePriority(ProcessControlBlock pcb) {
+        return pcb.getPeriod() != null ? pcb.getPeriod() : Integer.MAX_VALUE;
+    }
+}
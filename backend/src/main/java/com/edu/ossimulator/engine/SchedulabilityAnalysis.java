@@ -0,0 +1,86 @@
+package com.edu.ossimulator.engine;
+
+import com.edu.ossimulator.model.ProcessControlBlock;
+
+/**
+ * Pruebas de planificabilidad de las tareas periódicas, actualizadas en O(1)
+ * con cada alta en lugar de recorrer la tabla de procesos.
+ *
+ * <ul>
+ *   <li>EDF: con deadlines iguales al período es planificable si y solo si la
+ *   utilización Σ C/T no supera 1; con deadlines menores basta que la densidad
+ *   Σ C/min(D, T) no supere 1.</li>
+ *   <li>Rate monotonic: cota hiperbólica Π (C/T + 1) ≤ 2, suficiente y más
+ *   ajustada que la de Liu y Layland n(2^(1/n) - 1). Solo vale con deadlines
+ *   iguales al período.</li>
+ * </ul>
+ *
+ * Un resultado {@code null} indica que la prueba no es concluyente.
+ */
+public class SchedulabilityAnalysis {
+
+    // Margen para los errores de redondeo al acumular millones de términos
+    private static final double EPSILON = 1e-9;
+
+    private int tasks;
+    private int constrainedTasks;
+    private double utilization;
+    private double density;
+    private double hyperbolicProduct = 1.0;
+
+    public void add(ProcessControlBlock pcb) {
+        Integer period = pcb.getPeriod();
+        if (period == null) {
+            return;
+        }
+        int deadline = pcb.getRelativeDeadline();
+        double share = (double) pcb.getBurstTime() / period;
+        tasks++;
+        utilization += share;
+        density += (double) pcb.getBurstTime() / Math.min(deadline, period);
+        hyperbolicProduct *= share + 1;
+        if (deadline < period) {
+            constrainedTasks++;
+        }
+    }
+
+    public int getTasks() {
+        return tasks;
+    }
+
+    public double getUtilization() {
+        return utilization;
+    }
+
+    public double getDensity() {
+        return density;
+    }
+
+    public double getHyperbolicProduct() {
+        return hyperbolicProduct;
+    }
+
+    public double getLiuLaylandBound() {
+        return tasks == 0 ? 1.0 : tasks * (Math.pow(2, 1.0 / tasks) - 1);
+    }
+
+    public Boolean isEdfSchedulable() {
+        if (utilization > 1 + EPSILON) {
+            return false;
+        }
+        if (constrainedTasks == 0 || density <= 1 + EPSILON) {
+            return true;
+        }
+        return null;
+    }
+
+    public Boolean isRateMonotonicSchedulable() {
+        if (utilization > 1 + EPSILON) {
+            return false;
+        }
+        if (constrainedTasks > 0) {
+            return null;
+        }
+        return hyperbolicProduct <= 2 + EPSILON ? true : null;
+    }
+}
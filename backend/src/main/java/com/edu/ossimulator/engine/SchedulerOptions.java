@@ -0,0 +1,181 @@
+package com.edu.ossimulator.engine;
+
+import java.io.IOException;
+import java.io.StreamCorruptedException;
+
+import com.edu.ossimulator.util.SnapshotReader;
+import com.edu.ossimulator.util.SnapshotWriter;
+
+/**
+ * Parámetros de planificación que no dependen del modo de ejecución. Los
+ * valores por defecto reproducen el comportamiento clásico de cada algoritmo.
+ */
+public class SchedulerOptions {
+
+    public static final int DEFAULT_QUANTUM = 2;
+    public static final int DEFAULT_MLFQ_LEVELS = 3;
+    public static final int DEFAULT_BOOST_INTERVAL = 100;
+    public static final int DEFAULT_TARGET_LATENCY = 24;
+    public static final int DEFAULT_MIN_GRANULARITY = 3;
+    public static final long DEFAULT_SEED = 1L;
+    public static final int DEFAULT_HORIZON = 1000;
+
+    private int quantum = DEFAULT_QUANTUM;
+    // Unidades en READY tras las cuales un proceso sube un nivel de prioridad (0 = sin aging)
+    private int agingInterval;
+    // MLFQ: quantum de cada nivel (null = quantum base duplicado por nivel) y período del boost (0 = sin boost)
+    private int[] mlfqQuanta;
+    private int mlfqLevels = DEFAULT_MLFQ_LEVELS;
+    private int boostInterval = DEFAULT_BOOST_INTERVAL;
+    // FAIR: período en que todos los listos deberían correr y porción mínima por despacho
+    private int targetLatency = DEFAULT_TARGET_LATENCY;
+    private int minGranularity = DEFAULT_MIN_GRANULARITY;
+    // LOTTERY: semilla de los sorteos; fija por defecto para que las corridas se repitan
+    private long seed = DEFAULT_SEED;
+    // Tareas periódicas: no se liberan trabajos a partir de este instante
+    private int horizon = DEFAULT_HORIZON;
+
+    public SchedulerOptions() {
+    }
+
+    public SchedulerOptions(int quantum) {
+        this.quantum = quantum;
+    }
+
+    private SchedulerOptions(SchedulerOptions source) {
+        this.quantum = source.quantum;
+        this.agingInterval = source.agingInterval;
+        this.mlfqQuanta = source.mlfqQuanta;
+        this.mlfqLevels = source.mlfqLevels;
+        this.boostInterval = source.boostInterval;
+        this.targetLatency = source.targetLatency;
+        this.minGranularity = source.minGranularity;
+        this.seed = source.seed;
+        this.horizon = source.horizon;
+    }
+
+    /** Copia para una CPU de una corrida multinúcleo: cada una sortea con su propia semilla. */
+    public SchedulerOptions forCpu(int cpu) {
+        SchedulerOptions copy = new SchedulerOptions(this);
+        copy.seed = seed + cpu * 0x9E3779B97F4A7C15L;
+        return copy;
+    }
+
+    public void writeTo(SnapshotWriter out) throws IOException {
+        out.writeInt(quantum);
+        out.writeInt(agingInterval);
+        out.writeInt(mlfqQuanta != null ? mlfqQuanta.length : -1);
+        if (mlfqQuanta != null) {
+            for (int levelQuantum : mlfqQuanta) {
+                out.writeInt(levelQuantum);
+            }
+        }
+        out.writeInt(mlfqLevels);
+        out.writeInt(boostInterval);
+        out.writeInt(targetLatency);
+        out.writeInt(minGranularity);
+        out.writeLong(seed);
+        out.writeInt(horizon);
+    }
+
+    public static SchedulerOptions readFrom(SnapshotReader in) throws IOException {
+        SchedulerOptions options = new SchedulerOptions(in.readInt());
+        options.agingInterval = in.readInt();
+        int levels = in.readInt();
+        if (levels > MultilevelReadyQueue.MAX_LEVELS) {
+            throw new StreamCorruptedException("Invalid MLFQ levels " + levels);
+        }
+        if (levels >= 0) {
+            options.mlfqQuanta = new int[levels];
+            for (int level = 0; level < levels; level++) {
+                options.mlfqQuanta[level] = in.readInt();
+            }
+        }
+        options.mlfqLevels = in.readInt();
+        options.boostInterval = in.readInt();
+        options.targetLatency = in.readInt();
+        options.minGranularity = in.readInt();
+        options.seed = in.readLong();
+        options.horizon = in.readInt();
+        return options;
+    }
+
+    public int getQuantum() {
+        return quantum;
+    }
+
+    public void setQuantum(int quantum) {
+        this.quantum = quantum;
+    }
+
+    public int getAgingInterval() {
+        return agingInterval;
+    }
+
+    public void setAgingInterval(int agingInterval) {
+        this.agingInterval = agingInterval;
+    }
+
+    public int[] getMlfqQuanta() {
+        if (mlfqQuanta != null) {
+            return mlfqQuanta;
+        }
+        int[] quanta = new int[mlfqLevels];
+        for (int level = 0; level < mlfqLevels; level++) {
+            quanta[level] = (int) Math.min(Integer.MAX_VALUE, (long) quantum << Math.min(level, 31));
+        }
+        return quanta;
+    }
+
+    public void setMlfqQuanta(int[] mlfqQuanta) {
+        this.mlfqQuanta = mlfqQuanta;
+    }
+
+    public int getMlfqLevels() {
+        return mlfqQuanta != null ? mlfqQuanta.length : mlfqLevels;
+    }
+
+    public void setMlfqLevels(int mlfqLevels) {
+        this.mlfqLevels = mlfqLevels;
+    }
+
+    public int getBoostInterval() {
+        return boostInterval;
+    }
+
+    public void setBoostInterval(int boostInterval) {
+        this.boostInterval = boostInterval;
+    }
+
+    public int getTargetLatency() {
+        return targetLatency;
+    }
+
+    public void setTargetLatency(int targetLatency) {
+        this.targetLatency = targetLatency;
+    }
+
+    public int getMinGranularity() {
+        return minGranularity;
+    }
+
+    public void setMinGranularity(int minGranularity) {
+        this.minGranularity = minGranularity;
+    }
+
+    public long getSeed() {
+        return seed;
+    }
+
+    public void setSeed(long seed) {
+        this.seed = seed;
+    }
+
+    public int getHorizon() {
+        return horizon;
+    }
+
+    public void setHorizon(int horizon) {
+        this.horizon = horizon;
+    }
+}
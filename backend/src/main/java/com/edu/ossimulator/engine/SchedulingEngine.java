@@ -0,0 +1,63 @@
+package com.edu.ossimulator.engine;
+
+import java.util.List;
+import java.util.function.LongFunction;
+
+import com.edu.ossimulator.model.ProcessControlBlock;
+
+/**
+ * Motor de simulación en tiempo virtual visto desde la sesión: se avanza por
+ * lotes con el lock de la sesión tomado y recibe los avisos de las
+ * interrupciones emitidas por la API entre lote y lote.
+ */
+public interface SchedulingEngine {
+
+    /**
+     * Avanza un lote de trabajo.
+     *
+     * @return {@code false} cuando ya no queda nada por simular.
+     */
+    boolean advance(int maxEvents);
+
+    /**
+     * Procesa todo lo anterior al instante {@code time}; lo usa el modo en
+     * tiempo real, que avanza una unidad por segundo.
+     *
+     * @return {@code false} cuando ya no queda nada por simular.
+     */
+    boolean advanceTo(int time);
+
+    int getClock();
+
+    int getIoDuration();
+
+    int getCpuCount();
+
+    List<ProcessControlBlock> readySnapshot();
+
+    int readySize();
+
+    /** Proceso en ejecución en cada CPU ({@code null} si está ociosa). */
+    List<ProcessControlBlock> runningSnapshot();
+
+    void onWaiting(ProcessControlBlock pcb);
+
+    void onIoStarted(ProcessControlBlock pcb, int duration);
+
+    void onReady(ProcessControlBlock pcb);
+
+    void onTerminated(ProcessControlBlock pcb);
+
+    /** Estado entre dos lotes para guardarlo en un checkpoint. */
+    EngineCheckpoint checkpoint();
+
+    /**
+     * Retoma el estado de un checkpoint en un motor recién construido con los
+     * procesos de {@link EngineCheckpoint#getArrivals()}, antes del primer lote.
+     */
+    void restore(EngineCheckpoint checkpoint, LongFunction<ProcessControlBlock> processes);
+
+    /** Libera lo que el motor haya tomado de los PCB al terminar o detener la corrida. */
+    default void close() {
+    }
+}
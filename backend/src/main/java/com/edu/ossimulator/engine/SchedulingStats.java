@@ -0,0 +1,142 @@
+package com.edu.ossimulator.engine;
+
+import java.io.IOException;
+
+import com.edu.ossimulator.model.ProcessControlBlock;
+import com.edu.ossimulator.util.LogHistogram;
+import com.edu.ossimulator.util.SnapshotReader;
+import com.edu.ossimulator.util.SnapshotWriter;
+
+/**
+ * Estadísticas de planificación que se actualizan al cerrar cada ráfaga y al
+ * terminar cada proceso, sin volver a recorrer el timeline. La memoria es fija:
+ * los tiempos por proceso quedan en la PCB y los agregados en histogramas.
+ *
+ * <ul>
+ *   <li>respuesta = primer despacho - llegada</li>
+ *   <li>retorno (turnaround) = finalización - llegada</li>
+ *   <li>espera = retorno - ráfaga (todo el tiempo fuera de la CPU, incluida la I/O)</li>
+ * </ul>
+ *
+ * En las tareas periódicas cada trabajo cuenta por separado, medido desde su
+ * liberación en lugar de la llegada.
+ *
+ * No es thread-safe; se actualiza y se lee con el lock de la sesión.
+ */
+public class SchedulingStats {
+
+    private final LogHistogram waiting;
+    private final LogHistogram turnaround;
+    private final LogHistogram response;
+    private final int cpus;
+    private long busyTime;
+    private long slices;
+    private long deadlineMisses;
+    private int lastTime;
+
+    public SchedulingStats() {
+        this(1);
+    }
+
+    public SchedulingStats(int cpus) {
+        this(cpus, new LogHistogram(), new LogHistogram(), new LogHistogram());
+    }
+
+    private SchedulingStats(int cpus, LogHistogram waiting, LogHistogram turnaround, LogHistogram response) {
+        this.cpus = cpus;
+        this.waiting = waiting;
+        this.turnaround = turnaround;
+        this.response = response;
+    }
+
+    public void writeTo(SnapshotWriter out) throws IOException {
+        out.writeInt(cpus);
+        out.writeLong(busyTime);
+        out.writeLong(slices);
+        out.writeLong(deadlineMisses);
+        out.writeInt(lastTime);
+        waiting.writeTo(out);
+        turnaround.writeTo(out);
+        response.writeTo(out);
+    }
+
+    public static SchedulingStats readFrom(SnapshotReader in) throws IOException {
+        int cpus = in.readInt();
+        long busyTime = in.readLong();
+        long slices = in.readLong();
+        long deadlineMisses = in.readLong();
+        int lastTime = in.readInt();
+        SchedulingStats stats = new SchedulingStats(cpus, LogHistogram.readFrom(in), LogHistogram.readFrom(in),
+                LogHistogram.readFrom(in));
+        stats.busyTime = busyTime;
+        stats.slices = slices;
+        stats.deadlineMisses = deadlineMisses;
+        stats.lastTime = lastTime;
+        return stats;
+    }
+
+    public void processDispatched(ProcessControlBlock pcb, int time) {
+        if (pcb.getFirstRunTime() < 0) {
+            pcb.setFirstRunTime(time);
+            response.record(time - pcb.getReleaseTime());
+        }
+    }
+
+    public void sliceCompleted(ProcessControlBlock pcb, int start, int end) {
+        processDispatched(pcb, start);
+        if (end > start) {
+            busyTime += end - start;
+            slices++;
+            lastTime = Math.max(lastTime, end);
+        }
+    }
+
+    public void processCompleted(ProcessControlBlock pcb, int time) {
+        pcb.setCompletionTime(time);
+        int turnaroundTime = time - pcb.getReleaseTime();
+        turnaround.record(turnaroundTime);
+        waiting.record(turnaroundTime - pcb.getBurstTime());
+        lastTime = Math.max(lastTime, time);
+    }
+
+    public void deadlineMissed() {
+        deadlineMisses++;
+    }
+
+    public LogHistogram getWaiting() {
+        return waiting;
+    }
+
+    public LogHistogram getTurnaround() {
+        return turnaround;
+    }
+
+    public LogHistogram getResponse() {
+        return response;
+    }
+
+    public long getCompleted() {
+        return turnaround.getCount();
+    }
+
+    public int getCpus() {
+        return cpus;
+    }
+
+    public long getBusyTime() {
+        return busyTime;
+    }
+
+    public long getSlices() {
+        return slices;
+    }
+
+    public long getDeadlineMisses() {
+        return deadlineMisses;
+    }
+
+    /** Último instante con actividad; la simulación siempre empieza en 0. */
+    public int getElapsed() {
+        return lastTime;
+    }
+}
@@ -0,0 +1,56 @@
+package com.edu.ossimulator.engine;
+
+import com.edu.ossimulator.model.ProcessControlBlock;
+
+public class SimulationEvent implements Comparable<SimulationEvent> {
+
+    private final int time;
+    private final EventType type;
+    private final long sequence;
+    private final ProcessControlBlock process;
+    private boolean cancelled;
+
+    public SimulationEvent(int time, EventType type, long sequence, ProcessControlBlock process) {
+        this.time = time;
+        this.type = type;
+        this.sequence = sequence;
+        this.process = process;
+    }
+
+    public int getTime() {
+        return time;
+    }
+
+    public EventType getType() {
+        return type;
+    }
+
+    public long getSequence() {
+        return sequence;
+    }
+
+    public ProcessControlBlock getProcess() {
+        return process;
+    }
+
+    public boolean isCancelled() {
+        return cancelled;
+    }
+
+    public void cancel() {
+        this.cancelled = true;
+    }
+
+    @Override
+    public int compareTo(SimulationEvent other) {
+        int byTime = Integer.compare(time, other.time);
+        if (byTime != 0) {
+            return byTime;
+        }
+        int byType = Integer.compare(type.ordinal(), other.type.ordinal());
+        if (byType != 0) {
+            return byType;
+        }
+        return Long.compare(sequence, other.sequence);
+    }
+}
@@ -0,0 +1,34 @@
+package com.edu.ossimulator.engine;
+
+import com.edu.ossimulator.dto.TimelineEntry;
+import com.edu.ossimulator.model.ProcessControlBlock;
+
+/**
+ * Recibe los efectos del motor en tiempo virtual sobre las estructuras del
+ * sistema (proceso en ejecución, colas y timeline). Los estados de los PCB
+ * los actualiza el propio motor.
+ */
+public interface SimulationListener {
+
+    void processDispatched(ProcessControlBlock pcb);
+
+    void processReleased(ProcessControlBlock pcb);
+
+    void processTerminated(ProcessControlBlock pcb, int time);
+
+    void ioCompleted(ProcessControlBlock pcb);
+
+    void sliceCompleted(TimelineEntry entry);
+
+    /** Terminó un trabajo de una tarea periódica que todavía tiene liberaciones por delante. */
+    default void jobCompleted(ProcessControlBlock pcb, int time) {
+    }
+
+    /** Un trabajo llegó a su deadline sin terminar; sigue ejecutándose igual. */
+    default void deadlineMissed(ProcessControlBlock pcb, int time) {
+    }
+
+    /** Tiempo que tomó elegir el siguiente proceso de la cola ready. */
+    default void dispatchDecided(long nanos) {
+    }
+}
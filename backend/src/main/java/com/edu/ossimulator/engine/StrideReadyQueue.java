@@ -0,0 +1,106 @@
+package com.edu.ossimulator.engine;
+
+import java.util.Comparator;
+import java.util.List;
+
+import com.edu.ossimulator.model.ProcessControlBlock;
+
+/**
+ * Cola de STRIDE: heap indexado por pass. Cada proceso avanza su pass en
+ * {@code STRIDE1 / boletos} por unidad ejecutada y siempre se despacha el de
+ * menor pass, así la CPU se reparte en proporción a los boletos de forma
+ * determinista y cada elección cuesta O(log n).
+ */
+public class StrideReadyQueue implements ProportionalShareQueue {
+
+    // Numerador del stride: con 10^6 boletos el stride todavía es 1073, así el redondeo es despreciable
+    public static final long STRIDE1 = 1L << 30;
+
+    private static final Comparator<ProcessControlBlock> BY_PASS = Comparator.comparingLong(ProcessControlBlock::getPass)
+            .thenComparingLong(ProcessControlBlock::getPid);
+
+    private final IndexedHeapReadyQueue heap = new IndexedHeapReadyQueue(BY_PASS);
+    // Piso monótono del pass (el global_pass del algoritmo original)
+    private long globalPass;
+
+    public static long strideOf(ProcessControlBlock pcb) {
+        return STRIDE1 / pcb.getTickets();
+    }
+
+    @Override
+    public void account(ProcessControlBlock pcb, int executed) {
+        pcb.assignPass(pcb.getPass() + strideOf(pcb) * executed);
+        long floor = pcb.getPass();
+        ProcessControlBlock head = heap.peek();
+        if (head != null) {
+            floor = Math.min(floor, head.getPass());
+        }
+        globalPass = Math.max(globalPass, floor);
+    }
+
+    @Override
+    public void placeNew(ProcessControlBlock pcb) {
+        pcb.assignPass(Math.max(pcb.getPass(), globalPass));
+    }
+
+    /** Sin crédito por el tiempo en I/O: vuelve como mínimo al piso. */
+    @Override
+    public void placeWakeup(ProcessControlBlock pcb) {
+        placeNew(pcb);
+    }
+
+    @Override
+    public void detach(ProcessControlBlock pcb) {
+        pcb.assignPass(pcb.getPass() - globalPass);
+    }
+
+    @Override
+    public void attach(ProcessControlBlock pcb) {
+        pcb.assignPass(pcb.getPass() + globalPass);
+    }
+
+    @Override
+    public long checkpointState() {
+        return globalPass;
+    }
+
+    @Override
+    public void restoreState(long state) {
+        globalPass = state;
+    }
+
+    @Override
+    public void offer(ProcessControlBlock pcb) {
+        heap.offer(pcb);
+    }
+
+    @Override
+    public ProcessControlBlock poll() {
+        return heap.poll();
+    }
+
+    @Override
+    public ProcessControlBlock peek() {
+        return heap.peek();
+    }
+
+    @Override
+    public boolean remove(ProcessControlBlock pcb) {
+        return heap.remove(pcb);
+    }
+
+    @Override
+    public boolean contains(ProcessControlBlock pcb) {
+        return heap.contains(pcb);
+    }
+
+    @Override
+    public int size() {
+        return heap.size();
+    }
+
+    @Override
+    public List<ProcessControlBlock> snapshot() {
+        return heap.snapshot();
+    }
+}
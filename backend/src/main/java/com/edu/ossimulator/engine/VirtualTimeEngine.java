@@ -0,0 +1,698 @@
+package com.edu.ossimulator.engine;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.PriorityQueue;
+import java.util.function.LongFunction;
+import java.util.function.Predicate;
+
+import com.edu.ossimulator.dto.TimelineEntry;
+import com.edu.ossimulator.model.ProcessControlBlock;
+import com.edu.ossimulator.model.ProcessState;
+import com.edu.ossimulator.model.SchedulerAlgorithm;
+import com.edu.ossimulator.util.LongObjectHashMap;
+
+/**
+ * Motor de eventos discretos: avanza el reloj de evento en evento (llegadas,
+ * fin de ráfaga/quantum y fin de I/O) en lugar de esperar un segundo real por
+ * unidad de tiempo. No es thread-safe; quien lo invoque debe serializar
+ * {@link #advance(int)} y los avisos de interrupción con el mismo lock.
+ *
+ * <p>También sirve como CPU individual de {@link MultiCoreEngine}: en ese caso
+ * no recibe la lista de llegadas sino que se le entregan procesos con
+ * {@link #addArrival} y avanza por ventanas con {@link #advanceUntil(int)}.
+ *
+ * <p>SRTF y PRIORITY_PREEMPTIVE expropian la CPU cuando un proceso que pasa a
+ * READY es mejor que el que está corriendo; la comparación es contra el tope
+ * del heap, así que cuesta O(1) más el O(log n) de reinsertar al expropiado.
+ * MLFQ expropia igual cuando el proceso que llega está en un nivel superior, y
+ * FAIR cuando el que corre lo aventaja en vruntime por más de la granularidad.
+ *
+ * <p>Un proceso con período libera un trabajo nuevo cada {@code period}
+ * unidades hasta el horizonte de la corrida, y uno con deadline genera un
+ * evento DEADLINE por trabajo que solo avisa si todavía no terminó (deadline
+ * blando: el trabajo sigue). EDF y RATE_MONOTONIC expropian por deadline
+ * absoluto o por período. Si un trabajo no terminó al liberarse el siguiente,
+ * este espera detrás y arranca apenas termina el anterior.
+ */
+public class VirtualTimeEngine implements SchedulingEngine {
+
+    public static final int DEFAULT_IO_DURATION = 5;
+
+    private final SchedulerAlgorithm algorithm;
+    private final int cpu;
+    private final int quantum;
+    private final int agingInterval;
+    private final boolean preemptive;
+    private final int ioDuration;
+    private final SimulationListener listener;
+    private final List<ProcessControlBlock> arrivals;
+    private final ReadyQueue ready;
+    // Solo en MLFQ: la misma cola que ready, con acceso a los niveles
+    private final MultilevelReadyQueue levels;
+    private final int boostInterval;
+    private boolean boostPending;
+    // En FAIR y STRIDE: la misma cola que ready, con acceso al reloj virtual de cada proceso
+    private final ProportionalShareQueue shares;
+    private final FairReadyQueue fair;
+    private final PriorityQueue<SimulationEvent> events = new PriorityQueue<>();
+    private final LongObjectHashMap<SimulationEvent> pendingIo = new LongObjectHashMap<>();
+    private final LongObjectHashMap<SimulationEvent> pendingAging = new LongObjectHashMap<>();
+    private final LongObjectHashMap<SimulationEvent> pendingDeadline = new LongObjectHashMap<>();
+    private final int horizon;
+
+    private int nextArrival;
+    private long sequence;
+    private int clock;
+    private ProcessControlBlock running;
+    private int sliceStart;
+    private SimulationEvent sliceEnd;
+
+    public VirtualTimeEngine(SchedulerAlgorithm algorithm,
+                             int quantum,
+                             int ioDuration,
+                             List<ProcessControlBlock> processes,
+                             SimulationListener listener) {
+        this(algorithm, new SchedulerOptions(quantum), ioDuration, 0, processes, listener);
+    }
+
+    public VirtualTimeEngine(SchedulerAlgorithm algorithm,
+                             SchedulerOptions options,
+                             int ioDuration,
+                             List<ProcessControlBlock> processes,
+                             SimulationListener listener) {
+        this(algorithm, options, ioDuration, 0, processes, listener);
+    }
+
+    VirtualTimeEngine(SchedulerAlgorithm algorithm,
+                      SchedulerOptions options,
+                      int ioDuration,
+                      int cpu,
+                      List<ProcessControlBlock> processes,
+                      SimulationListener listener) {
+        this.algorithm = algorithm;
+        this.cpu = cpu;
+        this.quantum = options.getQuantum();
+        this.preemptive = algorithm == SchedulerAlgorithm.SRTF || algorithm == SchedulerAlgorithm.PRIORITY_PREEMPTIVE
+                || algorithm == SchedulerAlgorithm.MLFQ || algorithm == SchedulerAlgorithm.FAIR
+                || algorithm == SchedulerAlgorithm.EDF || algorithm == SchedulerAlgorithm.RATE_MONOTONIC;
+        // El aging solo tiene sentido donde se despacha por prioridad
+        this.agingInterval = algorithm == SchedulerAlgorithm.PRIORITY || algorithm == SchedulerAlgorithm.PRIORITY_PREEMPTIVE
+                ? options.getAgingInterval()
+                : 0;
+        this.ioDuration = ioDuration;
+        this.horizon = options.getHorizon();
+        this.listener = listener;
+        this.arrivals = new ArrayList<>(processes);
+        this.arrivals.sort(Comparator.comparingInt(ProcessControlBlock::getArrivalTime));
+        this.ready = ReadyQueue.forAlgorithm(algorithm, options);
+        this.levels = ready instanceof MultilevelReadyQueue multilevel ? multilevel : null;
+        this.boostInterval = levels != null ? options.getBoostInterval() : 0;
+        this.shares = ready instanceof ProportionalShareQueue shareQueue ? shareQueue : null;
+        this.fair = ready instanceof FairReadyQueue fairQueue ? fairQueue : null;
+        scheduleNextArrival();
+    }
+
+    /**
+     * Procesa como máximo {@code maxEvents} eventos.
+     *
+     * @return {@code false} cuando ya no quedan eventos ni procesos listos.
+     */
+    @Override
+    public boolean advance(int maxEvents) {
+        int processed = 0;
+        while (processed < maxEvents) {
+            // Solo se despacha cuando se consumieron todos los eventos del instante actual
+            if (running == null && !ready.isEmpty()
+                    && (events.isEmpty() || events.peek().getTime() > clock)) {
+                dispatch();
+                processed++;
+                continue;
+            }
+            SimulationEvent event = events.poll();
+            if (event == null) {
+                return false;
+            }
+            if (event.isCancelled()) {
+                continue;
+            }
+            clock = event.getTime();
+            switch (event.getType()) {
+                case ARRIVAL -> handleArrival(event.getProcess());
+                case SLICE_END -> handleSliceEnd(event.getProcess());
+                case IO_COMPLETION -> handleIoCompletion(event.getProcess());
+                case AGING -> handleAging(event.getProcess());
+                case BOOST -> handleBoost();
+                case DEADLINE -> handleDeadline(event.getProcess());
+                case RELEASE -> handleRelease(event.getProcess());
+            }
+            processed++;
+        }
+        return true;
+    }
+
+    /**
+     * Procesa todos los eventos anteriores a {@code limit} y deja el reloj en
+     * {@code limit}. Un proceso en ejecución cuya ráfaga termina después sigue
+     * en la CPU para la próxima ventana.
+     */
+    void advanceUntil(int limit) {
+        while (true) {
+            if (running == null && !ready.isEmpty()
+                    && (events.isEmpty() || events.peek().getTime() > clock)) {
+                dispatch();
+                continue;
+            }
+            SimulationEvent event = events.peek();
+            if (event == null || event.getTime() >= limit) {
+                break;
+            }
+            events.poll();
+            if (event.isCancelled()) {
+                continue;
+            }
+            clock = event.getTime();
+            switch (event.getType()) {
+                case ARRIVAL -> handleArrival(event.getProcess());
+                case SLICE_END -> handleSliceEnd(event.getProcess());
+                case IO_COMPLETION -> handleIoCompletion(event.getProcess());
+                case AGING -> handleAging(event.getProcess());
+                case BOOST -> handleBoost();
+                case DEADLINE -> handleDeadline(event.getProcess());
+                case RELEASE -> handleRelease(event.getProcess());
+            }
+        }
+        clock = Math.max(clock, limit);
+    }
+
+    /**
+     * Igual que {@link #advanceUntil(int)}, para quien marca el ritmo desde
+     * afuera (tiempo real).
+     *
+     * @return {@code false} cuando ya no queda trabajo.
+     */
+    @Override
+    public boolean advanceTo(int time) {
+        advanceUntil(time);
+        return hasWork();
+    }
+
+    /** Programa la llegada de un proceso asignado a esta CPU. */
+    void addArrival(ProcessControlBlock pcb) {
+        pcb.assignCpu(cpu);
+        schedule(Math.max(clock, pcb.getArrivalTime()), EventType.ARRIVAL, pcb);
+    }
+
+    /** Recibe un proceso listo migrado desde otra CPU. */
+    void enqueue(ProcessControlBlock pcb) {
+        pcb.assignCpu(cpu);
+        if (levels != null) {
+            levels.adopt(pcb);
+        }
+        if (shares != null) {
+            shares.attach(pcb);
+        }
+        makeReady(pcb);
+        checkPreemption();
+    }
+
+    /**
+     * Retira hasta {@code max} procesos listos que cumplan {@code eligible},
+     * en orden de despacho, para que otra CPU los ejecute.
+     */
+    List<ProcessControlBlock> steal(int max, Predicate<ProcessControlBlock> eligible) {
+        List<ProcessControlBlock> stolen = new ArrayList<>();
+        List<ProcessControlBlock> skipped = new ArrayList<>();
+        while (stolen.size() < max && !ready.isEmpty()) {
+            ProcessControlBlock pcb = ready.poll();
+            (eligible.test(pcb) ? stolen : skipped).add(pcb);
+            if (skipped.size() > max) {
+                break;
+            }
+        }
+        skipped.forEach(ready::offer);
+        stolen.forEach(this::cancelAging);
+        if (shares != null) {
+            stolen.forEach(shares::detach);
+        }
+        return stolen;
+    }
+
+    /** Procesos listos más el que está en ejecución. */
+    int load() {
+        return ready.size() + (running != null ? 1 : 0);
+    }
+
+    boolean hasWork() {
+        return running != null || !ready.isEmpty() || !events.isEmpty();
+    }
+
+    public void runToCompletion() {
+        while (advance(Integer.MAX_VALUE)) {
+            // El motor devuelve el control solo al agotar los eventos
+        }
+    }
+
+    @Override
+    public int getClock() {
+        return clock;
+    }
+
+    @Override
+    public EngineCheckpoint checkpoint() {
+        return new EngineCheckpoint(clock, EngineCheckpoint.pids(arrivals), nextArrival,
+                new EngineCheckpoint.CpuState[] {captureCpu()});
+    }
+
+    @Override
+    public void restore(EngineCheckpoint checkpoint, LongFunction<ProcessControlBlock> processes) {
+        if (checkpoint.getCpuCount() != 1 || checkpoint.getArrivals().length != arrivals.size()) {
+            throw new IllegalArgumentException("Checkpoint does not match a single-CPU run");
+        }
+        nextArrival = checkpoint.getNextArrival();
+        restoreCpu(checkpoint.getCpu(0), processes);
+    }
+
+    EngineCheckpoint.CpuState captureCpu() {
+        List<SimulationEvent> live = new ArrayList<>(events.size());
+        for (SimulationEvent event : events) {
+            if (!event.isCancelled()) {
+                live.add(event);
+            }
+        }
+        int[] times = new int[live.size()];
+        EventType[] types = new EventType[live.size()];
+        long[] sequences = new long[live.size()];
+        long[] pids = new long[live.size()];
+        for (int i = 0; i < times.length; i++) {
+            SimulationEvent event = live.get(i);
+            times[i] = event.getTime();
+            types[i] = event.getType();
+            sequences[i] = event.getSequence();
+            pids[i] = event.getProcess() != null ? event.getProcess().getPid() : 0;
+        }
+        return new EngineCheckpoint.CpuState(clock, sequence, running != null ? running.getPid() : 0, sliceStart,
+                ready.checkpointState(), EngineCheckpoint.pids(ready.snapshot()), times, types, sequences, pids);
+    }
+
+    // Los eventos se comparan por (tiempo, tipo, secuencia), así que reinsertarlos
+    // en cualquier orden reproduce el mismo orden de proceso
+    void restoreCpu(EngineCheckpoint.CpuState state, LongFunction<ProcessControlBlock> processes) {
+        events.clear();
+        pendingIo.clear();
+        pendingAging.clear();
+        pendingDeadline.clear();
+        boostPending = false;
+        sliceEnd = null;
+        clock = state.clock;
+        sequence = state.sequence;
+        sliceStart = state.sliceStart;
+        ready.restoreState(state.queueState);
+        for (long pid : state.ready) {
+            ready.offer(lookup(processes, pid));
+        }
+        running = state.running != 0 ? lookup(processes, state.running) : null;
+        for (int i = 0; i < state.eventTimes.length; i++) {
+            ProcessControlBlock pcb = state.eventPids[i] != 0 ? lookup(processes, state.eventPids[i]) : null;
+            if ((pcb == null) != (state.eventTypes[i] == EventType.BOOST)) {
+                throw new IllegalArgumentException("Checkpoint has a " + state.eventTypes[i] + " event with PID "
+                        + state.eventPids[i]);
+            }
+            SimulationEvent event = new SimulationEvent(state.eventTimes[i], state.eventTypes[i], state.eventSequences[i], pcb);
+            events.add(event);
+            switch (event.getType()) {
+                case SLICE_END -> sliceEnd = event;
+                case IO_COMPLETION -> pendingIo.put(pcb.getPid(), event);
+                case AGING -> pendingAging.put(pcb.getPid(), event);
+                case DEADLINE -> pendingDeadline.put(pcb.getPid(), event);
+                case BOOST -> boostPending = true;
+                default -> {
+                }
+            }
+        }
+        if ((running == null) != (sliceEnd == null)) {
+            throw new IllegalArgumentException("Checkpoint has a running process without its slice end");
+        }
+    }
+
+    private static ProcessControlBlock lookup(LongFunction<ProcessControlBlock> processes, long pid) {
+        ProcessControlBlock pcb = processes.apply(pid);
+        if (pcb == null) {
+            throw new IllegalArgumentException("Checkpoint references unknown PID " + pid);
+        }
+        return pcb;
+    }
+
+    @Override
+    public List<ProcessControlBlock> readySnapshot() {
+        return ready.snapshot();
+    }
+
+    @Override
+    public int readySize() {
+        return ready.size();
+    }
+
+    @Override
+    public List<ProcessControlBlock> runningSnapshot() {
+        return Collections.singletonList(running);
+    }
+
+    @Override
+    public int getCpuCount() {
+        return 1;
+    }
+
+    ProcessControlBlock getRunning() {
+        return running;
+    }
+
+    @Override
+    public int getIoDuration() {
+        return ioDuration;
+    }
+
+    @Override
+    public void onWaiting(ProcessControlBlock pcb) {
+        ready.remove(pcb);
+        cancelPendingIo(pcb);
+        cancelAging(pcb);
+        if (running == pcb) {
+            interruptRunning();
+        }
+    }
+
+    @Override
+    public void onIoStarted(ProcessControlBlock pcb, int duration) {
+        onWaiting(pcb);
+        pendingIo.put(pcb.getPid(), schedule(clock + duration, EventType.IO_COMPLETION, pcb));
+    }
+
+    @Override
+    public void onReady(ProcessControlBlock pcb) {
+        cancelPendingIo(pcb);
+        if (running == pcb) {
+            interruptRunning();
+            // Quantum expirado por interrupción: en MLFQ cuenta como quantum agotado
+            if (levels != null) {
+                levels.demote(pcb);
+            }
+        } else if (pcb.getState() == ProcessState.READY && !ready.contains(pcb)) {
+            if (levels != null) {
+                levels.promote(pcb);
+            }
+            if (shares != null) {
+                shares.placeWakeup(pcb);
+            }
+        }
+        if (pcb.getRemainingTime() > 0 && !ready.contains(pcb)) {
+            makeReady(pcb);
+            checkPreemption();
+        }
+    }
+
+    @Override
+    public void onTerminated(ProcessControlBlock pcb) {
+        ready.remove(pcb);
+        cancelPendingIo(pcb);
+        cancelAging(pcb);
+        cancelDeadline(pcb);
+        if (running == pcb) {
+            interruptRunning();
+        }
+    }
+
+    private void handleArrival(ProcessControlBlock pcb) {
+        if (pcb.getState() != ProcessState.TERMINATED) {
+            // La llegada es la liberación del primer trabajo
+            pcb.releaseJob();
+            scheduleRelease(pcb);
+            armDeadline(pcb);
+        }
+        if (pcb.getState() != ProcessState.TERMINATED && pcb.getState() != ProcessState.WAITING) {
+            pcb.setState(ProcessState.READY);
+            if (shares != null) {
+                shares.placeNew(pcb);
+            }
+            makeReady(pcb);
+            checkPreemption();
+        }
+        scheduleNextArrival();
+    }
+
+    private void handleSliceEnd(ProcessControlBlock pcb) {
+        pcb.setRemainingTime(pcb.getRemainingTime() - (clock - sliceStart));
+        if (shares != null) {
+            shares.account(pcb, clock - sliceStart);
+        }
+        listener.sliceCompleted(new TimelineEntry(pcb.getPid(), pcb.getName(), sliceStart, clock, algorithm, cpu));
+        running = null;
+        sliceEnd = null;
+        pcb.resetEffectivePriority();
+        if (pcb.getRemainingTime() > 0) {
+            pcb.setState(ProcessState.READY);
+            if (levels != null) {
+                levels.demote(pcb);
+            }
+            makeReady(pcb);
+            listener.processReleased(pcb);
+        } else {
+            pcb.setRemainingTime(0);
+            cancelDeadline(pcb);
+            if (pcb.hasBacklog()) {
+                listener.jobCompleted(pcb, clock);
+                startNextJob(pcb);
+            } else if (nextRelease(pcb) < horizon) {
+                pcb.setState(ProcessState.WAITING, "Job completed");
+                listener.jobCompleted(pcb, clock);
+            } else {
+                pcb.setState(ProcessState.TERMINATED);
+                listener.processTerminated(pcb, clock);
+            }
+        }
+    }
+
+    private void handleIoCompletion(ProcessControlBlock pcb) {
+        pendingIo.remove(pcb.getPid());
+        if (pcb.getState() != ProcessState.WAITING) {
+            return;
+        }
+        pcb.setState(ProcessState.READY, "I/O completed");
+        listener.ioCompleted(pcb);
+        if (pcb.getRemainingTime() > 0) {
+            if (levels != null) {
+                levels.promote(pcb);
+            }
+            if (shares != null) {
+                shares.placeWakeup(pcb);
+            }
+            makeReady(pcb);
+            checkPreemption();
+        }
+    }
+
+    private void handleAging(ProcessControlBlock pcb) {
+        pendingAging.remove(pcb.getPid());
+        if (!ready.contains(pcb)) {
+            return;
+        }
+        pcb.boostPriority();
+        ready.update(pcb);
+        scheduleAging(pcb);
+        checkPreemption();
+    }
+
+    private void handleRelease(ProcessControlBlock pcb) {
+        if (pcb.getState() == ProcessState.TERMINATED) {
+            return;
+        }
+        pcb.releaseJob();
+        scheduleRelease(pcb);
+        // Con el trabajo anterior pendiente el nuevo queda en espera detrás de él
+        if (pcb.getRemainingTime() > 0) {
+            return;
+        }
+        if (shares != null) {
+            shares.placeWakeup(pcb);
+        }
+        startNextJob(pcb);
+        checkPreemption();
+    }
+
+    private void handleDeadline(ProcessControlBlock pcb) {
+        pendingDeadline.remove(pcb.getPid());
+        if (pcb.getState() == ProcessState.TERMINATED || pcb.getRemainingTime() <= 0) {
+            return;
+        }
+        pcb.recordDeadlineMiss();
+        // Motivo fijo: el instante ya queda en la marca de tiempo y en el evento del listener
+        pcb.appendHistory("Missed deadline");
+        listener.deadlineMissed(pcb, clock);
+    }
+
+    private void startNextJob(ProcessControlBlock pcb) {
+        pcb.startNextJob();
+        armDeadline(pcb);
+        // Si estaba en I/O pasa a READY cuando esta termine
+        if (pendingIo.containsKey(pcb.getPid())) {
+            return;
+        }
+        pcb.setState(ProcessState.READY, "Job released");
+        makeReady(pcb);
+    }
+
+    // Próxima liberación de una tarea periódica (Long.MAX_VALUE si no tiene período)
+    private long nextRelease(ProcessControlBlock pcb) {
+        Integer period = pcb.getPeriod();
+        return period == null ? Long.MAX_VALUE : pcb.getArrivalTime() + (long) pcb.getJobsReleased() * period;
+    }
+
+    private void scheduleRelease(ProcessControlBlock pcb) {
+        long next = nextRelease(pcb);
+        if (next < horizon) {
+            schedule((int) next, EventType.RELEASE, pcb);
+        }
+    }
+
+    private void armDeadline(ProcessControlBlock pcb) {
+        if (pcb.getRelativeDeadline() != null) {
+            pendingDeadline.put(pcb.getPid(),
+                    schedule(Math.max(clock, pcb.getAbsoluteDeadline()), EventType.DEADLINE, pcb));
+        }
+    }
+
+    private void cancelDeadline(ProcessControlBlock pcb) {
+        SimulationEvent pending = pendingDeadline.remove(pcb.getPid());
+        if (pending != null) {
+            pending.cancel();
+        }
+    }
+
+    private void handleBoost() {
+        boostPending = false;
+        levels.boost();
+        if (running != null || !ready.isEmpty()) {
+            scheduleBoost();
+        }
+    }
+
+    private void makeReady(ProcessControlBlock pcb) {
+        ready.offer(pcb);
+        scheduleAging(pcb);
+        scheduleBoost();
+    }
+
+    // El boost se programa solo mientras hay procesos listos o en CPU, para no
+    // mantener vivo al motor con eventos periódicos cuando ya no queda trabajo
+    private void scheduleBoost() {
+        if (boostInterval > 0 && !boostPending) {
+            boostPending = true;
+            schedule(clock + boostInterval, EventType.BOOST, null);
+        }
+    }
+
+    // Un evento por proceso y por nivel ganado: como la prioridad se detiene en 0,
+    // cada estadía en READY genera a lo sumo tantos eventos como su prioridad base
+    private void scheduleAging(ProcessControlBlock pcb) {
+        if (agingInterval > 0 && pcb.getEffectivePriority() > 0) {
+            cancelAging(pcb);
+            pendingAging.put(pcb.getPid(), schedule(clock + agingInterval, EventType.AGING, pcb));
+        }
+    }
+
+    private void cancelAging(ProcessControlBlock pcb) {
+        if (agingInterval > 0) {
+            SimulationEvent pending = pendingAging.remove(pcb.getPid());
+            if (pending != null) {
+                pending.cancel();
+            }
+        }
+    }
+
+    private void checkPreemption() {
+        // Si la porción termina en este mismo instante la resuelve su SLICE_END; expropiar
+        // aquí dejaría en READY a un proceso sin tiempo restante
+        if (!preemptive || running == null || ready.isEmpty() || sliceEnd.getTime() == clock) {
+            return;
+        }
+        ProcessControlBlock candidate = ready.peek();
+        boolean better = switch (algorithm) {
+            case SRTF -> candidate.getRemainingTime() < running.getRemainingTime() - (clock - sliceStart);
+            case MLFQ -> levels.levelOf(candidate) < levels.levelOf(running);
+            case FAIR -> fair.preempts(candidate, running, clock - sliceStart);
+            case EDF -> candidate.getAbsoluteDeadline() < running.getAbsoluteDeadline();
+            case RATE_MONOTONIC -> ReadyQueue.ratePriority(candidate) < ReadyQueue.ratePriority(running);
+            default -> candidate.getEffectivePriority() < running.getEffectivePriority();
+        };
+        if (better) {
+            ProcessControlBlock preempted = running;
+            interruptRunning();
+            preempted.setState(ProcessState.READY, "Preempted");
+            makeReady(preempted);
+            listener.processReleased(preempted);
+        }
+    }
+
+    private void dispatch() {
+        long decisionStart = System.nanoTime();
+        ProcessControlBlock pcb = ready.poll();
+        listener.dispatchDecided(System.nanoTime() - decisionStart);
+        cancelAging(pcb);
+        if (pcb.getState() != ProcessState.READY) {
+            return;
+        }
+        if (pcb.getRemainingTime() <= 0) {
+            // Un proceso sin tiempo restante debió terminar al cerrar su porción: descartarlo lo perdería
+            throw new IllegalStateException("Process " + pcb.getPid() + " is READY with no remaining time at " + clock);
+        }
+        int slice = switch (algorithm) {
+            case ROUND_ROBIN, LOTTERY, STRIDE -> Math.min(quantum, pcb.getRemainingTime());
+            case MLFQ -> Math.min(levels.quantumFor(pcb), pcb.getRemainingTime());
+            case FAIR -> Math.min(fair.sliceFor(pcb), pcb.getRemainingTime());
+            default -> pcb.getRemainingTime();
+        };
+        pcb.setState(ProcessState.RUNNING);
+        running = pcb;
+        sliceStart = clock;
+        sliceEnd = schedule(clock + slice, EventType.SLICE_END, pcb);
+        listener.processDispatched(pcb);
+    }
+
+    private void interruptRunning() {
+        ProcessControlBlock pcb = running;
+        int executed = clock - sliceStart;
+        if (shares != null) {
+            shares.account(pcb, executed);
+        }
+        if (executed > 0) {
+            pcb.setRemainingTime(pcb.getRemainingTime() - executed);
+            listener.sliceCompleted(new TimelineEntry(pcb.getPid(), pcb.getName(), sliceStart, clock, algorithm, cpu));
+        }
+        sliceEnd.cancel();
+        sliceEnd = null;
+        running = null;
+        pcb.resetEffectivePriority();
+    }
+
+    private void cancelPendingIo(ProcessControlBlock pcb) {
+        SimulationEvent pending = pendingIo.remove(pcb.getPid());
+        if (pending != null) {
+            pending.cancel();
+        }
+    }
+
+    private void scheduleNextArrival() {
+        if (nextArrival < arrivals.size()) {
+            ProcessControlBlock pcb = arrivals.get(nextArrival++);
+            schedule(pcb.getArrivalTime(), EventType.ARRIVAL, pcb);
+        }
+    }
+
+    private SimulationEvent schedule(int time, EventType type, ProcessControlBlock pcb) {
+        SimulationEvent event = new SimulationEvent(time, type, sequence++, pcb);
+        events.add(event);
+        return event;
+    }
+}
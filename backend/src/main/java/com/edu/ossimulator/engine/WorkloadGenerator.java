@@ -0,0 +1,107 @@
+package com.edu.ossimulator.engine;
+
+import java.util.List;
+import java.util.SplittableRandom;
+
+import com.edu.ossimulator.dto.CreateProcessRequest;
+import com.edu.ossimulator.dto.WorkloadRequest;
+
+/**
+ * Genera procesos sintéticos de forma determinista a partir de una semilla.
+ * Produce un proceso por llamada a {@link #next()} sin materializar la carga
+ * completa, así se puede volcar a la tabla o a un archivo millones de procesos.
+ */
+public class WorkloadGenerator {
+
+    private static final int PRIORITY_LEVELS = 11;
+
+    private final WorkloadRequest request;
+    private final SplittableRandom random;
+    private final long[] priorityCumulative = new long[PRIORITY_LEVELS];
+    private final double uniformSpan;
+    private final double paretoScale;
+
+    private int generated;
+    private double clock;
+
+    public WorkloadGenerator(WorkloadRequest request, long seed) {
+        this.request = request;
+        this.random = new SplittableRandom(seed);
+        this.uniformSpan = request.getCount() / request.getArrivalRate();
+        // Escala mínima para que la media de la Pareto coincida con meanBurst
+        this.paretoScale = request.getMeanBurst() * (request.getParetoAlpha() - 1) / request.getParetoAlpha();
+        List<Integer> weights = request.getPriorityWeights();
+        long total = 0;
+        for (int i = 0; i < PRIORITY_LEVELS; i++) {
+            if (weights == null || weights.isEmpty()) {
+                total++;
+            } else if (i < weights.size() && weights.get(i) != null) {
+                total += weights.get(i);
+            }
+            priorityCumulative[i] = total;
+        }
+        if (total == 0) {
+            throw new IllegalArgumentException("At least one priority weight must be positive");
+        }
+    }
+
+    public boolean hasNext() {
+        return generated < request.getCount();
+    }
+
+    public CreateProcessRequest next() {
+        CreateProcessRequest process = new CreateProcessRequest();
+        process.setName(request.getNamePrefix() + generated);
+        process.setArrivalTime(nextArrival());
+        process.setBurstTime(nextBurst());
+        process.setPriority(nextPriority());
+        // Solo se sortean boletos si se pidieron, para no alterar las cargas de semillas existentes
+        if (request.getMaxTickets() != null) {
+            process.setTickets(1 + random.nextInt(request.getMaxTickets()));
+        }
+        generated++;
+        return process;
+    }
+
+    private int nextArrival() {
+        return switch (request.getArrivals()) {
+            case POISSON -> {
+                // Tiempos entre llegadas exponenciales de tasa arrivalRate
+                clock += exponential(1.0 / request.getArrivalRate());
+                yield toTime(clock);
+            }
+            case UNIFORM -> toTime(random.nextDouble() * uniformSpan);
+            case BATCH -> 0;
+        };
+    }
+
+    private int nextBurst() {
+        double burst = switch (request.getBursts()) {
+            case EXPONENTIAL -> exponential(request.getMeanBurst());
+            case UNIFORM -> 1 + random.nextDouble() * (2 * request.getMeanBurst() - 1);
+            case BIMODAL -> random.nextDouble() < request.getLongFraction()
+                    ? exponential(request.getLongBurst())
+                    : exponential(request.getShortBurst());
+            case PARETO -> paretoScale / Math.pow(1.0 - random.nextDouble(), 1.0 / request.getParetoAlpha());
+        };
+        return (int) Math.max(1, Math.min(request.getMaxBurst(), Math.round(burst)));
+    }
+
+    private int nextPriority() {
+        long pick = random.nextLong(priorityCumulative[PRIORITY_LEVELS - 1]);
+        for (int i = 0; i < PRIORITY_LEVELS; i++) {
+            if (pick < priorityCumulative[i]) {
+                return i;
+            }
+        }
+        return PRIORITY_LEVELS - 1;
+    }
+
+    private double exponential(double mean) {
+        return -mean * Math.log(1.0 - random.nextDouble());
+    }
+
+    private static int toTime(double value) {
+        return (int) Math.min(Integer.MAX_VALUE, (long) value);
+    }
+}
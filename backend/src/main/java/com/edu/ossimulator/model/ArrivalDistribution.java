@@ -0,0 +1,7 @@
+package com.edu.ossimulator.model;
+
+public enum ArrivalDistribution {
+    POISSON,
+    UNIFORM,
+    BATCH
+}
@@ -0,0 +1,8 @@
+package com.edu.ossimulator.model;
+
+public enum BurstDistribution {
+    EXPONENTIAL,
+    UNIFORM,
+    BIMODAL,
+    PARETO
+}
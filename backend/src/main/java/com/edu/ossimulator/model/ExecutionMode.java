@@ -0,0 +1,6 @@
+package com.edu.ossimulator.model;
+
+public enum ExecutionMode {
+    REAL_TIME,
+    VIRTUAL_TIME
+}
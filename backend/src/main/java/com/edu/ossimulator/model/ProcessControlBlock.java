@@ -1,13 +1,23 @@
 package com.edu.ossimulator.model;
 
+import com.edu.ossimulator.util.SnapshotReader;
+import com.edu.ossimulator.util.SnapshotWriter;
+import com.fasterxml.jackson.annotation.JsonIgnore;
+
+import java.io.IOException;
+import java.io.StreamCorruptedException;
 import java.time.Instant;
-import java.util.ArrayList;
 import java.util.List;
 import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
 
 public class ProcessControlBlock {
 
     private static final AtomicLong PID_SEQUENCE = new AtomicLong(1);
+    // El vruntime se guarda en 1/1024 de unidad para no perder precisión al ponderar
+    public static final int VRUNTIME_SCALE = 1024;
+    public static final int DEFAULT_TICKETS = 100;
+    public static final int MAX_TICKETS = 1_000_000;
 
     private final long pid;
     private String name;
@@ -16,19 +26,178 @@ public class ProcessControlBlock {
     private int burstTime;
     private int remainingTime;
     private int priority;
+    // Prioridad con aging aplicado; vuelve a la base cuando el proceso deja la CPU
+    private int effectivePriority;
+    // CPU preferida en simulaciones multinúcleo (null = cualquiera)
+    private Integer affinity;
+    // Boletos de LOTTERY y STRIDE: fijan la fracción de CPU que le corresponde
+    private int tickets = DEFAULT_TICKETS;
+    // Tiempo real: período de las liberaciones (null = un solo trabajo) y deadline relativo a cada liberación
+    private Integer period;
+    private Integer deadline;
+    // Trabajo en curso, trabajos ya liberados y deadlines perdidos en la corrida actual
+    private int jobIndex;
+    private int jobsReleased;
+    private int deadlineMisses;
+    private int cpu = -1;
     private Instant createdAt;
-    private final List<String> history = new ArrayList<>();
+    private final ProcessHistory history;
+    // Tiempos de la corrida actual (-1 si todavía no ocurrieron)
+    private int firstRunTime = -1;
+    private int completionTime = -1;
+
+    // Enlaces intrusivos: la PCB sabe en qué cola está y en qué posición,
+    // así encolar, retirar y consultar pertenencia cuestan O(1)
+    ProcessQueue systemQueue;
+    ProcessControlBlock systemPrev;
+    ProcessControlBlock systemNext;
+    Object dispatchOwner;
+    ProcessControlBlock dispatchPrev;
+    ProcessControlBlock dispatchNext;
+    private int dispatchIndex = -1;
+    // Nivel en MLFQ y época del boost en que se fijó
+    private int queueLevel;
+    private int levelEpoch;
+    // Tiempo virtual de ejecución en FAIR, escalado por VRUNTIME_SCALE
+    private long vruntime;
+    // Pass de STRIDE: avanza según los boletos por cada unidad ejecutada
+    private long pass;
+
+    // Se notifica en cada cambio de estado o de tiempo restante (streaming de deltas)
+    private Consumer<ProcessControlBlock> changeObserver;
 
     public ProcessControlBlock(String name, int arrivalTime, int burstTime, int priority) {
+        this(name, arrivalTime, burstTime, priority, ProcessHistory.DEFAULT_CAPACITY);
+    }
+
+    public ProcessControlBlock(String name, int arrivalTime, int burstTime, int priority, int historyCapacity) {
         this.pid = PID_SEQUENCE.getAndIncrement();
         this.name = name;
         this.arrivalTime = arrivalTime;
         this.burstTime = burstTime;
         this.remainingTime = burstTime;
         this.priority = priority;
+        this.effectivePriority = priority;
         this.state = ProcessState.NEW;
         this.createdAt = Instant.now();
-        appendHistory("Process created");
+        this.history = new ProcessHistory(historyCapacity);
+        history.record(HistoryEvent.CREATED, null, null);
+    }
+
+    private ProcessControlBlock(ProcessControlBlock source, int historyCapacity) {
+        this.pid = source.pid;
+        this.name = source.name;
+        this.arrivalTime = source.arrivalTime;
+        this.burstTime = source.burstTime;
+        this.remainingTime = source.burstTime;
+        this.priority = source.priority;
+        this.effectivePriority = source.priority;
+        this.affinity = source.affinity;
+        this.tickets = source.tickets;
+        this.period = source.period;
+        this.deadline = source.deadline;
+        this.state = ProcessState.READY;
+        this.createdAt = source.createdAt;
+        this.history = new ProcessHistory(historyCapacity);
+    }
+
+    // Restauración desde un checkpoint: conserva el PID original
+    private ProcessControlBlock(long pid, int historyCapacity) {
+        this.pid = pid;
+        this.history = new ProcessHistory(historyCapacity);
+    }
+
+    /** Próximo PID que se asignará. */
+    public static long nextPid() {
+        return PID_SEQUENCE.get();
+    }
+
+    /** Evita que se reasignen PIDs restaurados: la secuencia nunca retrocede. */
+    public static void reservePids(long nextPid) {
+        PID_SEQUENCE.accumulateAndGet(nextPid, Math::max);
+    }
+
+    /** PCB nueva con un PID ya asignado, para reconstruir una corrida pasada desde el journal. */
+    public static ProcessControlBlock replay(long pid, String name, int arrivalTime, int burstTime, int priority,
+                                             int historyCapacity) {
+        ProcessControlBlock pcb = new ProcessControlBlock(pid, historyCapacity);
+        pcb.name = name;
+        pcb.arrivalTime = arrivalTime;
+        pcb.burstTime = burstTime;
+        pcb.remainingTime = burstTime;
+        pcb.priority = priority;
+        pcb.effectivePriority = priority;
+        pcb.state = ProcessState.NEW;
+        pcb.createdAt = Instant.now();
+        return pcb;
+    }
+
+    /** Datos de entrada y de la corrida en curso; el historial y las colas quedan fuera. */
+    public void writeTo(SnapshotWriter out) throws IOException {
+        out.writeLong(pid);
+        out.writeString(name);
+        out.writeInt(arrivalTime);
+        out.writeInt(burstTime);
+        out.writeInt(priority);
+        out.writeOptionalInt(affinity);
+        out.writeInt(tickets);
+        out.writeOptionalInt(period);
+        out.writeOptionalInt(deadline);
+        out.writeLong(createdAt.getEpochSecond());
+        out.writeInt(createdAt.getNano());
+        out.writeByte(state.ordinal());
+        out.writeInt(remainingTime);
+        out.writeInt(effectivePriority);
+        out.writeInt(cpu);
+        out.writeInt(firstRunTime);
+        out.writeInt(completionTime);
+        out.writeInt(jobIndex);
+        out.writeInt(jobsReleased);
+        out.writeInt(deadlineMisses);
+        out.writeInt(queueLevel);
+        out.writeInt(levelEpoch);
+        out.writeLong(vruntime);
+        out.writeLong(pass);
+    }
+
+    public static ProcessControlBlock readFrom(SnapshotReader in, int historyCapacity) throws IOException {
+        ProcessControlBlock pcb = new ProcessControlBlock(in.readLong(), historyCapacity);
+        pcb.name = in.readString();
+        pcb.arrivalTime = in.readInt();
+        pcb.burstTime = in.readInt();
+        pcb.priority = in.readInt();
+        pcb.affinity = in.readOptionalInt();
+        pcb.tickets = in.readInt();
+        pcb.period = in.readOptionalInt();
+        pcb.deadline = in.readOptionalInt();
+        pcb.createdAt = Instant.ofEpochSecond(in.readLong(), in.readInt());
+        int state = in.readByte();
+        if (state < 0 || state >= ProcessState.values().length) {
+            throw new StreamCorruptedException("Invalid process state " + state);
+        }
+        pcb.state = ProcessState.values()[state];
+        pcb.remainingTime = in.readInt();
+        pcb.effectivePriority = in.readInt();
+        pcb.cpu = in.readInt();
+        pcb.firstRunTime = in.readInt();
+        pcb.completionTime = in.readInt();
+        pcb.jobIndex = in.readInt();
+        pcb.jobsReleased = in.readInt();
+        pcb.deadlineMisses = in.readInt();
+        pcb.queueLevel = in.readInt();
+        pcb.levelEpoch = in.readInt();
+        pcb.vruntime = in.readLong();
+        pcb.pass = in.readLong();
+        pcb.history.record(HistoryEvent.NOTE, null, "Restored from checkpoint");
+        return pcb;
+    }
+
+    /**
+     * Copia con el mismo PID y los mismos datos de entrada para una corrida
+     * aislada: no comparte colas, historial ni observador con el original.
+     */
+    public ProcessControlBlock copyForRun(int historyCapacity) {
+        return new ProcessControlBlock(this, historyCapacity);
     }
 
     public long getPid() {
@@ -48,8 +217,14 @@ public class ProcessControlBlock {
     }
 
     public void setState(ProcessState state) {
+        setState(state, null);
+    }
+
+    /** Cambia el estado y registra el motivo en la misma entrada del historial. */
+    public void setState(ProcessState state, String reason) {
         this.state = state;
-        appendHistory("State changed to " + state);
+        history.record(HistoryEvent.STATE_CHANGED, state, reason);
+        notifyChanged();
     }
 
     public int getArrivalTime() {
@@ -75,6 +250,7 @@ public class ProcessControlBlock {
 
     public void setRemainingTime(int remainingTime) {
         this.remainingTime = Math.max(remainingTime, 0);
+        notifyChanged();
     }
 
     public int getPriority() {
@@ -83,6 +259,120 @@ public class ProcessControlBlock {
 
     public void setPriority(int priority) {
         this.priority = priority;
+        this.effectivePriority = priority;
+    }
+
+    public int getEffectivePriority() {
+        return effectivePriority;
+    }
+
+    /** Aging: mejora un nivel la prioridad efectiva (0 es la máxima). */
+    public void boostPriority() {
+        if (effectivePriority > 0) {
+            effectivePriority--;
+        }
+    }
+
+    public void resetEffectivePriority() {
+        this.effectivePriority = priority;
+    }
+
+    public Integer getAffinity() {
+        return affinity;
+    }
+
+    public void setAffinity(Integer affinity) {
+        this.affinity = affinity;
+    }
+
+    public int getTickets() {
+        return tickets;
+    }
+
+    public void setTickets(int tickets) {
+        this.tickets = tickets;
+    }
+
+    public Integer getPeriod() {
+        return period;
+    }
+
+    public void setPeriod(Integer period) {
+        this.period = period;
+    }
+
+    public Integer getDeadline() {
+        return deadline;
+    }
+
+    public void setDeadline(Integer deadline) {
+        this.deadline = deadline;
+    }
+
+    /** Tiene período o deadline: lo planifican EDF y RATE_MONOTONIC por su trabajo en curso. */
+    @JsonIgnore
+    public boolean isRealTime() {
+        return period != null || deadline != null;
+    }
+
+    /** Deadline relativo efectivo: sin deadline explícito, el de una tarea periódica es su período. */
+    @JsonIgnore
+    public Integer getRelativeDeadline() {
+        return deadline != null ? deadline : period;
+    }
+
+    /** Liberación del trabajo en curso (la llegada si no es periódico). */
+    public int getReleaseTime() {
+        long offset = period != null ? (long) jobIndex * period : 0;
+        return (int) Math.min(Integer.MAX_VALUE, arrivalTime + offset);
+    }
+
+    @JsonIgnore
+    public int getAbsoluteDeadline() {
+        Integer relative = getRelativeDeadline();
+        return relative == null ? Integer.MAX_VALUE : (int) Math.min(Integer.MAX_VALUE, (long) getReleaseTime() + relative);
+    }
+
+    public Integer getCurrentDeadline() {
+        return getRelativeDeadline() == null ? null : getAbsoluteDeadline();
+    }
+
+    public int getJobsReleased() {
+        return jobsReleased;
+    }
+
+    public int getDeadlineMisses() {
+        return deadlineMisses;
+    }
+
+    public void releaseJob() {
+        jobsReleased++;
+    }
+
+    /** Hay trabajos liberados que esperan a que termine el actual. */
+    public boolean hasBacklog() {
+        return jobsReleased > jobIndex + 1;
+    }
+
+    /** Pasa al siguiente trabajo liberado con la ráfaga completa. */
+    public void startNextJob() {
+        jobIndex++;
+        remainingTime = burstTime;
+        firstRunTime = -1;
+        notifyChanged();
+    }
+
+    public void recordDeadlineMiss() {
+        deadlineMisses++;
+        notifyChanged();
+    }
+
+    public int getCpu() {
+        return cpu;
+    }
+
+    public void assignCpu(int cpu) {
+        this.cpu = cpu;
     }
 
     public Instant getCreatedAt() {
@@ -93,17 +383,109 @@ public class ProcessControlBlock {
         this.createdAt = createdAt;
     }
 
+    public int getFirstRunTime() {
+        return firstRunTime;
+    }
+
+    public void setFirstRunTime(int firstRunTime) {
+        this.firstRunTime = firstRunTime;
+    }
+
+    public int getCompletionTime() {
+        return completionTime;
+    }
+
+    public void setCompletionTime(int completionTime) {
+        this.completionTime = completionTime;
+    }
+
+    // El texto se arma solo al serializar; internamente se guardan registros compactos
     public List<String> getHistory() {
-        return history;
+        return history.render();
     }
 
     public void appendHistory(String event) {
-        history.add(String.format("[%s] %s", Instant.now(), event));
+        history.record(HistoryEvent.NOTE, null, event);
+    }
+
+    @JsonIgnore
+    public Object getDispatchOwner() {
+        return dispatchOwner;
+    }
+
+    @JsonIgnore
+    public int getDispatchIndex() {
+        return dispatchIndex;
+    }
+
+    public void assignDispatchSlot(Object owner, int index) {
+        this.dispatchOwner = owner;
+        this.dispatchIndex = index;
+    }
+
+    public int getQueueLevel() {
+        return queueLevel;
+    }
+
+    @JsonIgnore
+    public int getLevelEpoch() {
+        return levelEpoch;
+    }
+
+    public void assignQueueLevel(int level, int epoch) {
+        this.queueLevel = level;
+        this.levelEpoch = epoch;
+    }
+
+    public double getVruntime() {
+        return (double) vruntime / VRUNTIME_SCALE;
+    }
+
+    public long vruntimeScaled() {
+        return vruntime;
+    }
+
+    public void assignVruntime(long vruntime) {
+        this.vruntime = vruntime;
+    }
+
+    public long getPass() {
+        return pass;
+    }
+
+    public void assignPass(long pass) {
+        this.pass = pass;
+    }
+
+    @JsonIgnore
+    public void setChangeObserver(Consumer<ProcessControlBlock> changeObserver) {
+        this.changeObserver = changeObserver;
+    }
+
+    private void notifyChanged() {
+        if (changeObserver != null) {
+            changeObserver.accept(this);
+        }
     }
 
     public void resetRuntimeData() {
         this.remainingTime = this.burstTime;
+        this.effectivePriority = this.priority;
         this.state = ProcessState.READY;
+        this.firstRunTime = -1;
+        this.completionTime = -1;
+        this.cpu = -1;
+        this.dispatchOwner = null;
+        this.dispatchPrev = null;
+        this.dispatchNext = null;
+        this.dispatchIndex = -1;
+        this.queueLevel = 0;
+        this.levelEpoch = 0;
+        this.vruntime = 0;
+        this.pass = 0;
+        this.jobIndex = 0;
+        this.jobsReleased = 0;
+        this.deadlineMisses = 0;
     }
 }
 
@@ -0,0 +1,164 @@
+package com.edu.ossimulator.model;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Historial acotado de una PCB. Cada evento se guarda como tres primitivos
+ * (código, marca de tiempo en nanosegundos y código del motivo) dentro de un
+ * buffer circular; el texto solo se arma cuando la API lo muestra. Al
+ * llenarse, los eventos nuevos pisan a los más antiguos.
+ *
+ * <p>Solo los motivos fijos del motor tienen código, en una tabla inmutable.
+ * Los demás (los de las interrupciones manuales, que escribe el usuario) se
+ * guardan en el propio slot, así que se descartan con la PCB.
+ *
+ * <p>Se escribe con el lock de la sesión. La lectura para serializar puede
+ * correr fuera de ese lock y ver el historial a medio actualizar, pero nunca
+ * falla.
+ */
+public class ProcessHistory {
+
+    public static final int DEFAULT_CAPACITY = 64;
+
+    private static final int INITIAL_SLOTS = 4;
+    private static final int NO_REASON = -1;
+    private static final int FREE_REASON = -2;
+
+    // Reloj de pared con resolución de nanos sin crear un Instant por evento
+    private static final long EPOCH_OFFSET_NANOS = epochNanos(Instant.now()) - System.nanoTime();
+
+    // Motivos que escribe el motor en cada corrida; se guardan como código
+    private static final String[] FIXED_REASONS = {
+            "I/O completed",
+            "Preempted",
+            "Job completed",
+            "Job released",
+            "Missed deadline",
+            "Restored from checkpoint",
+    };
+    private static final Map<String, Integer> FIXED_REASON_IDS = new HashMap<>();
+
+    static {
+        for (int i = 0; i < FIXED_REASONS.length; i++) {
+            FIXED_REASON_IDS.put(FIXED_REASONS[i], i);
+        }
+    }
+
+    private final int capacity;
+    private int[] codes = new int[0];
+    private int[] reasons = new int[0];
+    private long[] timestamps = new long[0];
+    // Texto de los motivos sin código; se crea con el primero
+    private String[] freeReasons;
+    private int head;
+    private int count;
+
+    public ProcessHistory(int capacity) {
+        if (capacity < 1) {
+            throw new IllegalArgumentException("History capacity must be positive");
+        }
+        this.capacity = capacity;
+    }
+
+    public void record(HistoryEvent event, ProcessState state, String reason) {
+        if (count == codes.length && codes.length < capacity) {
+            grow();
+        }
+        int slot = (head + count) % codes.length;
+        codes[slot] = event.ordinal() << 8 | (state != null ? state.ordinal() + 1 : 0);
+        reasons[slot] = reasonCode(reason);
+        if (reasons[slot] == FREE_REASON) {
+            if (freeReasons == null) {
+                freeReasons = new String[codes.length];
+            }
+            freeReasons[slot] = reason;
+        } else if (freeReasons != null) {
+            freeReasons[slot] = null;
+        }
+        timestamps[slot] = EPOCH_OFFSET_NANOS + System.nanoTime();
+        if (count < codes.length) {
+            count++;
+        } else {
+            head = (head + 1) % codes.length;
+        }
+    }
+
+    public int size() {
+        return count;
+    }
+
+    public int getCapacity() {
+        return capacity;
+    }
+
+    public List<String> render() {
+        int[] codes = this.codes;
+        int[] reasons = this.reasons;
+        long[] timestamps = this.timestamps;
+        String[] freeReasons = this.freeReasons;
+        int length = Math.min(codes.length, Math.min(reasons.length, timestamps.length));
+        int size = Math.min(count, length);
+        List<String> lines = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            int slot = (head + i) % length;
+            String reason = switch (reasons[slot]) {
+                case NO_REASON -> null;
+                case FREE_REASON -> freeReasons != null && slot < freeReasons.length ? freeReasons[slot] : null;
+                default -> FIXED_REASONS[reasons[slot]];
+            };
+            lines.add(render(codes[slot], reason, timestamps[slot]));
+        }
+        return lines;
+    }
+
+    private static String render(int code, String reason, long timestamp) {
+        HistoryEvent event = HistoryEvent.values()[code >>> 8];
+        int stateCode = code & 0xFF;
+        String text = switch (event) {
+            case CREATED -> "Process created";
+            case STATE_CHANGED -> "State changed to " + ProcessState.values()[stateCode - 1]
+                    + (reason != null ? " (" + reason + ")" : "");
+            case NOTE -> reason;
+        };
+        return "[" + Instant.ofEpochSecond(0, timestamp) + "] " + text;
+    }
+
+    private void grow() {
+        int newLength = Math.min(capacity, Math.max(INITIAL_SLOTS, codes.length * 2));
+        int[] newCodes = new int[newLength];
+        int[] newReasons = new int[newLength];
+        long[] newTimestamps = new long[newLength];
+        String[] newFreeReasons = freeReasons != null ? new String[newLength] : null;
+        // Solo se crece con el buffer lleno, así que se copia en orden desde head
+        for (int i = 0; i < count; i++) {
+            int slot = (head + i) % codes.length;
+            newCodes[i] = codes[slot];
+            newReasons[i] = reasons[slot];
+            newTimestamps[i] = timestamps[slot];
+            if (newFreeReasons != null) {
+                newFreeReasons[i] = freeReasons[slot];
+            }
+        }
+        head = 0;
+        freeReasons = newFreeReasons;
+        reasons = newReasons;
+        timestamps = newTimestamps;
+        codes = newCodes;
+    }
+
+    private static int reasonCode(String reason) {
+        if (reason == null) {
+            return NO_REASON;
+        }
+        Integer id = FIXED_REASON_IDS.get(reason);
+        return id != null ? id : FREE_REASON;
+    }
+
+    private static long epochNanos(Instant instant) {
+        return instant.getEpochSecond() * 1_000_000_000L + instant.getNano();
+    }
+}
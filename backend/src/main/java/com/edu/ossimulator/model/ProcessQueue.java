@@ -0,0 +1,187 @@
+package com.edu.ossimulator.model;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+
+/**
+ * Lista doblemente enlazada intrusiva de PCBs. Los enlaces viven en la propia
+ * PCB, por lo que {@link #remove} y {@link #contains} son O(1). Cada PCB tiene
+ * dos juegos de enlaces: uno para las colas del sistema (ready/waiting/terminated),
+ * donde solo puede estar en una a la vez, y otro para la estructura de despacho
+ * del planificador.
+ */
+public class ProcessQueue implements Iterable<ProcessControlBlock> {
+
+    public enum Link {
+        SYSTEM,
+        DISPATCH
+    }
+
+    private final Link link;
+    private ProcessControlBlock head;
+    private ProcessControlBlock tail;
+    private int size;
+
+    public ProcessQueue() {
+        this(Link.SYSTEM);
+    }
+
+    public ProcessQueue(Link link) {
+        this.link = link;
+    }
+
+    /**
+     * Agrega la PCB al final. Si ya estaba en otra cola del mismo juego de
+     * enlaces se retira de ella; si ya estaba en esta, no hace nada.
+     */
+    public void add(ProcessControlBlock pcb) {
+        Object owner = owner(pcb);
+        if (owner == this) {
+            return;
+        }
+        if (owner instanceof ProcessQueue other) {
+            other.unlink(pcb);
+        }
+        setOwner(pcb, this);
+        setPrev(pcb, tail);
+        setNext(pcb, null);
+        if (tail == null) {
+            head = pcb;
+        } else {
+            setNext(tail, pcb);
+        }
+        tail = pcb;
+        size++;
+    }
+
+    public void addAll(Iterable<ProcessControlBlock> processes) {
+        for (ProcessControlBlock pcb : processes) {
+            add(pcb);
+        }
+    }
+
+    public boolean remove(ProcessControlBlock pcb) {
+        if (owner(pcb) != this) {
+            return false;
+        }
+        unlink(pcb);
+        return true;
+    }
+
+    public boolean contains(ProcessControlBlock pcb) {
+        return owner(pcb) == this;
+    }
+
+    public ProcessControlBlock peek() {
+        return head;
+    }
+
+    public ProcessControlBlock poll() {
+        ProcessControlBlock first = head;
+        if (first != null) {
+            unlink(first);
+        }
+        return first;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    public void clear() {
+        while (head != null) {
+            unlink(head);
+        }
+    }
+
+    public List<ProcessControlBlock> toList() {
+        List<ProcessControlBlock> copy = new ArrayList<>(size);
+        for (ProcessControlBlock pcb = head; pcb != null; pcb = next(pcb)) {
+            copy.add(pcb);
+        }
+        return copy;
+    }
+
+    @Override
+    public Iterator<ProcessControlBlock> iterator() {
+        return new Iterator<>() {
+            private ProcessControlBlock cursor = head;
+
+            @Override
+            public boolean hasNext() {
+                return cursor != null;
+            }
+
+            @Override
+            public ProcessControlBlock next() {
+                if (cursor == null) {
+                    throw new NoSuchElementException();
+                }
+                ProcessControlBlock current = cursor;
+                cursor = ProcessQueue.this.next(current);
+                return current;
+            }
+        };
+    }
+
+    private void unlink(ProcessControlBlock pcb) {
+        ProcessControlBlock prev = prev(pcb);
+        ProcessControlBlock next = next(pcb);
+        if (prev == null) {
+            head = next;
+        } else {
+            setNext(prev, next);
+        }
+        if (next == null) {
+            tail = prev;
+        } else {
+            setPrev(next, prev);
+        }
+        setPrev(pcb, null);
+        setNext(pcb, null);
+        setOwner(pcb, null);
+        size--;
+    }
+
+    private Object owner(ProcessControlBlock pcb) {
+        return link == Link.SYSTEM ? pcb.systemQueue : pcb.dispatchOwner;
+    }
+
+    private void setOwner(ProcessControlBlock pcb, ProcessQueue owner) {
+        if (link == Link.SYSTEM) {
+            pcb.systemQueue = owner;
+        } else {
+            pcb.dispatchOwner = owner;
+        }
+    }
+
+    private ProcessControlBlock prev(ProcessControlBlock pcb) {
+        return link == Link.SYSTEM ? pcb.systemPrev : pcb.dispatchPrev;
+    }
+
+    private void setPrev(ProcessControlBlock pcb, ProcessControlBlock prev) {
+        if (link == Link.SYSTEM) {
+            pcb.systemPrev = prev;
+        } else {
+            pcb.dispatchPrev = prev;
+        }
+    }
+
+    private ProcessControlBlock next(ProcessControlBlock pcb) {
+        return link == Link.SYSTEM ? pcb.systemNext : pcb.dispatchNext;
+    }
+
+    private void setNext(ProcessControlBlock pcb, ProcessControlBlock next) {
+        if (link == Link.SYSTEM) {
+            pcb.systemNext = next;
+        } else {
+            pcb.dispatchNext = next;
+        }
+    }
+}
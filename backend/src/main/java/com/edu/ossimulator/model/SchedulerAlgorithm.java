@@ -4,6 +4,14 @@ public enum SchedulerAlgorithm {
     FCFS,
     ROUND_ROBIN,
     PRIORITY,
-    SJF
+    SJF,
+    SRTF,
+    PRIORITY_PREEMPTIVE,
+    MLFQ,
+    FAIR,
+    LOTTERY,
+    STRIDE,
+    EDF,
+    RATE_MONOTONIC
 }
 
@@ -0,0 +1,6 @@
+package com.edu.ossimulator.model;
+
+public enum TraceFormat {
+    SWF,
+    CSV
+}
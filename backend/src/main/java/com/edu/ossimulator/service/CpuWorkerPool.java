@@ -0,0 +1,40 @@
+package com.edu.ossimulator.service;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import jakarta.annotation.PreDestroy;
+
+/**
+ * Hilos donde se simulan en paralelo las CPUs de las corridas SMP. Es un pool
+ * compartido por todas las sesiones y del tamaño de la máquina: más hilos que
+ * núcleos solo agregarían cambios de contexto del host.
+ */
+@Component
+public class CpuWorkerPool {
+
+    private final ExecutorService executor;
+
+    public CpuWorkerPool(@Value("${simulator.smp.worker-threads:0}") int workerThreads) {
+        int threads = workerThreads > 0 ? workerThreads : Runtime.getRuntime().availableProcessors();
+        AtomicInteger counter = new AtomicInteger();
+        executor = Executors.newFixedThreadPool(threads, runnable -> {
+            Thread thread = new Thread(runnable, "cpu-worker-" + counter.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    public ExecutorService executor() {
+        return executor;
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+}
@@ -0,0 +1,34 @@
+package com.edu.ossimulator.service;
+
+import java.util.concurrent.Callable;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import jakarta.annotation.PreDestroy;
+
+/**
+ * Pool fork-join de los experimentos (comparaciones de algoritmos), separado
+ * del pool de simulaciones de las sesiones para que un experimento grande no
+ * deje sin hilos a las corridas interactivas.
+ */
+@Component
+public class ExperimentPool {
+
+    private final ForkJoinPool pool;
+
+    public ExperimentPool(@Value("${simulator.experiments.parallelism:0}") int parallelism) {
+        this.pool = new ForkJoinPool(parallelism > 0 ? parallelism : Runtime.getRuntime().availableProcessors());
+    }
+
+    public <T> ForkJoinTask<T> submit(Callable<T> task) {
+        return pool.submit(task);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        pool.shutdownNow();
+    }
+}
@@ -0,0 +1,142 @@
+package com.edu.ossimulator.service;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Service;
+import org.springframework.web.server.ResponseStatusException;
+
+import com.edu.ossimulator.dto.AlgorithmResult;
+import com.edu.ossimulator.dto.CompareRequest;
+import com.edu.ossimulator.dto.ComparisonResponse;
+import com.edu.ossimulator.dto.QuantumPoint;
+import com.edu.ossimulator.dto.QuantumSweepRequest;
+import com.edu.ossimulator.dto.QuantumSweepResponse;
+import com.edu.ossimulator.engine.ExperimentRun;
+import com.edu.ossimulator.engine.SchedulerOptions;
+import com.edu.ossimulator.model.ProcessControlBlock;
+import com.edu.ossimulator.model.SchedulerAlgorithm;
+
+/**
+ * Experimentos sobre la carga de una sesión: cada corrida trabaja con sus
+ * propias copias de los procesos en tiempo virtual, así que no toca las colas
+ * de la sesión ni interfiere con una simulación en curso.
+ */
+@Service
+public class ExperimentService {
+
+    private static final int DEFAULT_TIMELINE_LIMIT = 1000;
+
+    private final ProcessSchedulerService schedulerService;
+    private final ExperimentPool pool;
+
+    public ExperimentService(ProcessSchedulerService schedulerService, ExperimentPool pool) {
+        this.schedulerService = schedulerService;
+        this.pool = pool;
+    }
+
+    public ComparisonResponse compare(String sessionId, CompareRequest request) {
+        List<ProcessControlBlock> templates = schedulerService.copyProcessTable(sessionId);
+        List<SchedulerAlgorithm> algorithms = Optional.ofNullable(request.getAlgorithms())
+                .filter(list -> !list.isEmpty())
+                .map(list -> list.stream().distinct().toList())
+                .orElse(Arrays.asList(SchedulerAlgorithm.values()));
+        SchedulerOptions options = new SchedulerOptions(
+                Optional.ofNullable(request.getQuantum()).orElse(SchedulerOptions.DEFAULT_QUANTUM));
+        options.setAgingInterval(Optional.ofNullable(request.getAgingInterval()).orElse(0));
+        if (request.getMlfqLevels() != null) {
+            options.setMlfqLevels(request.getMlfqLevels());
+        }
+        if (request.getMlfqQuanta() != null) {
+            options.setMlfqQuanta(request.getMlfqQuanta().stream().mapToInt(Integer::intValue).toArray());
+        }
+        if (request.getBoostInterval() != null) {
+            options.setBoostInterval(request.getBoostInterval());
+        }
+        if (request.getTargetLatency() != null) {
+            options.setTargetLatency(request.getTargetLatency());
+        }
+        if (request.getMinGranularity() != null) {
+            options.setMinGranularity(request.getMinGranularity());
+        }
+        if (request.getSeed() != null) {
+            options.setSeed(request.getSeed());
+        }
+        if (request.getHorizon() != null) {
+            options.setHorizon(request.getHorizon());
+        }
+        int timelineLimit = Optional.ofNullable(request.getTimelineLimit()).orElse(DEFAULT_TIMELINE_LIMIT);
+
+        List<ForkJoinTask<ExperimentRun>> runs = new ArrayList<>(algorithms.size());
+        for (SchedulerAlgorithm algorithm : algorithms) {
+            runs.add(pool.submit(() -> new ExperimentRun(algorithm, options, templates, timelineLimit).run()));
+        }
+        List<AlgorithmResult> results = new ArrayList<>(runs.size());
+        for (ForkJoinTask<ExperimentRun> run : runs) {
+            results.add(new AlgorithmResult(run.join()));
+        }
+        return new ComparisonResponse(templates.size(), results);
+    }
+
+    /**
+     * Corre Round Robin con cada quantum del rango a la vez. Con poda, la mejor
+     * espera total encontrada hasta el momento se comparte entre las corridas y
+     * cada una se abandona en cuanto su cota inferior la supera.
+     */
+    public QuantumSweepResponse sweepQuantum(String sessionId, QuantumSweepRequest request) {
+        int from = request.getFrom();
+        int to = request.getTo();
+        int step = Optional.ofNullable(request.getStep()).orElse(1);
+        if (to < from) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "'to' must be greater than or equal to 'from'");
+        }
+        if ((to - from) / step + 1 > QuantumSweepRequest.MAX_POINTS) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST,
+                    "A sweep can evaluate at most " + QuantumSweepRequest.MAX_POINTS + " quantum values");
+        }
+        List<ProcessControlBlock> templates = schedulerService.copyProcessTable(sessionId);
+        AtomicLong bestTotalWaiting = new AtomicLong(Long.MAX_VALUE);
+        // La cota de espera supone un solo trabajo por proceso: con tareas periódicas no se poda
+        boolean prune = Optional.ofNullable(request.getPrune()).orElse(true)
+                && templates.stream().noneMatch(pcb -> pcb.getPeriod() != null);
+        LongSupplier bound = prune
+                ? bestTotalWaiting::get
+                : () -> Long.MAX_VALUE;
+
+        long start = System.nanoTime();
+        List<ForkJoinTask<ExperimentRun>> runs = new ArrayList<>();
+        for (long quantum = from; quantum <= to; quantum += step) {
+            SchedulerOptions options = new SchedulerOptions((int) quantum);
+            runs.add(pool.submit(() -> {
+                ExperimentRun run = new ExperimentRun(SchedulerAlgorithm.ROUND_ROBIN, options, templates, 0).run(bound);
+                if (!run.isPruned()) {
+                    bestTotalWaiting.accumulateAndGet(run.getTotalWaiting(), Math::min);
+                }
+                return run;
+            }));
+        }
+
+        List<QuantumPoint> points = new ArrayList<>(runs.size());
+        Integer bestQuantum = null;
+        long bestWaiting = Long.MAX_VALUE;
+        int pruned = 0;
+        for (ForkJoinTask<ExperimentRun> task : runs) {
+            ExperimentRun run = task.join();
+            points.add(new QuantumPoint(run, templates.size()));
+            if (run.isPruned()) {
+                pruned++;
+            } else if (run.getTotalWaiting() < bestWaiting) {
+                bestWaiting = run.getTotalWaiting();
+                bestQuantum = run.getQuantum();
+            }
+        }
+        return new QuantumSweepResponse(templates.size(), bestQuantum, pruned,
+                (System.nanoTime() - start) / 1_000_000, points);
+    }
+}
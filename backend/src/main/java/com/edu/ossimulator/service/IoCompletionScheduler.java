@@ -0,0 +1,43 @@
+package com.edu.ossimulator.service;
+
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.stereotype.Component;
+
+import jakarta.annotation.PreDestroy;
+
+/**
+ * Temporizador compartido para las finalizaciones de I/O en tiempo real. Un
+ * único hilo atiende todas las esperas pendientes, sin importar cuántos
+ * procesos estén en WAITING.
+ */
+@Component
+public class IoCompletionScheduler {
+
+    private final ScheduledThreadPoolExecutor executor;
+
+    public IoCompletionScheduler() {
+        executor = new ScheduledThreadPoolExecutor(1, runnable -> {
+            Thread thread = new Thread(runnable, "io-completion");
+            thread.setDaemon(true);
+            return thread;
+        });
+        // Las esperas canceladas salen de la cola de inmediato en lugar de acumularse
+        executor.setRemoveOnCancelPolicy(true);
+    }
+
+    public ScheduledFuture<?> schedule(Runnable completion, long delayMillis) {
+        return executor.schedule(completion, delayMillis, TimeUnit.MILLISECONDS);
+    }
+
+    public int pendingCount() {
+        return executor.getQueue().size();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+}
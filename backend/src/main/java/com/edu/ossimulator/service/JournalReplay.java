@@ -0,0 +1,294 @@
+package com.edu.ossimulator.service;
+
+import java.io.StreamCorruptedException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import com.edu.ossimulator.dto.JournalEvent;
+import com.edu.ossimulator.dto.JournalReplayResponse;
+import com.edu.ossimulator.dto.JournalRunSummary;
+import com.edu.ossimulator.dto.ProcessSummary;
+import com.edu.ossimulator.dto.SimulationStatsResponse;
+import com.edu.ossimulator.dto.TimelineEntry;
+import com.edu.ossimulator.engine.SchedulingStats;
+import com.edu.ossimulator.model.ExecutionMode;
+import com.edu.ossimulator.model.ProcessControlBlock;
+import com.edu.ossimulator.model.ProcessState;
+import com.edu.ossimulator.model.SchedulerAlgorithm;
+import com.edu.ossimulator.util.LongObjectHashMap;
+
+/**
+ * Reconstruye una corrida aplicando los registros de su journal en orden. Las
+ * estadísticas se recalculan con las mismas llamadas que hizo la sesión, así
+ * que al final del journal coinciden con las de la corrida original. Los
+ * procesos que todavía no tienen eventos figuran en READY desde su llegada.
+ */
+final class JournalReplay {
+
+    private static final ProcessState[] STATES = ProcessState.values();
+
+    private final int timelineLimit;
+    private final LongObjectHashMap<ProcessControlBlock> index = new LongObjectHashMap<>();
+    private final List<ProcessControlBlock> processes = new ArrayList<>();
+    private final ArrayDeque<TimelineEntry> timeline = new ArrayDeque<>();
+    private SchedulerAlgorithm algorithm;
+    private SchedulingStats stats;
+    private long[] running;
+    private SimulationStatus status = SimulationStatus.RUNNING;
+    private int clock;
+    private long applied;
+
+    JournalReplay(int timelineLimit) {
+        this.timelineLimit = timelineLimit;
+    }
+
+    void apply(ByteBuffer record) throws StreamCorruptedException {
+        try {
+            byte type = record.get();
+            if ((applied == 0) != (type == RunJournal.RUN_STARTED)) {
+                throw new StreamCorruptedException("Journal must start with RUN_STARTED, found type " + type);
+            }
+            switch (type) {
+                case RunJournal.RUN_STARTED -> {
+                    algorithm = enumAt(SchedulerAlgorithm.values(), record.get());
+                    enumAt(ExecutionMode.values(), record.get());
+                    int cpus = record.getInt();
+                    if (cpus < 1) {
+                        throw new StreamCorruptedException("Invalid CPU count " + cpus);
+                    }
+                    stats = new SchedulingStats(cpus);
+                    running = new long[cpus];
+                }
+                case RunJournal.PROCESS -> {
+                    long pid = record.getLong();
+                    int arrival = record.getInt();
+                    int burst = record.getInt();
+                    int priority = record.getInt();
+                    int tickets = record.getInt();
+                    int period = record.getInt();
+                    int deadline = record.getInt();
+                    ProcessControlBlock pcb = ProcessControlBlock.replay(pid, readName(record), arrival, burst, priority, 1);
+                    pcb.setTickets(tickets);
+                    pcb.setPeriod(period >= 0 ? period : null);
+                    pcb.setDeadline(deadline >= 0 ? deadline : null);
+                    index.put(pid, pcb);
+                    processes.add(pcb);
+                }
+                case RunJournal.DISPATCHED -> {
+                    ProcessControlBlock pcb = process(record.getLong());
+                    int cpu = cpu(record.getInt());
+                    pcb.assignCpu(cpu);
+                    pcb.setState(ProcessState.RUNNING);
+                    running[cpu] = pcb.getPid();
+                }
+                case RunJournal.SLICE -> {
+                    ProcessControlBlock pcb = process(record.getLong());
+                    int start = record.getInt();
+                    int end = record.getInt();
+                    int cpu = cpu(record.getInt());
+                    stats.sliceCompleted(pcb, start, end);
+                    pcb.setRemainingTime(pcb.getRemainingTime() - (end - start));
+                    clock = Math.max(clock, end);
+                    if (timelineLimit > 0 && end > start) {
+                        if (timeline.size() == timelineLimit) {
+                            timeline.removeFirst();
+                        }
+                        timeline.addLast(new TimelineEntry(pcb.getPid(), pcb.getName(), start, end, algorithm, cpu));
+                    }
+                }
+                case RunJournal.STATE -> {
+                    ProcessControlBlock pcb = process(record.getLong());
+                    ProcessState state = enumAt(STATES, record.get());
+                    pcb.setState(state);
+                    if (state != ProcessState.RUNNING) {
+                        release(pcb);
+                    }
+                }
+                case RunJournal.JOB_COMPLETED -> {
+                    ProcessControlBlock pcb = process(record.getLong());
+                    int time = record.getInt();
+                    stats.processCompleted(pcb, time);
+                    pcb.startNextJob();
+                    pcb.setState(ProcessState.WAITING);
+                    release(pcb);
+                    clock = Math.max(clock, time);
+                }
+                case RunJournal.TERMINATED -> {
+                    ProcessControlBlock pcb = process(record.getLong());
+                    int time = record.getInt();
+                    stats.processCompleted(pcb, time);
+                    pcb.setRemainingTime(0);
+                    pcb.setState(ProcessState.TERMINATED);
+                    release(pcb);
+                    clock = Math.max(clock, time);
+                }
+                case RunJournal.DEADLINE_MISSED -> {
+                    ProcessControlBlock pcb = process(record.getLong());
+                    int time = record.getInt();
+                    stats.deadlineMissed();
+                    pcb.recordDeadlineMiss();
+                    clock = Math.max(clock, time);
+                }
+                case RunJournal.RUN_ENDED -> {
+                    status = enumAt(SimulationStatus.values(), record.get());
+                    Arrays.fill(running, 0);
+                }
+                default -> throw new StreamCorruptedException("Unknown journal record type " + type);
+            }
+            applied++;
+        } catch (BufferUnderflowException e) {
+            throw new StreamCorruptedException("Truncated journal record");
+        }
+    }
+
+    JournalReplayResponse toResponse(int run, long offset, boolean complete, int processLimit, long replayNanos) {
+        int ready = 0;
+        int waiting = 0;
+        int terminated = 0;
+        for (ProcessControlBlock pcb : processes) {
+            if (pcb.getState() == ProcessState.NEW && pcb.getArrivalTime() <= clock) {
+                pcb.setState(ProcessState.READY);
+            }
+            switch (pcb.getState()) {
+                case READY -> ready++;
+                case WAITING -> waiting++;
+                case TERMINATED -> terminated++;
+                default -> {
+                }
+            }
+        }
+        List<Long> runningPids = new ArrayList<>(running.length);
+        for (long pid : running) {
+            runningPids.add(pid);
+        }
+        List<ProcessSummary> summaries = processes.stream().limit(processLimit).map(ProcessSummary::new).toList();
+        return new JournalReplayResponse(run, offset, complete, algorithm, status, clock, runningPids, ready, waiting,
+                terminated, new SimulationStatsResponse(status, algorithm, stats), summaries,
+                new ArrayList<>(timeline), replayNanos / 1_000_000);
+    }
+
+    /** Resumen de una corrida a partir de su primer registro. */
+    static JournalRunSummary summarize(int run, ByteBuffer record, int segments, long bytes)
+            throws StreamCorruptedException {
+        try {
+            if (record.get() != RunJournal.RUN_STARTED) {
+                throw new StreamCorruptedException("Run " + run + " does not start with RUN_STARTED");
+            }
+            SchedulerAlgorithm algorithm = enumAt(SchedulerAlgorithm.values(), record.get());
+            ExecutionMode mode = enumAt(ExecutionMode.values(), record.get());
+            int cpus = record.getInt();
+            int quantum = record.getInt();
+            record.getInt();
+            Instant startedAt = Instant.ofEpochMilli(record.getLong());
+            return new JournalRunSummary(run, algorithm, mode, cpus, quantum, record.getInt(), startedAt, segments, bytes);
+        } catch (BufferUnderflowException e) {
+            throw new StreamCorruptedException("Truncated journal record");
+        }
+    }
+
+    /** Registro en forma legible para el listado de eventos. */
+    static JournalEvent describe(long offset, ByteBuffer record) throws StreamCorruptedException {
+        try {
+            byte type = record.get();
+            JournalEvent event;
+            switch (type) {
+                case RunJournal.RUN_STARTED -> {
+                    event = new JournalEvent(offset, "RUN_STARTED");
+                    SchedulerAlgorithm algorithm = enumAt(SchedulerAlgorithm.values(), record.get());
+                    ExecutionMode mode = enumAt(ExecutionMode.values(), record.get());
+                    event.setDetail("algorithm=" + algorithm + " mode=" + mode + " cpus=" + record.getInt()
+                            + " quantum=" + record.getInt() + " ioDuration=" + record.getInt()
+                            + " startedAt=" + record.getLong() + " processes=" + record.getInt());
+                }
+                case RunJournal.PROCESS -> {
+                    event = new JournalEvent(offset, "PROCESS");
+                    event.setPid(record.getLong());
+                    event.setTime(record.getInt());
+                    String detail = "burst=" + record.getInt() + " priority=" + record.getInt() + " tickets=" + record.getInt();
+                    int period = record.getInt();
+                    int deadline = record.getInt();
+                    detail += (period >= 0 ? " period=" + period : "") + (deadline >= 0 ? " deadline=" + deadline : "");
+                    event.setDetail("name=" + readName(record) + " " + detail);
+                }
+                case RunJournal.DISPATCHED -> {
+                    event = new JournalEvent(offset, "DISPATCHED");
+                    event.setPid(record.getLong());
+                    event.setCpu(record.getInt());
+                }
+                case RunJournal.SLICE -> {
+                    event = new JournalEvent(offset, "SLICE");
+                    event.setPid(record.getLong());
+                    event.setStart(record.getInt());
+                    event.setEnd(record.getInt());
+                    event.setCpu(record.getInt());
+                }
+                case RunJournal.STATE -> {
+                    event = new JournalEvent(offset, "STATE");
+                    event.setPid(record.getLong());
+                    event.setState(enumAt(STATES, record.get()));
+                }
+                case RunJournal.JOB_COMPLETED, RunJournal.TERMINATED, RunJournal.DEADLINE_MISSED -> {
+                    event = new JournalEvent(offset, type == RunJournal.JOB_COMPLETED ? "JOB_COMPLETED"
+                            : type == RunJournal.TERMINATED ? "TERMINATED" : "DEADLINE_MISSED");
+                    event.setPid(record.getLong());
+                    event.setTime(record.getInt());
+                }
+                case RunJournal.RUN_ENDED -> {
+                    event = new JournalEvent(offset, "RUN_ENDED");
+                    event.setDetail("status=" + enumAt(SimulationStatus.values(), record.get()));
+                }
+                default -> throw new StreamCorruptedException("Unknown journal record type " + type);
+            }
+            return event;
+        } catch (BufferUnderflowException e) {
+            throw new StreamCorruptedException("Truncated journal record");
+        }
+    }
+
+    private ProcessControlBlock process(long pid) throws StreamCorruptedException {
+        ProcessControlBlock pcb = index.get(pid);
+        if (pcb == null) {
+            throw new StreamCorruptedException("Journal references unknown PID " + pid);
+        }
+        return pcb;
+    }
+
+    private int cpu(int cpu) throws StreamCorruptedException {
+        if (cpu < 0 || cpu >= running.length) {
+            throw new StreamCorruptedException("Invalid CPU " + cpu);
+        }
+        return cpu;
+    }
+
+    private void release(ProcessControlBlock pcb) {
+        for (int i = 0; i < running.length; i++) {
+            if (running[i] == pcb.getPid()) {
+                running[i] = 0;
+            }
+        }
+    }
+
+    private static String readName(ByteBuffer record) throws StreamCorruptedException {
+        int length = record.getInt();
+        if (length < 0 || length > record.remaining()) {
+            throw new StreamCorruptedException("Invalid name length " + length);
+        }
+        byte[] bytes = new byte[length];
+        record.get(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    private static <E extends Enum<E>> E enumAt(E[] values, int ordinal) throws StreamCorruptedException {
+        if (ordinal < 0 || ordinal >= values.length) {
+            throw new StreamCorruptedException("Invalid " + values.getClass().getComponentType().getSimpleName()
+                    + " " + ordinal);
+        }
+        return values[ordinal];
+    }
+}
@@ -0,0 +1,312 @@
+package com.edu.ossimulator.service;
+
+import java.io.IOException;
+import java.io.StreamCorruptedException;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Component;
+import org.springframework.web.server.ResponseStatusException;
+
+import com.edu.ossimulator.dto.JournalEvent;
+import com.edu.ossimulator.dto.JournalEventPage;
+import com.edu.ossimulator.dto.JournalReplayResponse;
+import com.edu.ossimulator.dto.JournalRunSummary;
+import com.edu.ossimulator.util.JournalReader;
+import com.edu.ossimulator.util.JournalWriter;
+
+import jakarta.annotation.PreDestroy;
+
+/**
+ * Journals de las corridas en {@code <simulator.journal.dir>/<sesión>/run-NNNNNN}.
+ * Abre uno por corrida, fuerza a disco los abiertos cada
+ * {@code simulator.journal.sync-interval-ms} desde un único hilo y conserva las
+ * últimas {@code simulator.journal.max-runs} corridas de cada sesión, de a lo
+ * sumo {@code simulator.journal.max-sessions} sesiones: al pasarse se borran
+ * las que hace más tiempo no corren. Los journals de una sesión se borran con
+ * ella.
+ */
+@Component
+public class JournalStore {
+
+    private static final String RUN_PREFIX = "run-";
+    private static final String SESSION_PATTERN = "[A-Za-z0-9][A-Za-z0-9_-]{0,63}";
+
+    private final boolean enabled;
+    private final Path directory;
+    private final long segmentBytes;
+    private final long syncIntervalMillis;
+    private final int maxRuns;
+    private final int maxSessions;
+    private final ScheduledThreadPoolExecutor syncExecutor;
+    // Journals de corridas en curso: se fuerzan a disco antes de leerlos
+    private final Map<Path, RunJournal> open = new ConcurrentHashMap<>();
+
+    public JournalStore(@Value("${simulator.journal.enabled:false}") boolean enabled,
+                        @Value("${simulator.journal.dir:journal}") Path directory,
+                        @Value("${simulator.journal.segment-bytes:67108864}") long segmentBytes,
+                        @Value("${simulator.journal.sync-interval-ms:200}") long syncIntervalMillis,
+                        @Value("${simulator.journal.max-runs:20}") int maxRuns,
+                        @Value("${simulator.journal.max-sessions:100}") int maxSessions) {
+        this.enabled = enabled;
+        this.directory = directory.toAbsolutePath();
+        // Al leer, cada segmento se mapea entero
+        this.segmentBytes = Math.min(Math.max(segmentBytes, 4096), Integer.MAX_VALUE);
+        this.syncIntervalMillis = syncIntervalMillis;
+        this.maxRuns = Math.max(maxRuns, 1);
+        this.maxSessions = Math.max(maxSessions, 1);
+        this.syncExecutor = new ScheduledThreadPoolExecutor(1, runnable -> {
+            Thread thread = new Thread(runnable, "journal-sync");
+            thread.setDaemon(true);
+            return thread;
+        });
+        this.syncExecutor.setRemoveOnCancelPolicy(true);
+    }
+
+    /**
+     * Abre el journal de una corrida nueva de la sesión y descarta las más
+     * viejas, y las sesiones de más. Si está desactivado o no se puede crear,
+     * la corrida sigue sin journal.
+     */
+    RunJournal open(String sessionId) {
+        if (!enabled) {
+            return RunJournal.DISABLED;
+        }
+        try {
+            Path sessionDir = Files.createDirectories(sessionDirectory(sessionId));
+            List<Integer> runs = listRuns(sessionDir);
+            int run = runs.isEmpty() ? 1 : runs.get(runs.size() - 1) + 1;
+            for (int i = 0; i <= runs.size() - maxRuns; i++) {
+                Path old = sessionDir.resolve(runName(runs.get(i)));
+                if (!open.containsKey(old)) {
+                    deleteTree(old);
+                }
+            }
+            Path runDir = sessionDir.resolve(runName(run));
+            RunJournal journal = new RunJournal(run, runDir, new JournalWriter(runDir, segmentBytes));
+            journal.syncTask = syncExecutor.scheduleWithFixedDelay(journal::sync, syncIntervalMillis,
+                    syncIntervalMillis, TimeUnit.MILLISECONDS);
+            open.put(runDir, journal);
+            pruneSessions(sessionDir);
+            return journal;
+        } catch (IOException e) {
+            return RunJournal.DISABLED;
+        }
+    }
+
+    /** Cierra el journal de una corrida con su estado final. */
+    void finish(RunJournal journal, SimulationStatus status) {
+        if (journal == RunJournal.DISABLED) {
+            return;
+        }
+        journal.runEnded(status);
+        journal.syncTask.cancel(false);
+        journal.close();
+        open.remove(journal.getDirectory());
+    }
+
+    /** Borra los journals de una sesión eliminada, salvo los de corridas todavía abiertas. */
+    void deleteSession(String sessionId) {
+        if (!enabled || !sessionId.matches(SESSION_PATTERN)) {
+            return;
+        }
+        try {
+            deleteSessionDirectory(directory.resolve(sessionId));
+        } catch (IOException e) {
+            // Lo que no se pudo borrar lo descarta después el límite de sesiones
+        }
+    }
+
+    public List<JournalRunSummary> runs(String sessionId) throws IOException {
+        Path sessionDir = sessionDirectory(sessionId);
+        if (!Files.isDirectory(sessionDir)) {
+            return List.of();
+        }
+        List<JournalRunSummary> summaries = new ArrayList<>();
+        for (int run : listRuns(sessionDir)) {
+            Path runDir = sessionDir.resolve(runName(run));
+            int segments = 0;
+            long bytes = 0;
+            try (Stream<Path> files = Files.list(runDir)) {
+                for (Path file : (Iterable<Path>) files::iterator) {
+                    segments++;
+                    bytes += Files.size(file);
+                }
+            } catch (NoSuchFileException e) {
+                // La corrida se descartó mientras se listaba
+                continue;
+            }
+            try (JournalReader reader = new JournalReader(synced(runDir))) {
+                if (reader.next()) {
+                    summaries.add(JournalReplay.summarize(run, reader.payload(), segments, bytes));
+                }
+            } catch (StreamCorruptedException e) {
+                throw corrupted(run, e);
+            }
+        }
+        return summaries;
+    }
+
+    public JournalEventPage events(String sessionId, int run, long from, int limit) throws IOException {
+        List<JournalEvent> events = new ArrayList<>(Math.min(limit, 1024));
+        long next = from;
+        boolean end;
+        try (JournalReader reader = new JournalReader(synced(runDirectory(sessionId, run)), from)) {
+            while (events.size() < limit && reader.next()) {
+                events.add(JournalReplay.describe(reader.offset(), reader.payload()));
+                next = reader.offset() + 1;
+            }
+            end = events.size() < limit || !reader.next();
+        } catch (StreamCorruptedException e) {
+            throw corrupted(run, e);
+        }
+        return new JournalEventPage(run, from, next, end, events);
+    }
+
+    /**
+     * Reconstruye la corrida hasta el registro {@code offset} inclusive (todo el
+     * journal si es {@code null}) recorriéndolo desde el principio.
+     */
+    public JournalReplayResponse replay(String sessionId, int run, Long offset, int processLimit, int timelineLimit)
+            throws IOException {
+        long start = System.nanoTime();
+        JournalReplay replay = new JournalReplay(timelineLimit);
+        long last = -1;
+        boolean complete;
+        try (JournalReader reader = new JournalReader(synced(runDirectory(sessionId, run)))) {
+            boolean more = true;
+            while ((offset == null || last < offset) && (more = reader.next())) {
+                replay.apply(reader.payload());
+                last = reader.offset();
+            }
+            complete = !more || !reader.next();
+        } catch (StreamCorruptedException e) {
+            throw corrupted(run, e);
+        }
+        if (last < 0) {
+            throw new ResponseStatusException(HttpStatus.NOT_FOUND, "Journal run " + run + " is empty");
+        }
+        return replay.toResponse(run, last, complete, processLimit, System.nanoTime() - start);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        syncExecutor.shutdownNow();
+        open.values().forEach(RunJournal::sync);
+    }
+
+    // Lo que la corrida en curso tenga en el buffer se vuelca antes de leer
+    private Path synced(Path runDir) {
+        RunJournal journal = open.get(runDir);
+        if (journal != null) {
+            journal.sync();
+        }
+        return runDir;
+    }
+
+    private Path runDirectory(String sessionId, int run) {
+        Path runDir = sessionDirectory(sessionId).resolve(runName(run));
+        if (run < 1 || !Files.isDirectory(runDir)) {
+            throw new ResponseStatusException(HttpStatus.NOT_FOUND, "Journal run not found: " + run);
+        }
+        return runDir;
+    }
+
+    private Path sessionDirectory(String sessionId) {
+        if (!sessionId.matches(SESSION_PATTERN)) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Invalid session id: " + sessionId);
+        }
+        return directory.resolve(sessionId);
+    }
+
+    private static ResponseStatusException corrupted(int run, StreamCorruptedException e) {
+        return new ResponseStatusException(HttpStatus.INTERNAL_SERVER_ERROR,
+                "Journal run " + run + " is corrupted: " + e.getMessage(), e);
+    }
+
+    private static String runName(int run) {
+        return String.format("%s%06d", RUN_PREFIX, run);
+    }
+
+    private static List<Integer> listRuns(Path sessionDir) throws IOException {
+        try (Stream<Path> dirs = Files.list(sessionDir)) {
+            return dirs.map(dir -> dir.getFileName().toString())
+                    .filter(name -> name.matches(RUN_PREFIX + "\\d{6,9}"))
+                    .map(name -> Integer.parseInt(name.substring(RUN_PREFIX.length())))
+                    .sorted()
+                    .toList();
+        }
+    }
+
+    // Las sesiones que corrieron hace más tiempo se borran primero
+    private void pruneSessions(Path current) throws IOException {
+        List<Path> sessionDirs;
+        try (Stream<Path> dirs = Files.list(directory)) {
+            sessionDirs = dirs.filter(dir -> !dir.equals(current) && Files.isDirectory(dir)).toList();
+        }
+        int excess = sessionDirs.size() + 1 - maxSessions;
+        if (excess <= 0) {
+            return;
+        }
+        // Las fechas se leen una vez: otra corrida puede cambiarlas durante el orden
+        Map<Path, Long> modified = new HashMap<>();
+        sessionDirs.forEach(dir -> modified.put(dir, lastModified(dir)));
+        List<Path> oldest = new ArrayList<>(sessionDirs);
+        oldest.sort(Comparator.comparing(modified::get));
+        for (int i = 0; i < excess; i++) {
+            try {
+                deleteSessionDirectory(oldest.get(i));
+            } catch (IOException e) {
+                // Una sesión que no se pudo borrar no impide abrir el journal nuevo
+            }
+        }
+    }
+
+    private void deleteSessionDirectory(Path sessionDir) throws IOException {
+        if (!Files.isDirectory(sessionDir)) {
+            return;
+        }
+        boolean keep = false;
+        for (int run : listRuns(sessionDir)) {
+            Path runDir = sessionDir.resolve(runName(run));
+            if (open.containsKey(runDir)) {
+                keep = true;
+            } else {
+                deleteTree(runDir);
+            }
+        }
+        if (!keep) {
+            // Falla si una corrida nueva de la misma sesión creó su journal mientras tanto
+            Files.deleteIfExists(sessionDir);
+        }
+    }
+
+    private static long lastModified(Path dir) {
+        try {
+            return Files.getLastModifiedTime(dir).toMillis();
+        } catch (IOException e) {
+            // Ya no existe: da lo mismo borrarla primero
+            return Long.MIN_VALUE;
+        }
+    }
+
+    private static void deleteTree(Path root) throws IOException {
+        try (Stream<Path> files = Files.walk(root)) {
+            for (Path file : (Iterable<Path>) files.sorted(Comparator.reverseOrder())::iterator) {
+                Files.deleteIfExists(file);
+            }
+        }
+    }
+}
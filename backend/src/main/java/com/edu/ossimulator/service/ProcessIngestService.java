@@ -0,0 +1,163 @@
+package com.edu.ossimulator.service;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import com.edu.ossimulator.dto.BulkIngestResponse;
+import com.edu.ossimulator.dto.CreateProcessRequest;
+import com.edu.ossimulator.dto.IngestError;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.JsonMappingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+
+/**
+ * Carga masiva de procesos. El cuerpo se lee como stream (un arreglo JSON o
+ * NDJSON, un proceso por línea), cada elemento se valida por separado y los
+ * válidos se insertan por lotes tomando el lock de la sesión una vez por lote.
+ * Un elemento inválido se reporta y no invalida el resto.
+ */
+@Service
+public class ProcessIngestService {
+
+    private static final int MAX_REPORTED_ERRORS = 1000;
+
+    private final ProcessSchedulerService schedulerService;
+    private final ObjectMapper objectMapper;
+    private final Validator validator;
+    private final int batchSize;
+
+    public ProcessIngestService(ProcessSchedulerService schedulerService,
+                                ObjectMapper objectMapper,
+                                Validator validator,
+                                @Value("${simulator.ingest.batch-size:1000}") int batchSize) {
+        this.schedulerService = schedulerService;
+        this.objectMapper = objectMapper;
+        this.validator = validator;
+        this.batchSize = batchSize;
+    }
+
+    public BulkIngestResponse ingestJsonArray(String sessionId, InputStream body) throws IOException {
+        SimulationSession session = schedulerService.getSession(sessionId);
+        Batch batch = new Batch(session);
+        try (JsonParser parser = objectMapper.getFactory().createParser(body)) {
+            if (parser.nextToken() != JsonToken.START_ARRAY) {
+                batch.reject(0, parser.currentLocation().getLineNr(), "Expected a JSON array");
+                return batch.finish();
+            }
+            long index = 0;
+            while (true) {
+                JsonToken token;
+                long line = parser.currentLocation().getLineNr();
+                try {
+                    token = parser.nextToken();
+                    if (token == JsonToken.END_ARRAY || token == null) {
+                        break;
+                    }
+                    line = parser.currentLocation().getLineNr();
+                    JsonNode node = parser.readValueAsTree();
+                    batch.offer(index, line, objectMapper.treeToValue(node, CreateProcessRequest.class));
+                } catch (JsonMappingException e) {
+                    batch.reject(index, line, e.getOriginalMessage());
+                } catch (JsonProcessingException e) {
+                    // Un error de sintaxis deja el parser sin punto de reanudación: se corta aquí
+                    batch.reject(index, line, e.getOriginalMessage());
+                    break;
+                }
+                index++;
+            }
+        }
+        return batch.finish();
+    }
+
+    public BulkIngestResponse ingestNdjson(String sessionId, InputStream body) throws IOException {
+        SimulationSession session = schedulerService.getSession(sessionId);
+        Batch batch = new Batch(session);
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(body, StandardCharsets.UTF_8))) {
+            long index = 0;
+            long line = 0;
+            String text;
+            while ((text = reader.readLine()) != null) {
+                line++;
+                if (text.isBlank()) {
+                    continue;
+                }
+                try {
+                    batch.offer(index, line, objectMapper.readValue(text, CreateProcessRequest.class));
+                } catch (JsonProcessingException e) {
+                    batch.reject(index, line, e.getOriginalMessage());
+                }
+                index++;
+            }
+        }
+        return batch.finish();
+    }
+
+    private final class Batch {
+
+        private final SimulationSession session;
+        private final List<CreateProcessRequest> pending = new ArrayList<>(batchSize);
+        private final BulkIngestResponse response = new BulkIngestResponse();
+
+        private Batch(SimulationSession session) {
+            this.session = session;
+        }
+
+        void offer(long index, long line, CreateProcessRequest request) {
+            if (request == null) {
+                reject(index, line, "Item must be a JSON object");
+                return;
+            }
+            Set<ConstraintViolation<CreateProcessRequest>> violations = validator.validate(request);
+            if (!violations.isEmpty()) {
+                reject(index, line, violations.stream()
+                        .map(v -> v.getPropertyPath() + ": " + v.getMessage())
+                        .sorted()
+                        .collect(Collectors.joining(", ")));
+                return;
+            }
+            pending.add(request);
+            if (pending.size() >= batchSize) {
+                flush();
+            }
+        }
+
+        void reject(long index, long line, String message) {
+            response.setRejected(response.getRejected() + 1);
+            if (response.getErrors().size() < MAX_REPORTED_ERRORS) {
+                response.getErrors().add(new IngestError(index, line, message));
+            } else {
+                response.setTruncated(true);
+            }
+        }
+
+        BulkIngestResponse finish() {
+            flush();
+            return response;
+        }
+
+        private void flush() {
+            if (pending.isEmpty()) {
+                return;
+            }
+            schedulerService.createProcesses(session, pending);
+            response.setAccepted(response.getAccepted() + pending.size());
+            pending.clear();
+        }
+    }
+}
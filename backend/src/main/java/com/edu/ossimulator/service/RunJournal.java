@@ -0,0 +1,203 @@
+package com.edu.ossimulator.service;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.List;
+import java.util.concurrent.ScheduledFuture;
+
+import com.edu.ossimulator.model.ExecutionMode;
+import com.edu.ossimulator.model.ProcessControlBlock;
+import com.edu.ossimulator.model.ProcessState;
+import com.edu.ossimulator.model.SchedulerAlgorithm;
+import com.edu.ossimulator.util.JournalWriter;
+
+/**
+ * Journal de una corrida: los eventos de planificación que la sesión aplica a
+ * sus estructuras, en el orden en que los aplica. Alcanza con ellos para
+ * reconstruir estados, colas y estadísticas sin volver a simular (ver
+ * {@link JournalReplay}).
+ *
+ * <p>Cada registro empieza con su tipo. {@code RUN_STARTED} lleva los
+ * parámetros de la corrida y va seguido de un {@code PROCESS} por proceso con
+ * sus datos de entrada; el resto referencia procesos por PID. Un error de E/S
+ * desactiva el journal de la corrida sin detenerla.
+ */
+final class RunJournal {
+
+    static final byte RUN_STARTED = 1;
+    static final byte PROCESS = 2;
+    static final byte DISPATCHED = 3;
+    static final byte SLICE = 4;
+    static final byte STATE = 5;
+    static final byte JOB_COMPLETED = 6;
+    static final byte TERMINATED = 7;
+    static final byte DEADLINE_MISSED = 8;
+    static final byte RUN_ENDED = 9;
+
+    // Corridas sin journal: desactivado por configuración o restauradas desde un checkpoint
+    static final RunJournal DISABLED = new RunJournal(0, null, null);
+
+    private final int run;
+    private final Path directory;
+    private final JournalWriter writer;
+    // Sync periódico mientras la corrida está abierta; lo administra JournalStore
+    ScheduledFuture<?> syncTask;
+    private ByteBuffer scratch = ByteBuffer.allocate(256);
+    private volatile boolean failed;
+
+    RunJournal(int run, Path directory, JournalWriter writer) {
+        this.run = run;
+        this.directory = directory;
+        this.writer = writer;
+        this.failed = writer == null;
+    }
+
+    int getRun() {
+        return run;
+    }
+
+    Path getDirectory() {
+        return directory;
+    }
+
+    boolean isFailed() {
+        return failed;
+    }
+
+    void runStarted(SchedulerAlgorithm algorithm, ExecutionMode mode, int cpus, int quantum, int ioDuration,
+                    List<ProcessControlBlock> processes) {
+        if (failed) {
+            return;
+        }
+        begin(RUN_STARTED, 26)
+                .put((byte) algorithm.ordinal())
+                .put((byte) mode.ordinal())
+                .putInt(cpus)
+                .putInt(quantum)
+                .putInt(ioDuration)
+                .putLong(Instant.now().toEpochMilli())
+                .putInt(processes.size());
+        append();
+        for (ProcessControlBlock pcb : processes) {
+            byte[] name = pcb.getName() != null ? pcb.getName().getBytes(StandardCharsets.UTF_8) : new byte[0];
+            begin(PROCESS, 36 + name.length)
+                    .putLong(pcb.getPid())
+                    .putInt(pcb.getArrivalTime())
+                    .putInt(pcb.getBurstTime())
+                    .putInt(pcb.getPriority())
+                    .putInt(pcb.getTickets())
+                    .putInt(pcb.getPeriod() != null ? pcb.getPeriod() : -1)
+                    .putInt(pcb.getDeadline() != null ? pcb.getDeadline() : -1)
+                    .putInt(name.length)
+                    .put(name);
+            append();
+        }
+    }
+
+    void dispatched(ProcessControlBlock pcb) {
+        if (failed) {
+            return;
+        }
+        begin(DISPATCHED, 12).putLong(pcb.getPid()).putInt(Math.max(pcb.getCpu(), 0));
+        append();
+    }
+
+    void slice(long pid, int start, int end, int cpu) {
+        if (failed) {
+            return;
+        }
+        begin(SLICE, 20).putLong(pid).putInt(start).putInt(end).putInt(cpu);
+        append();
+    }
+
+    void state(ProcessControlBlock pcb, ProcessState state) {
+        if (failed) {
+            return;
+        }
+        begin(STATE, 9).putLong(pcb.getPid()).put((byte) state.ordinal());
+        append();
+    }
+
+    void jobCompleted(ProcessControlBlock pcb, int time) {
+        timed(JOB_COMPLETED, pcb, time);
+    }
+
+    void terminated(ProcessControlBlock pcb, int time) {
+        timed(TERMINATED, pcb, time);
+    }
+
+    void deadlineMissed(ProcessControlBlock pcb, int time) {
+        timed(DEADLINE_MISSED, pcb, time);
+    }
+
+    void runEnded(SimulationStatus status) {
+        if (failed) {
+            return;
+        }
+        begin(RUN_ENDED, 1).put((byte) status.ordinal());
+        append();
+    }
+
+    /** Fuerza a disco lo escrito hasta ahora; lo llama el sync periódico. */
+    void sync() {
+        if (failed) {
+            return;
+        }
+        try {
+            writer.sync();
+        } catch (IOException e) {
+            fail();
+        }
+    }
+
+    void close() {
+        if (failed) {
+            return;
+        }
+        try {
+            writer.close();
+        } catch (IOException e) {
+            failed = true;
+        }
+    }
+
+    private void timed(byte type, ProcessControlBlock pcb, int time) {
+        if (failed) {
+            return;
+        }
+        begin(type, 12).putLong(pcb.getPid()).putInt(time);
+        append();
+    }
+
+    private ByteBuffer begin(byte type, int payloadBytes) {
+        if (scratch.capacity() < payloadBytes + 1) {
+            scratch = ByteBuffer.allocate(Math.max(payloadBytes + 1, scratch.capacity() * 2));
+        }
+        scratch.clear();
+        return scratch.put(type);
+    }
+
+    private void append() {
+        if (failed) {
+            return;
+        }
+        scratch.flip();
+        try {
+            writer.append(scratch);
+        } catch (IOException e) {
+            fail();
+        }
+    }
+
+    private void fail() {
+        failed = true;
+        try {
+            writer.close();
+        } catch (IOException ignored) {
+            // El journal ya quedó descartado para esta corrida
+        }
+    }
+}
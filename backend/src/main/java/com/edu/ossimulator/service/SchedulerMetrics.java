@@ -0,0 +1,95 @@
+package com.edu.ossimulator.service;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+import org.springframework.stereotype.Component;
+
+import com.edu.ossimulator.model.InterruptionType;
+import com.edu.ossimulator.model.SchedulerAlgorithm;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+/**
+ * Métricas del planificador expuestas por Actuator ({@code /actuator/prometheus}).
+ * Los medidores por algoritmo y por tipo de interrupción se crean de antemano
+ * para que el camino caliente no busque en el registro.
+ */
+@Component
+public class SchedulerMetrics {
+
+    private final MeterRegistry registry;
+    private final Map<SchedulerAlgorithm, Counter> contextSwitches = new EnumMap<>(SchedulerAlgorithm.class);
+    private final Map<SchedulerAlgorithm, Timer> dispatchDecisions = new EnumMap<>(SchedulerAlgorithm.class);
+    private final Map<SchedulerAlgorithm, Counter> deadlineMisses = new EnumMap<>(SchedulerAlgorithm.class);
+    private final Map<InterruptionType, Counter> interruptions = new EnumMap<>(InterruptionType.class);
+    private final Map<String, Timer> lockWaits = new ConcurrentHashMap<>();
+
+    public SchedulerMetrics(MeterRegistry registry) {
+        this.registry = registry;
+        for (SchedulerAlgorithm algorithm : SchedulerAlgorithm.values()) {
+            contextSwitches.put(algorithm, Counter.builder("simulator.context.switches")
+                    .description("Procesos despachados a la CPU")
+                    .tag("algorithm", algorithm.name())
+                    .register(registry));
+            dispatchDecisions.put(algorithm, Timer.builder("simulator.dispatch.decision")
+                    .description("Tiempo en elegir el siguiente proceso de la cola ready")
+                    .tag("algorithm", algorithm.name())
+                    .register(registry));
+            deadlineMisses.put(algorithm, Counter.builder("simulator.deadline.misses")
+                    .description("Trabajos que llegaron a su deadline sin terminar")
+                    .tag("algorithm", algorithm.name())
+                    .register(registry));
+        }
+        for (InterruptionType type : InterruptionType.values()) {
+            interruptions.put(type, Counter.builder("simulator.interruptions")
+                    .description("Interrupciones emitidas por la API")
+                    .tag("type", type.name())
+                    .register(registry));
+        }
+    }
+
+    public void contextSwitch(SchedulerAlgorithm algorithm) {
+        contextSwitches.get(algorithm).increment();
+    }
+
+    public void dispatchDecision(SchedulerAlgorithm algorithm, long nanos) {
+        dispatchDecisions.get(algorithm).record(nanos, TimeUnit.NANOSECONDS);
+    }
+
+    public void deadlineMiss(SchedulerAlgorithm algorithm) {
+        deadlineMisses.get(algorithm).increment();
+    }
+
+    public void interruption(InterruptionType type) {
+        interruptions.get(type).increment();
+    }
+
+    public void lockWait(String operation, long nanos) {
+        lockWaits.computeIfAbsent(operation, op -> Timer.builder("simulator.session.lock.wait")
+                .description("Espera por el lock de la sesión en los métodos del API")
+                .tag("operation", op)
+                .publishPercentileHistogram()
+                .register(registry))
+                .record(nanos, TimeUnit.NANOSECONDS);
+    }
+
+    public void queueDepth(String queue, Supplier<Number> depth) {
+        Gauge.builder("simulator.queue.size", depth)
+                .description("Procesos en cada cola, sumando todas las sesiones")
+                .tag("queue", queue)
+                .register(registry);
+    }
+
+    public void sessionCount(Supplier<Number> count) {
+        Gauge.builder("simulator.sessions", count)
+                .description("Sesiones de simulación abiertas")
+                .register(registry);
+    }
+}
@@ -0,0 +1,217 @@
+package com.edu.ossimulator.service;
+
+import java.io.IOException;
+import java.io.StreamCorruptedException;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+
+import com.edu.ossimulator.dto.TimelineEntry;
+import com.edu.ossimulator.engine.EngineCheckpoint;
+import com.edu.ossimulator.engine.SchedulerOptions;
+import com.edu.ossimulator.engine.SchedulingStats;
+import com.edu.ossimulator.model.ProcessControlBlock;
+import com.edu.ossimulator.model.SchedulerAlgorithm;
+import com.edu.ossimulator.util.LongObjectHashMap;
+import com.edu.ossimulator.util.SnapshotReader;
+import com.edu.ossimulator.util.SnapshotWriter;
+
+/**
+ * Checkpoint binario de una sesión: PCB con los datos de la corrida, orden de
+ * las colas del sistema, estadísticas, timeline de la corrida actual y, si
+ * había un motor de eventos en curso, su estado junto con los parámetros para
+ * retomarlo. Las colas y los eventos referencian procesos por PID.
+ *
+ * <p>Formato big-endian: {@code "OSCK"}, versión, secuencia de PIDs, estado y
+ * parámetros de la sesión, PCB, colas, estadísticas, timeline y motor. Se
+ * escribe en un archivo temporal que reemplaza al anterior al terminar, así un
+ * corte a mitad de camino nunca deja un checkpoint a medias.
+ */
+final class SessionCheckpoint {
+
+    static final String EXTENSION = ".ckpt";
+
+    private static final int MAGIC = 0x4F53434B;
+    private static final int VERSION = 1;
+
+    long pidSequence;
+    SimulationStatus status;
+    SchedulerAlgorithm algorithm;
+    int quantum;
+    int ioDuration;
+    List<ProcessControlBlock> processes;
+    long[] ready;
+    long[] waiting;
+    long[] terminated;
+    long running;
+    SchedulingStats stats;
+    List<TimelineEntry> timeline;
+    // Solo si la corrida usaba el motor de eventos y seguía en curso
+    EngineCheckpoint engine;
+    SchedulerOptions options;
+    int cpus;
+    int balanceInterval;
+    boolean paced;
+    // Tamaño del archivo escrito o leído
+    long bytes;
+
+    /** Instante de la simulación en que se tomó el checkpoint. */
+    int clock() {
+        return engine != null ? engine.getClock() : stats.getElapsed();
+    }
+
+    void write(Path file) throws IOException {
+        Files.createDirectories(file.toAbsolutePath().getParent());
+        Path partial = file.resolveSibling(file.getFileName() + ".partial");
+        try (FileChannel channel = FileChannel.open(partial, StandardOpenOption.CREATE,
+                StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE);
+             SnapshotWriter out = new SnapshotWriter(channel)) {
+            writeTo(out);
+            bytes = out.size();
+        }
+        Files.move(partial, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    static SessionCheckpoint read(Path file, int historyCapacity) throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ);
+             SnapshotReader in = new SnapshotReader(channel)) {
+            SessionCheckpoint checkpoint = readFrom(in, historyCapacity);
+            checkpoint.bytes = in.position();
+            return checkpoint;
+        }
+    }
+
+    private void writeTo(SnapshotWriter out) throws IOException {
+        out.writeInt(MAGIC);
+        out.writeInt(VERSION);
+        out.writeLong(pidSequence);
+        out.writeByte(status.ordinal());
+        out.writeByte(algorithm.ordinal());
+        out.writeInt(quantum);
+        out.writeInt(ioDuration);
+
+        out.writeInt(processes.size());
+        for (ProcessControlBlock pcb : processes) {
+            pcb.writeTo(out);
+        }
+        writePids(out, ready);
+        writePids(out, waiting);
+        writePids(out, terminated);
+        out.writeLong(running);
+        stats.writeTo(out);
+
+        // El nombre de cada entrada sale de su PCB al leer
+        out.writeInt(timeline.size());
+        for (TimelineEntry entry : timeline) {
+            out.writeLong(entry.getPid());
+            out.writeInt(entry.getStart());
+            out.writeInt(entry.getEnd());
+            out.writeInt(entry.getCpu());
+            out.writeByte(entry.getAlgorithm().ordinal());
+        }
+
+        out.writeBoolean(engine != null);
+        if (engine != null) {
+            options.writeTo(out);
+            out.writeInt(cpus);
+            out.writeInt(balanceInterval);
+            out.writeBoolean(paced);
+            engine.writeTo(out);
+        }
+    }
+
+    private static SessionCheckpoint readFrom(SnapshotReader in, int historyCapacity) throws IOException {
+        if (in.readInt() != MAGIC) {
+            throw new StreamCorruptedException("Not a simulation checkpoint");
+        }
+        int version = in.readInt();
+        if (version != VERSION) {
+            throw new StreamCorruptedException("Unsupported checkpoint version " + version);
+        }
+        SessionCheckpoint checkpoint = new SessionCheckpoint();
+        checkpoint.pidSequence = in.readLong();
+        checkpoint.status = enumAt(SimulationStatus.values(), in.readByte());
+        checkpoint.algorithm = enumAt(SchedulerAlgorithm.values(), in.readByte());
+        checkpoint.quantum = in.readInt();
+        checkpoint.ioDuration = in.readInt();
+
+        int count = in.readCount();
+        LongObjectHashMap<ProcessControlBlock> index = new LongObjectHashMap<>(count);
+        checkpoint.processes = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            ProcessControlBlock pcb = ProcessControlBlock.readFrom(in, historyCapacity);
+            if (index.put(pcb.getPid(), pcb) != null) {
+                throw new StreamCorruptedException("Duplicate PID " + pcb.getPid());
+            }
+            checkpoint.processes.add(pcb);
+        }
+        checkpoint.ready = readPids(in);
+        checkpoint.waiting = readPids(in);
+        checkpoint.terminated = readPids(in);
+        checkpoint.running = in.readLong();
+        checkpoint.stats = SchedulingStats.readFrom(in);
+
+        SchedulerAlgorithm[] algorithms = SchedulerAlgorithm.values();
+        int entries = in.readCount();
+        checkpoint.timeline = new ArrayList<>(entries);
+        for (int i = 0; i < entries; i++) {
+            long pid = in.readLong();
+            int start = in.readInt();
+            int end = in.readInt();
+            int cpu = in.readInt();
+            SchedulerAlgorithm algorithm = enumAt(algorithms, in.readByte());
+            ProcessControlBlock pcb = index.get(pid);
+            if (pcb == null) {
+                throw new StreamCorruptedException("Timeline references unknown PID " + pid);
+            }
+            checkpoint.timeline.add(new TimelineEntry(pid, pcb.getName(), start, end, algorithm, cpu));
+        }
+
+        if (in.readBoolean()) {
+            checkpoint.options = SchedulerOptions.readFrom(in);
+            checkpoint.cpus = in.readInt();
+            checkpoint.balanceInterval = in.readInt();
+            checkpoint.paced = in.readBoolean();
+            checkpoint.engine = EngineCheckpoint.readFrom(in);
+            if (checkpoint.cpus < 1 || checkpoint.engine.getCpuCount() != checkpoint.cpus) {
+                throw new StreamCorruptedException("Invalid CPU count " + checkpoint.cpus);
+            }
+        }
+        return checkpoint;
+    }
+
+    private static void writePids(SnapshotWriter out, long[] pids) throws IOException {
+        out.writeInt(pids.length);
+        for (long pid : pids) {
+            out.writeLong(pid);
+        }
+    }
+
+    private static long[] readPids(SnapshotReader in) throws IOException {
+        long[] pids = new long[in.readCount()];
+        for (int i = 0; i < pids.length; i++) {
+            pids[i] = in.readLong();
+        }
+        return pids;
+    }
+
+    static long[] pids(List<ProcessControlBlock> processes) {
+        long[] pids = new long[processes.size()];
+        for (int i = 0; i < pids.length; i++) {
+            pids[i] = processes.get(i).getPid();
+        }
+        return pids;
+    }
+
+    private static <E extends Enum<E>> E enumAt(E[] values, int ordinal) throws StreamCorruptedException {
+        if (ordinal < 0 || ordinal >= values.length) {
+            throw new StreamCorruptedException("Invalid " + values.getClass().getComponentType().getSimpleName()
+                    + " " + ordinal);
+        }
+        return values[ordinal];
+    }
+}
@@ -0,0 +1,196 @@
+package com.edu.ossimulator.service;
+
+import java.io.IOException;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.web.server.ResponseStatusException;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import com.edu.ossimulator.dto.StateDelta;
+import com.edu.ossimulator.model.ProcessControlBlock;
+
+/**
+ * Clientes del stream de una sesión. Los cambios se marcan bajo el lock de la
+ * sesión y se envían por lotes desde {@link StateStreamScheduler}.
+ */
+class SessionStateStream {
+
+    private static final long KEEP_ALIVE_MILLIS = 15_000L;
+
+    private final SimulationSession session;
+    private final StateStreamScheduler scheduler;
+    private final List<Subscriber> subscribers = new CopyOnWriteArrayList<>();
+
+    SessionStateStream(SimulationSession session, StateStreamScheduler scheduler) {
+        this.session = session;
+        this.scheduler = scheduler;
+    }
+
+    SseEmitter subscribe() {
+        SseEmitter emitter = new SseEmitter(0L);
+        Subscriber subscriber = new Subscriber(emitter);
+        subscribers.add(subscriber);
+        // Se agrega antes de comprobar para que dos conexiones simultáneas no pasen juntas el límite
+        if (subscribers.size() > scheduler.getMaxSubscribers()) {
+            subscribers.remove(subscriber);
+            throw new ResponseStatusException(HttpStatus.TOO_MANY_REQUESTS,
+                    "Stream subscriber limit reached for session " + session.getId() + " (" + scheduler.getMaxSubscribers() + ")");
+        }
+        emitter.onCompletion(() -> unsubscribe(subscriber));
+        emitter.onTimeout(() -> unsubscribe(subscriber));
+        emitter.onError(error -> unsubscribe(subscriber));
+        subscriber.task = scheduler.scheduleFlush(() -> flush(subscriber));
+        return emitter;
+    }
+
+    // Se invoca con el lock de la sesión tomado
+    void processChanged(ProcessControlBlock pcb) {
+        for (Subscriber subscriber : subscribers) {
+            subscriber.markDirty(pcb, scheduler.getMaxPendingChanges());
+        }
+    }
+
+    // Se invoca con el lock de la sesión tomado
+    void resync() {
+        for (Subscriber subscriber : subscribers) {
+            subscriber.requestSnapshot();
+        }
+    }
+
+    void close() {
+        for (Subscriber subscriber : subscribers) {
+            subscriber.emitter.complete();
+            unsubscribe(subscriber);
+        }
+    }
+
+    boolean hasSubscribers() {
+        return !subscribers.isEmpty();
+    }
+
+    int getMaxTimelineBatch() {
+        return scheduler.getMaxTimelineBatch();
+    }
+
+    private void flush(Subscriber subscriber) {
+        // Con un envío en curso los cambios se siguen coalesciendo hasta el próximo lote
+        if (!subscriber.sending.compareAndSet(false, true)) {
+            return;
+        }
+        if (!scheduler.hasIdleSender()) {
+            // Sin hilo libre no se arma el lote: los cambios siguen en la sesión
+            subscriber.sending.set(false);
+            senderUnavailable(subscriber);
+            return;
+        }
+        try {
+            SseEmitter.SseEventBuilder event = null;
+            StateDelta delta = session.collectDelta(subscriber);
+            if (delta != null) {
+                event = SseEmitter.event().name("delta").data(delta, MediaType.APPLICATION_JSON);
+                subscriber.idleMillis = 0;
+            } else if ((subscriber.idleMillis += scheduler.getFlushIntervalMillis()) >= KEEP_ALIVE_MILLIS) {
+                event = SseEmitter.event().comment("keep-alive");
+                subscriber.idleMillis = 0;
+            }
+            if (event == null) {
+                subscriber.sending.set(false);
+                return;
+            }
+            SseEmitter.SseEventBuilder next = event;
+            scheduler.send(() -> send(subscriber, next));
+            subscriber.rejectedMillis = 0;
+        } catch (RejectedExecutionException e) {
+            // El lote ya salió de la sesión: se reemplaza por un snapshot en el próximo intento
+            synchronized (session) {
+                subscriber.requestSnapshot();
+            }
+            subscriber.sending.set(false);
+            senderUnavailable(subscriber);
+        } catch (RuntimeException e) {
+            // Una excepción que escape cancelaría la tarea periódica sin avisar al cliente
+            subscriber.sending.set(false);
+            fail(subscriber, e);
+        }
+    }
+
+    private void senderUnavailable(Subscriber subscriber) {
+        if ((subscriber.rejectedMillis += scheduler.getFlushIntervalMillis()) >= KEEP_ALIVE_MILLIS) {
+            fail(subscriber, new IllegalStateException("No stream sender thread available"));
+        }
+    }
+
+    private void send(Subscriber subscriber, SseEmitter.SseEventBuilder event) {
+        try {
+            subscriber.emitter.send(event);
+        } catch (IOException | IllegalStateException e) {
+            unsubscribe(subscriber);
+        } catch (RuntimeException e) {
+            fail(subscriber, e);
+        } finally {
+            subscriber.sending.set(false);
+        }
+    }
+
+    private void fail(Subscriber subscriber, RuntimeException error) {
+        unsubscribe(subscriber);
+        subscriber.emitter.completeWithError(error);
+    }
+
+    private void unsubscribe(Subscriber subscriber) {
+        subscribers.remove(subscriber);
+        ScheduledFuture<?> task = subscriber.task;
+        if (task != null) {
+            task.cancel(false);
+        }
+    }
+
+    /**
+     * Estado de un cliente: procesos modificados (coalescidos por PID), cursor del
+     * timeline y últimos valores enviados. Se protege con el lock de la sesión.
+     */
+    static class Subscriber {
+
+        final SseEmitter emitter;
+        final Map<Long, ProcessControlBlock> dirty = new LinkedHashMap<>();
+        volatile ScheduledFuture<?> task;
+        // Hay un envío en el pool de envíos; idleMillis solo lo tocan los hilos programados
+        final AtomicBoolean sending = new AtomicBoolean();
+        boolean snapshotRequested = true;
+        long timelineCursor;
+        SimulationStatus lastStatus;
+        long lastRunningPid = -1;
+        List<Long> lastRunningPids;
+        long idleMillis;
+        // Tiempo seguido sin conseguir hilo de envío
+        long rejectedMillis;
+
+        Subscriber(SseEmitter emitter) {
+            this.emitter = emitter;
+        }
+
+        void markDirty(ProcessControlBlock pcb, int maxPending) {
+            if (snapshotRequested) {
+                return;
+            }
+            dirty.put(pcb.getPid(), pcb);
+            if (dirty.size() > maxPending) {
+                // Cliente demasiado atrasado: se reemplazan los cambios por un snapshot
+                requestSnapshot();
+            }
+        }
+
+        void requestSnapshot() {
+            snapshotRequested = true;
+            dirty.clear();
+        }
+    }
+}
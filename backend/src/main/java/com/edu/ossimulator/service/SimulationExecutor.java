@@ -0,0 +1,52 @@
+package com.edu.ossimulator.service;
+
+import java.util.concurrent.Future;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import jakarta.annotation.PreDestroy;
+
+/**
+ * Pool acotado donde corren las simulaciones de todas las sesiones. En tiempo
+ * real cada corrida ocupa un hilo mientras duerme, así que el límite fija
+ * cuántas simulaciones avanzan a la vez; las que además desborden la cola de
+ * espera se rechazan con {@link java.util.concurrent.RejectedExecutionException}.
+ */
+@Component
+public class SimulationExecutor {
+
+    private final ThreadPoolExecutor executor;
+
+    public SimulationExecutor(@Value("${simulator.sessions.max-concurrent-runs:256}") int maxConcurrentRuns,
+                              @Value("${simulator.sessions.queued-runs:1024}") int queuedRuns) {
+        AtomicInteger counter = new AtomicInteger();
+        executor = new ThreadPoolExecutor(
+                maxConcurrentRuns, maxConcurrentRuns,
+                60L, TimeUnit.SECONDS,
+                new LinkedBlockingQueue<>(queuedRuns),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "simulation-" + counter.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                });
+        executor.allowCoreThreadTimeOut(true);
+    }
+
+    public Future<?> submit(Runnable run) {
+        return executor.submit(run);
+    }
+
+    public int activeCount() {
+        return executor.getActiveCount();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+}
@@ -0,0 +1,1193 @@
+package com.edu.ossimulator.service;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Objects;
+import java.time.Instant;
+import java.util.Optional;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Collectors;
+
+import org.springframework.util.Assert;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import com.edu.ossimulator.dto.CreateProcessRequest;
+import com.edu.ossimulator.dto.InterruptionRequest;
+import com.edu.ossimulator.dto.ProcessSummary;
+import com.edu.ossimulator.dto.SchedulabilityResponse;
+import com.edu.ossimulator.dto.SimulationRequest;
+import com.edu.ossimulator.dto.SimulationStatsResponse;
+import com.edu.ossimulator.dto.StateDelta;
+import com.edu.ossimulator.dto.SystemStateResponse;
+import com.edu.ossimulator.dto.TimelineEntry;
+import com.edu.ossimulator.dto.TimelinePage;
+import com.edu.ossimulator.engine.EngineCheckpoint;
+import com.edu.ossimulator.engine.FifoReadyQueue;
+import com.edu.ossimulator.engine.MultiCoreEngine;
+import com.edu.ossimulator.engine.ReadyQueue;
+import com.edu.ossimulator.engine.SchedulabilityAnalysis;
+import com.edu.ossimulator.engine.SchedulerOptions;
+import com.edu.ossimulator.engine.SchedulingEngine;
+import com.edu.ossimulator.engine.SchedulingStats;
+import com.edu.ossimulator.engine.SimulationListener;
+import com.edu.ossimulator.engine.VirtualTimeEngine;
+import com.edu.ossimulator.model.ExecutionMode;
+import com.edu.ossimulator.model.ProcessControlBlock;
+import com.edu.ossimulator.model.ProcessQueue;
+import com.edu.ossimulator.model.ProcessState;
+import com.edu.ossimulator.model.SchedulerAlgorithm;
+import com.edu.ossimulator.util.LongObjectHashMap;
+import com.edu.ossimulator.util.SegmentedLog;
+
+/**
+ * Contexto aislado de una simulación: tabla de procesos, colas, timeline y
+ * ejecución propios. Cada sesión se sincroniza con su propio monitor, por lo
+ * que sesiones distintas no compiten entre sí.
+ */
+public class SimulationSession {
+
+    private static final int VIRTUAL_BATCH_SIZE = 4096;
+    // Algoritmos con bucle propio en tiempo real; el resto usa el motor de eventos a una unidad por segundo
+    private static final EnumSet<SchedulerAlgorithm> REAL_TIME_LOOPS = EnumSet.of(
+            SchedulerAlgorithm.FCFS, SchedulerAlgorithm.ROUND_ROBIN, SchedulerAlgorithm.PRIORITY, SchedulerAlgorithm.SJF);
+
+    private final ArrayList<ProcessControlBlock> processTable = new ArrayList<>();
+    private final LongObjectHashMap<ProcessControlBlock> processIndex = new LongObjectHashMap<>();
+    private final ProcessQueue readyQueue = new ProcessQueue();
+    private final ProcessQueue waitingQueue = new ProcessQueue();
+    private final ProcessQueue terminatedQueue = new ProcessQueue();
+    private final LongObjectHashMap<ScheduledFuture<?>> pendingIo = new LongObjectHashMap<>();
+    private final IoCompletionScheduler ioScheduler;
+    private final SimulationExecutor runner;
+    private final SessionStateStream stateStream;
+    private final SchedulerMetrics metrics;
+    private final CpuWorkerPool cpuWorkers;
+    private final JournalStore journals;
+    private final String id;
+    private final int historyCapacity;
+    private final int defaultBalanceInterval;
+    private final Instant createdAt = Instant.now();
+    private volatile long lastAccessNanos = System.nanoTime();
+    private final SegmentedLog<TimelineEntry> timeline = new SegmentedLog<>();
+
+    private SimulationStatus status = SimulationStatus.IDLE;
+    private ProcessControlBlock runningProcess;
+    private SchedulerAlgorithm lastAlgorithm = SchedulerAlgorithm.FCFS;
+    private int lastQuantum = 2;
+    private int lastIoDuration = VirtualTimeEngine.DEFAULT_IO_DURATION;
+    private Future<?> simulationTask;
+    private final AtomicBoolean shouldStop = new AtomicBoolean(false);
+    private final Object pauseLock = new Object();
+    private boolean isPaused = false;
+    private SchedulingEngine virtualEngine;
+    // Parámetros del motor en curso, para poder guardarlo y retomarlo desde un checkpoint
+    private SchedulerOptions runOptions;
+    private int runCpus = 1;
+    private int runBalanceInterval;
+    private boolean runPaced;
+    private SchedulingStats stats = new SchedulingStats();
+    private SchedulabilityAnalysis schedulability = new SchedulabilityAnalysis();
+    private RunJournal journal = RunJournal.DISABLED;
+    // Procesos que volvieron a READY mientras corre un bucle propio de tiempo real; el bucle los toma en cada paso
+    private final ArrayDeque<ProcessControlBlock> woken = new ArrayDeque<>();
+
+    public SimulationSession(String id,
+                             IoCompletionScheduler ioScheduler,
+                             SimulationExecutor runner,
+                             StateStreamScheduler streamScheduler,
+                             int historyCapacity,
+                             SchedulerMetrics metrics,
+                             CpuWorkerPool cpuWorkers,
+                             JournalStore journals,
+                             int defaultBalanceInterval) {
+        this.id = id;
+        this.journals = journals;
+        this.metrics = metrics;
+        this.cpuWorkers = cpuWorkers;
+        this.defaultBalanceInterval = defaultBalanceInterval;
+        this.historyCapacity = historyCapacity;
+        this.ioScheduler = ioScheduler;
+        this.runner = runner;
+        this.stateStream = new SessionStateStream(this, streamScheduler);
+    }
+
+    public String getId() {
+        return id;
+    }
+
+    public Instant getCreatedAt() {
+        return createdAt;
+    }
+
+    void touch() {
+        lastAccessNanos = System.nanoTime();
+    }
+
+    /** Nadie la usó en {@code idleNanos}, no tiene una corrida activa ni clientes del stream. */
+    synchronized boolean isIdleFor(long idleNanos) {
+        return status != SimulationStatus.RUNNING && status != SimulationStatus.PAUSED
+                && !stateStream.hasSubscribers() && System.nanoTime() - lastAccessNanos >= idleNanos;
+    }
+
+    public synchronized SimulationStatus getStatus() {
+        return status;
+    }
+
+    public synchronized int getProcessCount() {
+        return processTable.size();
+    }
+
+    // Lecturas sin lock para los gauges de métricas: pueden quedar un instante desfasadas
+    int readyDepth() {
+        SchedulingEngine engine = virtualEngine;
+        return engine != null ? engine.readySize() : readyQueue.size();
+    }
+
+    int waitingDepth() {
+        return waitingQueue.size();
+    }
+
+    int terminatedDepth() {
+        return terminatedQueue.size();
+    }
+
+    public synchronized ProcessControlBlock createProcess(CreateProcessRequest request) {
+        return register(request);
+    }
+
+    /** Inserta un lote completo con una sola adquisición del lock de la sesión. */
+    public synchronized void createProcesses(List<CreateProcessRequest> requests) {
+        processTable.ensureCapacity(processTable.size() + requests.size());
+        for (CreateProcessRequest request : requests) {
+            register(request);
+        }
+    }
+
+    private ProcessControlBlock register(CreateProcessRequest request) {
+        ProcessControlBlock pcb = new ProcessControlBlock(
+                request.getName(),
+                request.getArrivalTime(),
+                request.getBurstTime(),
+                Optional.ofNullable(request.getPriority()).orElse(1),
+                historyCapacity
+        );
+        pcb.setAffinity(request.getAffinity());
+        if (request.getTickets() != null) {
+            pcb.setTickets(request.getTickets());
+        }
+        pcb.setPeriod(request.getPeriod());
+        pcb.setDeadline(request.getDeadline());
+        schedulability.add(pcb);
+        pcb.setChangeObserver(stateStream::processChanged);
+        pcb.setState(ProcessState.READY);
+        processTable.add(pcb);
+        processIndex.put(pcb.getPid(), pcb);
+        readyQueue.add(pcb);
+        return pcb;
+    }
+
+    public synchronized List<ProcessControlBlock> getProcessTable() {
+        return new ArrayList<>(processTable);
+    }
+
+    /** Copias de la tabla de procesos para correr experimentos fuera de la sesión. */
+    public synchronized List<ProcessControlBlock> copyProcessTable() {
+        List<ProcessControlBlock> copies = new ArrayList<>(processTable.size());
+        for (ProcessControlBlock pcb : processTable) {
+            copies.add(pcb.copyForRun(1));
+        }
+        return copies;
+    }
+
+    public synchronized SystemStateResponse getSystemState() {
+        return new SystemStateResponse(
+                status,
+                virtualEngine != null ? virtualEngine.readySnapshot() : readyQueue.toList(),
+                waitingQueue.toList(),
+                terminatedQueue.toList(),
+                runningProcess,
+                virtualEngine != null ? virtualEngine.runningSnapshot() : Collections.singletonList(runningProcess)
+        );
+    }
+
+    // El timeline se lee sin tomar el lock de la sesión: el log admite lectores concurrentes
+    public List<TimelineEntry> getTimeline() {
+        return timeline.toList();
+    }
+
+    public TimelinePage getTimelinePage(long since, int limit) {
+        SegmentedLog.Slice<TimelineEntry> slice = timeline.slice(since, limit);
+        return new TimelinePage(slice.getFirstSeq(), slice.getNextSeq(), since < slice.getFirstSeq(), slice.getEntries());
+    }
+
+    public SegmentedLog.View<TimelineEntry> getTimelineView() {
+        return timeline.view();
+    }
+
+    public synchronized SimulationStatsResponse getStats() {
+        return new SimulationStatsResponse(status, lastAlgorithm, stats);
+    }
+
+    public synchronized SchedulabilityResponse getSchedulability() {
+        return new SchedulabilityResponse(schedulability);
+    }
+
+    public SseEmitter openStream() {
+        return stateStream.subscribe();
+    }
+
+    public void close() {
+        stopSimulation();
+        stateStream.close();
+    }
+
+    /**
+     * Escribe el checkpoint con el lock tomado: una corrida en curso queda
+     * detenida entre dos lotes mientras tanto. Solo se puede retomar una corrida
+     * del motor de eventos; la de un bucle propio de tiempo real se guarda como
+     * detenida.
+     */
+    synchronized SessionCheckpoint writeCheckpoint(Path file) throws IOException {
+        boolean active = status == SimulationStatus.RUNNING || status == SimulationStatus.PAUSED;
+        boolean resumable = active && virtualEngine != null;
+        SessionCheckpoint checkpoint = new SessionCheckpoint();
+        checkpoint.pidSequence = ProcessControlBlock.nextPid();
+        checkpoint.status = resumable ? SimulationStatus.PAUSED : active ? SimulationStatus.STOPPED : status;
+        checkpoint.algorithm = lastAlgorithm;
+        checkpoint.quantum = lastQuantum;
+        checkpoint.ioDuration = lastIoDuration;
+        checkpoint.processes = processTable;
+        checkpoint.ready = SessionCheckpoint.pids(readyQueue.toList());
+        checkpoint.waiting = SessionCheckpoint.pids(waitingQueue.toList());
+        checkpoint.terminated = SessionCheckpoint.pids(terminatedQueue.toList());
+        checkpoint.running = resumable && runningProcess != null ? runningProcess.getPid() : 0;
+        checkpoint.stats = stats;
+        checkpoint.timeline = timeline.toList();
+        if (resumable) {
+            checkpoint.engine = virtualEngine.checkpoint();
+            checkpoint.options = runOptions;
+            checkpoint.cpus = runCpus;
+            checkpoint.balanceInterval = runBalanceInterval;
+            checkpoint.paced = runPaced;
+        }
+        checkpoint.write(file);
+        return checkpoint;
+    }
+
+    /**
+     * Reemplaza el contenido de la sesión por el de un checkpoint ya leído. Todo
+     * se valida antes de tocar la sesión; una corrida guardada en curso queda
+     * en pausa en el instante del checkpoint y continúa con resume.
+     */
+    synchronized void restore(SessionCheckpoint checkpoint) {
+        LongObjectHashMap<ProcessControlBlock> index = new LongObjectHashMap<>(checkpoint.processes.size());
+        for (ProcessControlBlock pcb : checkpoint.processes) {
+            index.put(pcb.getPid(), pcb);
+            pcb.setChangeObserver(stateStream::processChanged);
+        }
+        List<ProcessControlBlock> ready = resolve(index, checkpoint.ready);
+        List<ProcessControlBlock> waiting = resolve(index, checkpoint.waiting);
+        List<ProcessControlBlock> terminated = resolve(index, checkpoint.terminated);
+        ProcessControlBlock running = checkpoint.running != 0 ? resolve(index, new long[] {checkpoint.running}).get(0) : null;
+        SchedulingEngine engine = null;
+        if (checkpoint.engine != null) {
+            EngineCheckpoint state = checkpoint.engine;
+            engine = newEngine(checkpoint.algorithm, checkpoint.options, checkpoint.ioDuration,
+                    resolve(index, state.getArrivals()), checkpoint.cpus, checkpoint.balanceInterval);
+            engine.restore(state, index::get);
+        }
+
+        stopSimulation();
+        processTable.clear();
+        processTable.addAll(checkpoint.processes);
+        processIndex.clear();
+        schedulability = new SchedulabilityAnalysis();
+        for (ProcessControlBlock pcb : checkpoint.processes) {
+            processIndex.put(pcb.getPid(), pcb);
+            schedulability.add(pcb);
+        }
+        readyQueue.clear();
+        waitingQueue.clear();
+        terminatedQueue.clear();
+        readyQueue.addAll(ready);
+        waitingQueue.addAll(waiting);
+        terminatedQueue.addAll(terminated);
+        runningProcess = running;
+        lastAlgorithm = checkpoint.algorithm;
+        lastQuantum = checkpoint.quantum;
+        lastIoDuration = checkpoint.ioDuration;
+        stats = checkpoint.stats;
+        timeline.reset();
+        checkpoint.timeline.forEach(timeline::append);
+        ProcessControlBlock.reservePids(checkpoint.pidSequence);
+        status = checkpoint.status;
+        if (engine != null) {
+            shouldStop.set(false);
+            isPaused = true;
+            status = SimulationStatus.PAUSED;
+            launch(engine, checkpoint.options, checkpoint.cpus, checkpoint.balanceInterval, checkpoint.paced);
+        }
+        stateStream.resync();
+    }
+
+    private static List<ProcessControlBlock> resolve(LongObjectHashMap<ProcessControlBlock> index, long[] pids) {
+        List<ProcessControlBlock> processes = new ArrayList<>(pids.length);
+        for (long pid : pids) {
+            ProcessControlBlock pcb = index.get(pid);
+            if (pcb == null) {
+                throw new IllegalArgumentException("Checkpoint references unknown PID " + pid);
+            }
+            processes.add(pcb);
+        }
+        return processes;
+    }
+
+    synchronized StateDelta collectDelta(SessionStateStream.Subscriber subscriber) {
+        StateDelta delta = new StateDelta();
+        boolean changed = false;
+        if (subscriber.snapshotRequested || subscriber.timelineCursor < timeline.firstSeq()) {
+            subscriber.snapshotRequested = false;
+            subscriber.dirty.clear();
+            subscriber.timelineCursor = timeline.firstSeq();
+            delta.setSnapshot(true);
+            delta.setProcesses(processTable.stream().map(ProcessSummary::new).toList());
+            delta.setReadyQueue(pids(virtualEngine != null ? virtualEngine.readySnapshot() : readyQueue.toList()));
+            delta.setWaitingQueue(pids(waitingQueue.toList()));
+            delta.setTerminatedQueue(pids(terminatedQueue.toList()));
+            changed = true;
+        } else if (!subscriber.dirty.isEmpty()) {
+            delta.setProcesses(subscriber.dirty.values().stream().map(ProcessSummary::new).toList());
+            subscriber.dirty.clear();
+            changed = true;
+        }
+
+        // El timeline se envía por tramos acotados desde el cursor del cliente
+        List<TimelineEntry> entries = timeline.read(subscriber.timelineCursor, stateStream.getMaxTimelineBatch());
+        if (!entries.isEmpty()) {
+            delta.setTimeline(entries);
+            subscriber.timelineCursor += entries.size();
+            changed = true;
+        }
+
+        long runningPid = runningProcess != null ? runningProcess.getPid() : 0;
+        List<Long> runningPids = virtualEngine != null && virtualEngine.getCpuCount() > 1
+                ? virtualEngine.runningSnapshot().stream().map(p -> p != null ? p.getPid() : 0L).toList()
+                : null;
+        if (!changed && status == subscriber.lastStatus && runningPid == subscriber.lastRunningPid
+                && Objects.equals(runningPids, subscriber.lastRunningPids)) {
+            return null;
+        }
+        subscriber.lastStatus = status;
+        subscriber.lastRunningPid = runningPid;
+        subscriber.lastRunningPids = runningPids;
+        delta.setStatus(status);
+        delta.setRunningPid(runningPid);
+        delta.setRunningPids(runningPids);
+        return delta;
+    }
+
+    private static List<Long> pids(List<ProcessControlBlock> processes) {
+        return processes.stream().map(ProcessControlBlock::getPid).toList();
+    }
+
+    public synchronized void startSimulation(SimulationRequest request) {
+        Assert.notNull(request.getAlgorithm(), "Algorithm is required");
+        ExecutionMode mode = Optional.ofNullable(request.getMode()).orElse(ExecutionMode.REAL_TIME);
+        int cpus = Optional.ofNullable(request.getCpus()).orElse(1);
+        
+        // Si hay una simulación en curso, detenerla primero
+        if (status == SimulationStatus.RUNNING || status == SimulationStatus.PAUSED) {
+            stopSimulation();
+        }
+        
+        this.status = SimulationStatus.RUNNING;
+        this.lastAlgorithm = request.getAlgorithm();
+        this.lastQuantum = Optional.ofNullable(request.getQuantum()).orElse(lastQuantum);
+        this.lastIoDuration = Optional.ofNullable(request.getIoDuration()).orElse(lastIoDuration);
+        this.shouldStop.set(false);
+        this.isPaused = false;
+        resetQueues();
+        timeline.reset();
+        stats = new SchedulingStats(cpus);
+        stateStream.resync();
+
+        List<ProcessControlBlock> workingSet = processTable.stream()
+                .sorted(Comparator.comparingInt(ProcessControlBlock::getArrivalTime))
+                .collect(Collectors.toList());
+        journal = journals.open(id);
+        journal.runStarted(request.getAlgorithm(), mode, cpus, lastQuantum, lastIoDuration, workingSet);
+
+        // Los bucles propios de tiempo real no conocen períodos ni deadlines
+        if (mode == ExecutionMode.VIRTUAL_TIME || cpus > 1 || !REAL_TIME_LOOPS.contains(request.getAlgorithm())
+                || workingSet.stream().anyMatch(ProcessControlBlock::isRealTime)) {
+            SchedulerOptions options = new SchedulerOptions(lastQuantum);
+            options.setAgingInterval(Optional.ofNullable(request.getAgingInterval()).orElse(0));
+            if (request.getMlfqLevels() != null) {
+                options.setMlfqLevels(request.getMlfqLevels());
+            }
+            if (request.getMlfqQuanta() != null) {
+                options.setMlfqQuanta(request.getMlfqQuanta().stream().mapToInt(Integer::intValue).toArray());
+            }
+            if (request.getBoostInterval() != null) {
+                options.setBoostInterval(request.getBoostInterval());
+            }
+            if (request.getTargetLatency() != null) {
+                options.setTargetLatency(request.getTargetLatency());
+            }
+            if (request.getMinGranularity() != null) {
+                options.setMinGranularity(request.getMinGranularity());
+            }
+            if (request.getSeed() != null) {
+                options.setSeed(request.getSeed());
+            }
+            if (request.getHorizon() != null) {
+                options.setHorizon(request.getHorizon());
+            }
+            startVirtualSimulation(request.getAlgorithm(), options, workingSet, cpus,
+                    Optional.ofNullable(request.getBalanceInterval()).orElse(defaultBalanceInterval),
+                    mode == ExecutionMode.REAL_TIME);
+            return;
+        }
+
+        // Ejecutar la simulación en un hilo del pool compartido de simulaciones
+        RunJournal runJournal = journal;
+        submitRun(() -> {
+            try {
+                switch (request.getAlgorithm()) {
+                    case FCFS -> runFcfsReal(workingSet);
+                    case ROUND_ROBIN -> runRoundRobinReal(workingSet, this.lastQuantum);
+                    case PRIORITY -> runPriorityReal(workingSet);
+                    case SJF -> runSjfReal(workingSet);
+                }
+                synchronized (this) {
+                    if (status != SimulationStatus.STOPPED) {
+                        this.status = SimulationStatus.COMPLETED;
+                    }
+                    runningProcess = null;
+                    // Una corrida nueva ya abrió su propio journal: no cerrarlo desde acá
+                    if (journal == runJournal) {
+                        finishJournal(status);
+                    }
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                synchronized (this) {
+                    this.status = SimulationStatus.STOPPED;
+                    runningProcess = null;
+                    if (journal == runJournal) {
+                        finishJournal(status);
+                    }
+                }
+            }
+        });
+    }
+
+    private void startVirtualSimulation(SchedulerAlgorithm algorithm, SchedulerOptions options,
+                                        List<ProcessControlBlock> workingSet, int cpus, int balanceInterval,
+                                        boolean paced) {
+        // Con el motor de eventos la cola ready la administra el motor según las llegadas
+        readyQueue.clear();
+        launch(newEngine(algorithm, options, lastIoDuration, workingSet, cpus, balanceInterval), options, cpus, balanceInterval, paced);
+    }
+
+    private SchedulingEngine newEngine(SchedulerAlgorithm algorithm, SchedulerOptions options, int ioDuration,
+                                       List<ProcessControlBlock> workingSet, int cpus, int balanceInterval) {
+        return cpus > 1
+                ? new MultiCoreEngine(algorithm, options, ioDuration, cpus, balanceInterval, workingSet,
+                        new VirtualRunListener(algorithm), stateStream::processChanged, cpuWorkers.executor())
+                : new VirtualTimeEngine(
+                        algorithm, options, ioDuration, workingSet, new VirtualRunListener(algorithm));
+    }
+
+    private void launch(SchedulingEngine engine, SchedulerOptions options, int cpus, int balanceInterval, boolean paced) {
+        virtualEngine = engine;
+        runOptions = options;
+        runCpus = cpus;
+        runBalanceInterval = balanceInterval;
+        runPaced = paced;
+
+        submitRun(() -> {
+            try {
+                if (paced) {
+                    runPaced(engine);
+                } else {
+                    runVirtual(engine);
+                }
+                synchronized (this) {
+                    if (virtualEngine == engine) {
+                        this.status = SimulationStatus.COMPLETED;
+                        runningProcess = null;
+                        virtualEngine = null;
+                        engine.close();
+                        finishJournal(status);
+                    }
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                synchronized (this) {
+                    if (virtualEngine == engine) {
+                        this.status = SimulationStatus.STOPPED;
+                        runningProcess = null;
+                        virtualEngine = null;
+                        engine.close();
+                        finishJournal(status);
+                    }
+                }
+            }
+        });
+    }
+
+    private void submitRun(Runnable run) {
+        try {
+            simulationTask = runner.submit(run);
+        } catch (RejectedExecutionException e) {
+            status = SimulationStatus.IDLE;
+            virtualEngine = null;
+            finishJournal(status);
+            throw e;
+        }
+    }
+
+    private void finishJournal(SimulationStatus status) {
+        journals.finish(journal, status);
+        journal = RunJournal.DISABLED;
+    }
+
+    private void runVirtual(SchedulingEngine engine) throws InterruptedException {
+        // Se procesan lotes de eventos para no retener el lock durante toda la corrida
+        while (true) {
+            waitForPause();
+            synchronized (this) {
+                if (shouldStop.get() || virtualEngine != engine) {
+                    throw new InterruptedException("Simulation stopped");
+                }
+                if (!engine.advance(VIRTUAL_BATCH_SIZE)) {
+                    return;
+                }
+            }
+        }
+    }
+
+    private void runPaced(SchedulingEngine engine) throws InterruptedException {
+        // Tiempo real sobre el motor de eventos: se procesa una unidad de tiempo por segundo
+        // desde donde esté el reloj (0, o el instante de un checkpoint restaurado)
+        for (int time = engine.getClock() + 1; ; time++) {
+            waitForPause();
+            synchronized (this) {
+                if (shouldStop.get() || virtualEngine != engine) {
+                    throw new InterruptedException("Simulation stopped");
+                }
+                if (!engine.advanceTo(time)) {
+                    return;
+                }
+            }
+            sleepWithPause(1000L);
+        }
+    }
+
+    public synchronized void pauseSimulation() {
+        if (status == SimulationStatus.RUNNING) {
+            status = SimulationStatus.PAUSED;
+            isPaused = true;
+            synchronized (pauseLock) {
+                pauseLock.notifyAll();
+            }
+        }
+    }
+
+    public synchronized void resumeSimulation() {
+        if (status == SimulationStatus.PAUSED) {
+            status = SimulationStatus.RUNNING;
+            isPaused = false;
+            synchronized (pauseLock) {
+                pauseLock.notifyAll();
+            }
+        }
+    }
+
+    public synchronized void stopSimulation() {
+        shouldStop.set(true);
+        isPaused = false;
+        status = SimulationStatus.STOPPED;
+        runningProcess = null;
+        cancelAllPendingIo();
+        if (virtualEngine != null) {
+            // Los procesos listos vuelven a la cola visible del sistema
+            readyQueue.addAll(virtualEngine.readySnapshot());
+            virtualEngine.close();
+            virtualEngine = null;
+        }
+        finishJournal(status);
+        synchronized (pauseLock) {
+            pauseLock.notifyAll();
+        }
+        if (simulationTask != null && !simulationTask.isDone()) {
+            simulationTask.cancel(true);
+        }
+    }
+    
+    private void waitForPause() throws InterruptedException {
+        synchronized (pauseLock) {
+            while (isPaused && !shouldStop.get()) {
+                pauseLock.wait();
+            }
+        }
+    }
+    
+    private void sleepWithPause(long milliseconds) throws InterruptedException {
+        long startTime = System.currentTimeMillis();
+        while (System.currentTimeMillis() - startTime < milliseconds) {
+            if (shouldStop.get()) {
+                throw new InterruptedException("Simulation stopped");
+            }
+            waitForPause();
+            long remaining = milliseconds - (System.currentTimeMillis() - startTime);
+            if (remaining > 0) {
+                Thread.sleep(Math.min(remaining, 100)); // Sleep in small chunks to check pause/stop
+            }
+        }
+    }
+
+    public synchronized void emitInterruption(InterruptionRequest request) {
+        ProcessControlBlock pcb = findProcess(request.getPid());
+        metrics.interruption(request.getType());
+        switch (request.getType()) {
+            case IO -> moveToWaiting(pcb, "I/O interrupt: " + request.getReason(),
+                    Optional.ofNullable(request.getIoDuration()).orElse(lastIoDuration));
+            case QUANTUM_EXPIRED -> moveToReady(pcb, "Quantum expired: " + request.getReason());
+            case MANUAL_STOP -> moveToTerminated(pcb, "Manual termination: " + request.getReason());
+            case MANUAL_PAUSE -> pauseTarget(pcb, request.getReason());
+        }
+    }
+
+    private ProcessControlBlock findProcess(long pid) {
+        ProcessControlBlock pcb = processIndex.get(pid);
+        if (pcb == null) {
+            throw new IllegalArgumentException("PID not found: " + pid);
+        }
+        return pcb;
+    }
+
+    private void moveToWaiting(ProcessControlBlock pcb, String reason, int ioDuration) {
+        updateState(pcb, ProcessState.WAITING, reason);
+        // add() también la retira de la cola ready si estaba allí
+        waitingQueue.remove(pcb);
+        waitingQueue.add(pcb);
+        if (runningProcess == pcb) {
+            runningProcess = null;
+        }
+        if (virtualEngine != null) {
+            virtualEngine.onIoStarted(pcb, ioDuration);
+            return;
+        }
+        
+        // Programar que el proceso vuelva a READY al terminar la I/O (un solo temporizador compartido)
+        cancelPendingIo(pcb);
+        pendingIo.put(pcb.getPid(), ioScheduler.schedule(() -> completeIo(pcb), ioDuration * 1000L));
+    }
+
+    private synchronized void completeIo(ProcessControlBlock pcb) {
+        pendingIo.remove(pcb.getPid());
+        if (pcb.getState() == ProcessState.WAITING && !shouldStop.get()) {
+            moveToReady(pcb, "I/O completed");
+        }
+    }
+
+    private void cancelPendingIo(ProcessControlBlock pcb) {
+        ScheduledFuture<?> pending = pendingIo.remove(pcb.getPid());
+        if (pending != null) {
+            pending.cancel(false);
+        }
+    }
+
+    private void cancelAllPendingIo() {
+        for (ScheduledFuture<?> pending : pendingIo.values()) {
+            pending.cancel(false);
+        }
+        pendingIo.clear();
+    }
+
+    private void moveToReady(ProcessControlBlock pcb, String reason) {
+        updateState(pcb, ProcessState.READY, reason);
+        cancelPendingIo(pcb);
+        waitingQueue.remove(pcb);
+        if (virtualEngine != null) {
+            virtualEngine.onReady(pcb);
+            return;
+        }
+        readyQueue.remove(pcb);
+        readyQueue.add(pcb);
+        woken.add(pcb);
+    }
+
+    private void moveToTerminated(ProcessControlBlock pcb, String reason) {
+        updateState(pcb, ProcessState.TERMINATED, reason);
+        cancelPendingIo(pcb);
+        terminatedQueue.remove(pcb);
+        terminatedQueue.add(pcb);
+        if (runningProcess == pcb) {
+            runningProcess = null;
+        }
+        if (virtualEngine != null) {
+            virtualEngine.onTerminated(pcb);
+        }
+    }
+
+    private void pauseTarget(ProcessControlBlock pcb, String reason) {
+        updateState(pcb, ProcessState.WAITING, "Manual pause: " + reason);
+        cancelPendingIo(pcb);
+        waitingQueue.add(pcb);
+        runningProcess = null;
+        status = SimulationStatus.PAUSED;
+        if (virtualEngine != null) {
+            virtualEngine.onWaiting(pcb);
+        }
+    }
+
+    private void updateState(ProcessControlBlock pcb, ProcessState state, String reason) {
+        pcb.setState(state, reason);
+        journal.state(pcb, state);
+    }
+
+    private void resetQueues() {
+        cancelAllPendingIo();
+        woken.clear();
+        readyQueue.clear();
+        waitingQueue.clear();
+        terminatedQueue.clear();
+        runningProcess = null;
+        processTable.forEach(ProcessControlBlock::resetRuntimeData);
+        readyQueue.addAll(processTable);
+    }
+
+    private void runFcfsReal(List<ProcessControlBlock> processes) throws InterruptedException {
+        // Usar una cola dinámica que se actualiza con procesos que vuelven de WAITING
+        ReadyQueue queue = new FifoReadyQueue();
+        List<ProcessControlBlock> allProcesses = new ArrayList<>(processes);
+        allProcesses.forEach(p -> p.resetRuntimeData());
+        
+        int time = 0;
+        int nextArrivalIndex = 0;
+        
+        while ((!queue.isEmpty() || nextArrivalIndex < allProcesses.size() || 
+                !waitingQueue.isEmpty() || !readyQueue.isEmpty()) && !shouldStop.get()) {
+            
+            // Agregar procesos que han llegado
+            while (nextArrivalIndex < allProcesses.size()) {
+                ProcessControlBlock p = allProcesses.get(nextArrivalIndex);
+                if (p.getArrivalTime() <= time) {
+                    synchronized (this) {
+                        if (p.getState() != ProcessState.TERMINATED && p.getState() != ProcessState.WAITING) {
+                            p.setState(ProcessState.READY);
+                            if (!queue.contains(p)) {
+                                queue.offer(p);
+                            }
+                        }
+                    }
+                    nextArrivalIndex++;
+                } else {
+                    break;
+                }
+            }
+            
+            // Agregar procesos que volvieron de WAITING a READY
+            synchronized (this) {
+                offerWoken(queue, time);
+            }
+            
+            // Si no hay procesos listos, esperar hasta el próximo evento
+            if (queue.isEmpty()) {
+                int nextTime = Integer.MAX_VALUE;
+                if (nextArrivalIndex < allProcesses.size()) {
+                    nextTime = Math.min(nextTime, allProcesses.get(nextArrivalIndex).getArrivalTime());
+                }
+                // Verificar si hay procesos en WAITING que podrían volver pronto
+                synchronized (this) {
+                    if (!waitingQueue.isEmpty()) {
+                        // Esperar un poco para que los procesos en WAITING puedan volver (duración de I/O + 1)
+                        nextTime = Math.min(nextTime, time + lastIoDuration + 1);
+                    }
+                }
+                if (nextTime == Integer.MAX_VALUE) break;
+                if (nextTime > time) {
+                    sleepWithPause((nextTime - time) * 1000L);
+                    time = nextTime;
+                }
+                continue;
+            }
+            
+            ProcessControlBlock pcb = pollTimed(queue, SchedulerAlgorithm.FCFS);
+            
+            // Verificar que el proceso esté listo para ejecutarse
+            synchronized (this) {
+                if (pcb.getState() != ProcessState.READY || pcb.getRemainingTime() <= 0) {
+                    continue;
+                }
+                metrics.contextSwitch(SchedulerAlgorithm.FCFS);
+                pcb.setState(ProcessState.RUNNING);
+                runningProcess = pcb;
+                journal.dispatched(pcb);
+                readyQueue.remove(pcb);
+                int start = time;
+                timeline.append(new TimelineEntry(pcb.getPid(), pcb.getName(), start, start + pcb.getRemainingTime(), SchedulerAlgorithm.FCFS));
+            }
+            
+            // Esperar el burst time real, actualizando remainingTime cada segundo
+            int remaining = pcb.getRemainingTime();
+            int executed = 0;
+            for (int i = 0; i < remaining && !shouldStop.get(); i++) {
+                sleepWithPause(1000L);
+                synchronized (this) {
+                    // Verificar si el proceso fue movido a WAITING por una interrupción
+                    if (pcb.getState() == ProcessState.WAITING || pcb.getState() == ProcessState.TERMINATED) {
+                        // El proceso fue interrumpido o terminado, salir del loop
+                        break;
+                    }
+                    if (pcb.getRemainingTime() > 0) {
+                        pcb.setRemainingTime(pcb.getRemainingTime() - 1);
+                        executed++;
+                    }
+                }
+            }
+            
+            synchronized (this) {
+                stats.sliceCompleted(pcb, time, time + executed);
+                journal.slice(pcb.getPid(), time, time + executed, 0);
+                // Verificar el estado final del proceso
+                if (pcb.getState() == ProcessState.WAITING) {
+                    // El proceso fue interrumpido y está en WAITING
+                    runningProcess = null;
+                    time += executed;
+                    // El proceso ya está en waitingQueue, continuar con el siguiente
+                    continue;
+                } else if (pcb.getRemainingTime() <= 0 || pcb.getState() == ProcessState.TERMINATED) {
+                    // Proceso terminado
+                    if (pcb.getRemainingTime() <= 0) {
+                        stats.processCompleted(pcb, time + executed);
+                        journal.terminated(pcb, time + executed);
+                    }
+                    pcb.setState(ProcessState.TERMINATED);
+                    pcb.setRemainingTime(0);
+                    runningProcess = null;
+                    terminatedQueue.add(pcb);
+                    time += executed;
+                } else {
+                    // Esto no debería pasar, pero por seguridad
+                    pcb.setState(ProcessState.TERMINATED);
+                    journal.state(pcb, ProcessState.TERMINATED);
+                    pcb.setRemainingTime(0);
+                    runningProcess = null;
+                    terminatedQueue.add(pcb);
+                    time += executed;
+                }
+            }
+        }
+    }
+
+    private void runPriorityReal(List<ProcessControlBlock> processes) throws InterruptedException {
+        runNonPreemptiveReal(processes, SchedulerAlgorithm.PRIORITY);
+    }
+
+    private void runNonPreemptiveReal(List<ProcessControlBlock> processes, SchedulerAlgorithm algorithm) throws InterruptedException {
+        // Las llegadas se consumen en orden con un cursor y los procesos disponibles viven en un heap
+        List<ProcessControlBlock> sorted = processes.stream()
+                .sorted(Comparator.comparingInt(ProcessControlBlock::getArrivalTime))
+                .collect(Collectors.toList());
+        ReadyQueue queue = ReadyQueue.forAlgorithm(algorithm);
+
+        int time = 0;
+        int index = 0;
+        while ((index < sorted.size() || !queue.isEmpty()) && !shouldStop.get()) {
+            while (index < sorted.size() && sorted.get(index).getArrivalTime() <= time) {
+                queue.offer(sorted.get(index++));
+            }
+            
+            if (queue.isEmpty()) {
+                int nextArrival = sorted.get(index).getArrivalTime();
+                int waitTime = nextArrival - time;
+                if (waitTime > 0) {
+                    sleepWithPause(waitTime * 1000L);
+                }
+                time = nextArrival;
+                continue;
+            }
+            
+            ProcessControlBlock next = pollTimed(queue, algorithm);
+            
+            synchronized (this) {
+                metrics.contextSwitch(algorithm);
+                next.setState(ProcessState.RUNNING);
+                runningProcess = next;
+                journal.dispatched(next);
+                readyQueue.remove(next);
+                int start = time;
+                timeline.append(new TimelineEntry(next.getPid(), next.getName(), start, start + next.getBurstTime(), algorithm));
+            }
+            
+            // Esperar el burst time real, actualizando remainingTime cada segundo
+            int remaining = next.getRemainingTime();
+            int executed = 0;
+            for (int i = 0; i < remaining && !shouldStop.get(); i++) {
+                sleepWithPause(1000L); // Esperar 1 segundo
+                synchronized (this) {
+                    // Verificar si el proceso fue movido a WAITING por una interrupción
+                    if (next.getState() == ProcessState.WAITING || next.getState() == ProcessState.TERMINATED) {
+                        // El proceso fue interrumpido o terminado, salir del loop
+                        break;
+                    }
+                    if (next.getRemainingTime() > 0) {
+                        next.setRemainingTime(next.getRemainingTime() - 1);
+                        executed++;
+                    }
+                }
+            }
+            
+            synchronized (this) {
+                stats.sliceCompleted(next, time, time + executed);
+                journal.slice(next.getPid(), time, time + executed, 0);
+                // Verificar el estado final del proceso
+                if (next.getState() == ProcessState.WAITING) {
+                    // El proceso fue interrumpido y está en WAITING
+                    runningProcess = null;
+                    time += executed;
+                    // El proceso ya está en waitingQueue, continuar con el siguiente
+                    continue;
+                } else {
+                    // Proceso terminado
+                    if (next.getRemainingTime() <= 0) {
+                        stats.processCompleted(next, time + executed);
+                        journal.terminated(next, time + executed);
+                    }
+                    next.setState(ProcessState.TERMINATED);
+                    next.setRemainingTime(0);
+                    runningProcess = null;
+                    terminatedQueue.add(next);
+                    time += executed;
+                }
+            }
+        }
+    }
+
+    private void runSjfReal(List<ProcessControlBlock> processes) throws InterruptedException {
+        runNonPreemptiveReal(processes, SchedulerAlgorithm.SJF);
+    }
+
+    private void runRoundRobinReal(List<ProcessControlBlock> processes, int quantum) throws InterruptedException {
+        ReadyQueue queue = new FifoReadyQueue();
+        List<ProcessControlBlock> sorted = processes.stream()
+                .sorted(Comparator.comparingInt(ProcessControlBlock::getArrivalTime))
+                .collect(Collectors.toList());
+
+        int time = 0;
+        int index = 0;
+        while ((!queue.isEmpty() || index < sorted.size() || !waitingQueue.isEmpty() || !readyQueue.isEmpty()) && !shouldStop.get()) {
+            // Agregar procesos que han llegado
+            while (index < sorted.size() && sorted.get(index).getArrivalTime() <= time) {
+                ProcessControlBlock pcb = sorted.get(index);
+                synchronized (this) {
+                    if (pcb.getState() != ProcessState.TERMINATED && pcb.getState() != ProcessState.WAITING) {
+                        pcb.setState(ProcessState.READY);
+                        if (!queue.contains(pcb)) {
+                            queue.offer(pcb);
+                        }
+                    }
+                }
+                index++;
+            }
+            
+            // Agregar procesos que volvieron de WAITING a READY
+            synchronized (this) {
+                offerWoken(queue, time);
+            }
+            
+            if (queue.isEmpty()) {
+                int nextTime = Integer.MAX_VALUE;
+                if (index < sorted.size()) {
+                    nextTime = Math.min(nextTime, sorted.get(index).getArrivalTime());
+                }
+                synchronized (this) {
+                    if (!waitingQueue.isEmpty()) {
+                        // Esperar la duración de I/O + 1 para que los procesos en WAITING puedan volver
+                        nextTime = Math.min(nextTime, time + lastIoDuration + 1);
+                    }
+                }
+                if (nextTime == Integer.MAX_VALUE) break;
+                if (nextTime > time) {
+                    sleepWithPause((nextTime - time) * 1000L);
+                    time = nextTime;
+                }
+                continue;
+            }
+            
+            ProcessControlBlock pcb = pollTimed(queue, SchedulerAlgorithm.ROUND_ROBIN);
+            int start = time;
+            int slice = Math.min(quantum, pcb.getRemainingTime());
+            
+            synchronized (this) {
+                metrics.contextSwitch(SchedulerAlgorithm.ROUND_ROBIN);
+                pcb.setState(ProcessState.RUNNING);
+                runningProcess = pcb;
+                journal.dispatched(pcb);
+                readyQueue.remove(pcb);
+                timeline.append(new TimelineEntry(pcb.getPid(), pcb.getName(), start, start + slice, SchedulerAlgorithm.ROUND_ROBIN));
+            }
+            
+            // Esperar el tiempo del quantum, actualizando remainingTime cada segundo
+            int executedTime = 0;
+            for (int i = 0; i < slice && !shouldStop.get(); i++) {
+                sleepWithPause(1000L); // Esperar 1 segundo
+                synchronized (this) {
+                    // Verificar si el proceso fue movido a WAITING o TERMINATED por una interrupción
+                    if (pcb.getState() == ProcessState.WAITING || pcb.getState() == ProcessState.TERMINATED) {
+                        // El proceso fue interrumpido o terminado, salir del loop
+                        break;
+                    }
+                    if (pcb.getRemainingTime() > 0) {
+                        pcb.setRemainingTime(pcb.getRemainingTime() - 1);
+                        executedTime++;
+                    }
+                }
+            }
+            
+            synchronized (this) {
+                stats.sliceCompleted(pcb, start, start + executedTime);
+                journal.slice(pcb.getPid(), start, start + executedTime, 0);
+                time += executedTime;
+                
+                // Verificar el estado final del proceso
+                if (pcb.getState() == ProcessState.WAITING) {
+                    // El proceso fue interrumpido y está en WAITING
+                    runningProcess = null;
+                    // El proceso ya está en waitingQueue, continuar con el siguiente
+                } else if (pcb.getRemainingTime() > 0) {
+                    // El proceso aún tiene tiempo restante, volver a READY
+                    pcb.setState(ProcessState.READY);
+                    journal.state(pcb, ProcessState.READY);
+                    runningProcess = null;
+                    // Agregar procesos que llegaron durante la ejecución
+                    while (index < sorted.size() && sorted.get(index).getArrivalTime() <= time) {
+                        ProcessControlBlock newPcb = sorted.get(index);
+                        synchronized (this) {
+                            if (newPcb.getState() != ProcessState.TERMINATED && newPcb.getState() != ProcessState.WAITING) {
+                                newPcb.setState(ProcessState.READY);
+                                if (!queue.contains(newPcb)) {
+                                    queue.offer(newPcb);
+                                }
+                            }
+                        }
+                        index++;
+                    }
+                    if (!queue.contains(pcb)) {
+                        queue.offer(pcb);
+                    }
+                } else {
+                    // Proceso terminado
+                    if (pcb.getState() != ProcessState.TERMINATED) {
+                        stats.processCompleted(pcb, time);
+                        journal.terminated(pcb, time);
+                    }
+                    pcb.setState(ProcessState.TERMINATED);
+                    pcb.setRemainingTime(0);
+                    runningProcess = null;
+                    terminatedQueue.add(pcb);
+                }
+            }
+        }
+    }
+
+    // Se invoca con el lock de la sesión tomado; cuesta lo que los procesos despertados, no la cola ready entera
+    private void offerWoken(ReadyQueue queue, int time) {
+        ProcessControlBlock pcb;
+        while ((pcb = woken.poll()) != null) {
+            // Uno que todavía no llegó lo agrega el cursor de llegadas a su tiempo
+            if (pcb.getState() == ProcessState.READY && !queue.contains(pcb)
+                    && pcb.getArrivalTime() <= time && pcb.getRemainingTime() > 0) {
+                queue.offer(pcb);
+            }
+        }
+    }
+
+    private ProcessControlBlock pollTimed(ReadyQueue queue, SchedulerAlgorithm algorithm) {
+        long start = System.nanoTime();
+        ProcessControlBlock pcb = queue.poll();
+        metrics.dispatchDecision(algorithm, System.nanoTime() - start);
+        return pcb;
+    }
+
+    private class VirtualRunListener implements SimulationListener {
+
+        private final SchedulerAlgorithm algorithm;
+
+        VirtualRunListener(SchedulerAlgorithm algorithm) {
+            this.algorithm = algorithm;
+        }
+
+        @Override
+        public void processDispatched(ProcessControlBlock pcb) {
+            runningProcess = pcb;
+            metrics.contextSwitch(algorithm);
+            journal.dispatched(pcb);
+        }
+
+        @Override
+        public void dispatchDecided(long nanos) {
+            metrics.dispatchDecision(algorithm, nanos);
+        }
+
+        @Override
+        public void processReleased(ProcessControlBlock pcb) {
+            leaveCpu(pcb);
+            journal.state(pcb, ProcessState.READY);
+        }
+
+        @Override
+        public void processTerminated(ProcessControlBlock pcb, int time) {
+            leaveCpu(pcb);
+            terminatedQueue.add(pcb);
+            stats.processCompleted(pcb, time);
+            journal.terminated(pcb, time);
+        }
+
+        @Override
+        public void jobCompleted(ProcessControlBlock pcb, int time) {
+            leaveCpu(pcb);
+            stats.processCompleted(pcb, time);
+            journal.jobCompleted(pcb, time);
+        }
+
+        @Override
+        public void deadlineMissed(ProcessControlBlock pcb, int time) {
+            stats.deadlineMissed();
+            metrics.deadlineMiss(algorithm);
+            journal.deadlineMissed(pcb, time);
+        }
+
+        @Override
+        public void ioCompleted(ProcessControlBlock pcb) {
+            waitingQueue.remove(pcb);
+            journal.state(pcb, ProcessState.READY);
+        }
+
+        @Override
+        public void sliceCompleted(TimelineEntry entry) {
+            timeline.append(entry);
+            stats.sliceCompleted(processIndex.get(entry.getPid()), entry.getStart(), entry.getEnd());
+            journal.slice(entry.getPid(), entry.getStart(), entry.getEnd(), entry.getCpu());
+        }
+
+        private void leaveCpu(ProcessControlBlock pcb) {
+            if (runningProcess == pcb) {
+                runningProcess = null;
+            }
+        }
+    }
+}
@@ -0,0 +1,101 @@
+package com.edu.ossimulator.service;
+
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.SynchronousQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import jakarta.annotation.PreDestroy;
+
+/**
+ * Hilos compartidos que vacían los cambios pendientes de cada cliente del
+ * stream. Cada cliente se programa con retardo fijo; los hilos programados
+ * solo arman el lote y la escritura en la conexión corre en otro pool, así un
+ * cliente lento no frena a los demás. Mientras un envío no termina, el cliente
+ * se saltea y acumula cambios coalescidos en lugar de mensajes. Los envíos en
+ * curso no pasan de {@code simulator.stream.max-send-threads}: con todos los
+ * hilos ocupados por clientes lentos, un cliente que no consigue hilo durante
+ * 15 segundos se desconecta con error.
+ */
+@Component
+public class StateStreamScheduler {
+
+    private final ScheduledThreadPoolExecutor executor;
+    // A lo sumo un envío en curso por cliente
+    private final ThreadPoolExecutor sender;
+    private final long flushIntervalMillis;
+    private final int maxPendingChanges;
+    private final int maxTimelineBatch;
+    private final int maxSubscribers;
+
+    public StateStreamScheduler(@Value("${simulator.stream.threads:4}") int threads,
+                                @Value("${simulator.stream.flush-interval-ms:200}") long flushIntervalMillis,
+                                @Value("${simulator.stream.max-pending-changes:5000}") int maxPendingChanges,
+                                @Value("${simulator.stream.max-timeline-batch:2000}") int maxTimelineBatch,
+                                @Value("${simulator.stream.max-send-threads:64}") int maxSendThreads,
+                                @Value("${simulator.stream.max-subscribers-per-session:16}") int maxSubscribers) {
+        AtomicInteger counter = new AtomicInteger();
+        this.executor = new ScheduledThreadPoolExecutor(threads, runnable -> {
+            Thread thread = new Thread(runnable, "state-stream-" + counter.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+        this.executor.setRemoveOnCancelPolicy(true);
+        AtomicInteger senderCounter = new AtomicInteger();
+        // Sin cola: si no hay hilo libre el envío se rechaza en lugar de esperar detrás de un cliente lento
+        this.sender = new ThreadPoolExecutor(0, Math.max(maxSendThreads, 1), 60, TimeUnit.SECONDS, new SynchronousQueue<>(),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "state-stream-send-" + senderCounter.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                });
+        this.flushIntervalMillis = flushIntervalMillis;
+        this.maxPendingChanges = maxPendingChanges;
+        this.maxTimelineBatch = maxTimelineBatch;
+        this.maxSubscribers = Math.max(maxSubscribers, 1);
+    }
+
+    public ScheduledFuture<?> scheduleFlush(Runnable flush) {
+        return executor.scheduleWithFixedDelay(flush, 0, flushIntervalMillis, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * @throws java.util.concurrent.RejectedExecutionException si todos los
+     *         hilos de envío están ocupados.
+     */
+    public void send(Runnable send) {
+        sender.execute(send);
+    }
+
+    /** Aproximado: otro cliente puede tomar el hilo antes de que se use. */
+    public boolean hasIdleSender() {
+        return sender.getActiveCount() < sender.getMaximumPoolSize();
+    }
+
+    public long getFlushIntervalMillis() {
+        return flushIntervalMillis;
+    }
+
+    public int getMaxPendingChanges() {
+        return maxPendingChanges;
+    }
+
+    public int getMaxTimelineBatch() {
+        return maxTimelineBatch;
+    }
+
+    public int getMaxSubscribers() {
+        return maxSubscribers;
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+        sender.shutdownNow();
+    }
+}
@@ -0,0 +1,253 @@
+package com.edu.ossimulator.service;
+
+import java.io.BufferedOutputStream;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.BitSet;
+
+import org.springframework.stereotype.Service;
+
+import com.edu.ossimulator.dto.TimelineEntry;
+import com.edu.ossimulator.model.SchedulerAlgorithm;
+import com.edu.ossimulator.model.TimelineFormat;
+import com.edu.ossimulator.util.LongObjectHashMap;
+import com.edu.ossimulator.util.SegmentedLog;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * Exporta el timeline de una sesión escribiendo directo en el stream de salida,
+ * entrada por entrada, sobre una vista fija del log: no se arma el cuerpo en
+ * memoria ni se toma el lock de la simulación.
+ *
+ * <p>{@code COLUMNAR} es un formato binario propio. Empieza con {@code OSTL},
+ * un byte de versión, la cantidad de filas, las filas por grupo y los nombres
+ * de los algoritmos. Siguen grupos de hasta 65 536 filas con
+ * cinco columnas cada uno: inicio (delta respecto del anterior), duración
+ * ({@code end - start}), CPU, PID (delta) y algoritmo (índice en la tabla del
+ * encabezado). Cada columna va precedida por su largo en bytes, así se puede
+ * saltar, y los deltas vuelven a cero en cada grupo, así cada grupo se
+ * decodifica solo. Al final va la tabla PID → nombre. Los enteros son varints
+ * LEB128 y los deltas usan zigzag.
+ */
+@Service
+public class TimelineExportService {
+
+    private static final int COLUMNAR_VERSION = 1;
+    private static final int ROWS_PER_GROUP = 1 << 16;
+
+    private static final byte[] COLUMNAR_MAGIC = {'O', 'S', 'T', 'L'};
+    private static final int BUFFER_SIZE = 1 << 16;
+    private static final SchedulerAlgorithm[] ALGORITHMS = SchedulerAlgorithm.values();
+
+    private final ObjectMapper objectMapper;
+
+    public TimelineExportService(ObjectMapper objectMapper) {
+        this.objectMapper = objectMapper;
+    }
+
+    /**
+     * @param unitMicros microsegundos por unidad de simulación en la traza de
+     *                   Chrome; los otros formatos conservan las unidades.
+     */
+    public void export(SegmentedLog.View<TimelineEntry> timeline, TimelineFormat format, long unitMicros,
+                       OutputStream out) throws IOException {
+        switch (format) {
+            case CHROME -> writeChromeTrace(timeline, Math.max(1, unitMicros), out);
+            case CSV -> writeCsv(timeline, out);
+            case COLUMNAR -> writeColumnar(timeline, out);
+        }
+    }
+
+    /**
+     * Trace Event Format: un evento completo ({@code ph: X}) por porción, con
+     * una pista por CPU, que abren chrome://tracing y Perfetto.
+     */
+    private void writeChromeTrace(SegmentedLog.View<TimelineEntry> timeline, long unitMicros, OutputStream out)
+            throws IOException {
+        BitSet namedCpus = new BitSet();
+        try (JsonGenerator json = objectMapper.getFactory().createGenerator(out)) {
+            json.writeStartObject();
+            json.writeStringField("displayTimeUnit", "ms");
+            json.writeArrayFieldStart("traceEvents");
+            json.writeStartObject();
+            json.writeStringField("name", "process_name");
+            json.writeStringField("ph", "M");
+            json.writeNumberField("pid", 0);
+            json.writeObjectFieldStart("args");
+            json.writeStringField("name", "OS Simulator");
+            json.writeEndObject();
+            json.writeEndObject();
+            for (int i = 0; i < timeline.size(); i++) {
+                TimelineEntry entry = timeline.get(i);
+                if (!namedCpus.get(entry.getCpu())) {
+                    // Los metadatos pueden ir en cualquier parte: cada CPU se nombra al aparecer
+                    namedCpus.set(entry.getCpu());
+                    json.writeStartObject();
+                    json.writeStringField("name", "thread_name");
+                    json.writeStringField("ph", "M");
+                    json.writeNumberField("pid", 0);
+                    json.writeNumberField("tid", entry.getCpu());
+                    json.writeObjectFieldStart("args");
+                    json.writeStringField("name", "CPU " + entry.getCpu());
+                    json.writeEndObject();
+                    json.writeEndObject();
+                }
+                json.writeStartObject();
+                json.writeStringField("name", entry.getName());
+                json.writeStringField("cat", entry.getAlgorithm().name());
+                json.writeStringField("ph", "X");
+                json.writeNumberField("ts", entry.getStart() * unitMicros);
+                json.writeNumberField("dur", (long) (entry.getEnd() - entry.getStart()) * unitMicros);
+                json.writeNumberField("pid", 0);
+                json.writeNumberField("tid", entry.getCpu());
+                json.writeObjectFieldStart("args");
+                json.writeNumberField("pid", entry.getPid());
+                json.writeNumberField("seq", timeline.getFirstSeq() + i);
+                json.writeEndObject();
+                json.writeEndObject();
+            }
+            json.writeEndArray();
+            json.writeEndObject();
+        }
+    }
+
+    private static void writeCsv(SegmentedLog.View<TimelineEntry> timeline, OutputStream out) throws IOException {
+        try (Writer writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8), BUFFER_SIZE)) {
+            writer.write("seq,pid,name,cpu,start,end,algorithm\n");
+            for (int i = 0; i < timeline.size(); i++) {
+                TimelineEntry entry = timeline.get(i);
+                writer.write(Long.toString(timeline.getFirstSeq() + i));
+                writer.write(',');
+                writer.write(Long.toString(entry.getPid()));
+                writer.write(',');
+                writeCsvField(writer, entry.getName());
+                writer.write(',');
+                writer.write(Integer.toString(entry.getCpu()));
+                writer.write(',');
+                writer.write(Integer.toString(entry.getStart()));
+                writer.write(',');
+                writer.write(Integer.toString(entry.getEnd()));
+                writer.write(',');
+                writer.write(entry.getAlgorithm().name());
+                writer.write('\n');
+            }
+        }
+    }
+
+    private static void writeCsvField(Writer writer, String value) throws IOException {
+        if (value == null) {
+            return;
+        }
+        if (value.indexOf(',') < 0 && value.indexOf('"') < 0 && value.indexOf('\n') < 0 && value.indexOf('\r') < 0) {
+            writer.write(value);
+            return;
+        }
+        writer.write('"');
+        writer.write(value.replace("\"", "\"\""));
+        writer.write('"');
+    }
+
+    private static void writeColumnar(SegmentedLog.View<TimelineEntry> timeline, OutputStream out) throws IOException {
+        OutputStream stream = new BufferedOutputStream(out, BUFFER_SIZE);
+        Column header = new Column();
+        header.varint(timeline.size());
+        header.varint(ROWS_PER_GROUP);
+        header.varint(ALGORITHMS.length);
+        for (SchedulerAlgorithm algorithm : ALGORITHMS) {
+            header.string(algorithm.name());
+        }
+        stream.write(COLUMNAR_MAGIC);
+        stream.write(COLUMNAR_VERSION);
+        header.writeTo(stream);
+
+        Column starts = new Column();
+        Column durations = new Column();
+        Column cpus = new Column();
+        Column pids = new Column();
+        Column algorithms = new Column();
+        LongObjectHashMap<String> names = new LongObjectHashMap<>();
+        for (int group = 0; group < timeline.size(); group += ROWS_PER_GROUP) {
+            int end = Math.min(timeline.size(), group + ROWS_PER_GROUP);
+            long previousStart = 0;
+            long previousPid = 0;
+            for (int i = group; i < end; i++) {
+                TimelineEntry entry = timeline.get(i);
+                starts.zigzag(entry.getStart() - previousStart);
+                durations.varint(entry.getEnd() - entry.getStart());
+                cpus.varint(entry.getCpu());
+                pids.zigzag(entry.getPid() - previousPid);
+                algorithms.varint(entry.getAlgorithm().ordinal());
+                previousStart = entry.getStart();
+                previousPid = entry.getPid();
+                if (names.get(entry.getPid()) == null) {
+                    names.put(entry.getPid(), entry.getName() != null ? entry.getName() : "");
+                }
+            }
+            for (Column column : new Column[] {starts, durations, cpus, pids, algorithms}) {
+                header.varint(column.size);
+                header.writeTo(stream);
+                column.writeTo(stream);
+            }
+        }
+
+        // Tabla de nombres en el orden en que aparecen los PID
+        header.varint(names.size());
+        header.writeTo(stream);
+        for (int i = 0; i < timeline.size(); i++) {
+            TimelineEntry entry = timeline.get(i);
+            String name = names.remove(entry.getPid());
+            if (name != null) {
+                header.varint(entry.getPid());
+                header.string(name);
+                if (header.size >= BUFFER_SIZE) {
+                    header.writeTo(stream);
+                }
+            }
+        }
+        header.writeTo(stream);
+        stream.flush();
+    }
+
+    /** Buffer de bytes que crece según haga falta, con escritura de varints. */
+    private static final class Column {
+
+        private byte[] bytes = new byte[BUFFER_SIZE];
+        private int size;
+
+        void varint(long value) {
+            if (size + 10 > bytes.length) {
+                bytes = Arrays.copyOf(bytes, bytes.length * 2);
+            }
+            while ((value & ~0x7FL) != 0) {
+                bytes[size++] = (byte) ((value & 0x7F) | 0x80);
+                value >>>= 7;
+            }
+            bytes[size++] = (byte) value;
+        }
+
+        void zigzag(long value) {
+            varint((value << 1) ^ (value >> 63));
+        }
+
+        void string(String value) {
+            byte[] utf8 = value.getBytes(StandardCharsets.UTF_8);
+            varint(utf8.length);
+            if (size + utf8.length > bytes.length) {
+                bytes = Arrays.copyOf(bytes, Math.max(bytes.length * 2, size + utf8.length));
+            }
+            System.arraycopy(utf8, 0, bytes, size, utf8.length);
+            size += utf8.length;
+        }
+
+        void writeTo(OutputStream out) throws IOException {
+            out.write(bytes, 0, size);
+            size = 0;
+        }
+    }
+}
@@ -0,0 +1,277 @@
+package com.edu.ossimulator.service;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.channels.Channels;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Service;
+import org.springframework.web.server.ResponseStatusException;
+
+import com.edu.ossimulator.dto.CreateProcessRequest;
+import com.edu.ossimulator.dto.IngestError;
+import com.edu.ossimulator.dto.TraceImportRequest;
+import com.edu.ossimulator.dto.TraceImportResponse;
+import com.edu.ossimulator.model.TraceFormat;
+import com.edu.ossimulator.util.TraceReader;
+
+/**
+ * Importa trazas de cargas reales: el Standard Workload Format del Parallel
+ * Workloads Archive (campos separados por espacios, comentarios con {@code ;})
+ * o CSV con columnas configurables. El cuerpo se lee por un buffer NIO de
+ * 1 MB sin cargar el archivo, cada registro se convierte a llegada, ráfaga y
+ * prioridad, y los aceptados se insertan por lotes como en la carga masiva.
+ */
+@Service
+public class TraceImportService {
+
+    private static final int MAX_REPORTED_ERRORS = 1000;
+    private static final int BUFFER_SIZE = 1 << 20;
+
+    // Campos SWF (desde 0): número de trabajo y estado; el resto se configura por columnas
+    private static final int SWF_JOB = 0;
+    private static final int SWF_STATUS = 10;
+    private static final int SWF_COMPLETED = 1;
+
+    private final ProcessSchedulerService schedulerService;
+    private final int batchSize;
+
+    public TraceImportService(ProcessSchedulerService schedulerService,
+                              @Value("${simulator.ingest.batch-size:1000}") int batchSize) {
+        this.schedulerService = schedulerService;
+        this.batchSize = batchSize;
+    }
+
+    public TraceImportResponse importTrace(String sessionId, TraceImportRequest request, InputStream body)
+            throws IOException {
+        SimulationSession session = schedulerService.getSession(sessionId);
+        long start = System.nanoTime();
+        Import trace = new Import(session, request);
+        boolean swf = request.getFormat() == TraceFormat.SWF;
+        try (TraceReader reader = new TraceReader(Channels.newChannel(body), BUFFER_SIZE,
+                swf ? TraceReader.WHITESPACE : delimiter(request))) {
+            if (swf) {
+                trace.columns = new Columns(request, null);
+            }
+            while (reader.nextLine()) {
+                if (!reader.isTooLong() && (reader.isEmpty() || (swf && reader.startsWith(';')))) {
+                    continue;
+                }
+                if (trace.columns == null) {
+                    List<String> header = null;
+                    if (request.isHeader()) {
+                        header = new ArrayList<>(reader.fieldCount());
+                        for (int i = 0; i < reader.fieldCount(); i++) {
+                            header.add(reader.text(i).trim());
+                        }
+                    }
+                    trace.columns = new Columns(request, header);
+                    if (header != null) {
+                        continue;
+                    }
+                }
+                if (trace.response.getAccepted() == request.getLimit()) {
+                    trace.response.setLimited(true);
+                    break;
+                }
+                trace.offer(reader);
+                if (trace.pastWindow) {
+                    break;
+                }
+            }
+            trace.response.setBytes(reader.bytesRead());
+        }
+        trace.flush();
+        trace.response.setElapsedMillis((System.nanoTime() - start) / 1_000_000);
+        return trace.response;
+    }
+
+    private static byte delimiter(TraceImportRequest request) {
+        char delimiter = request.getDelimiter().charAt(0);
+        if (delimiter >= 128 || delimiter == '"' || delimiter == '\n' || delimiter == '\r') {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Unsupported CSV delimiter: " + delimiter);
+        }
+        return (byte) delimiter;
+    }
+
+    /** Posiciones de las columnas usadas, resueltas una vez por importación. */
+    private static final class Columns {
+
+        private final int arrival;
+        private final int burst;
+        private final int priority;
+        private final int required;
+
+        private Columns(TraceImportRequest request, List<String> header) {
+            boolean swf = request.getFormat() == TraceFormat.SWF;
+            String arrivalDefault = swf ? "2" : header != null ? "arrivalTime" : "1";
+            String burstDefault = swf ? "4" : header != null ? "burstTime" : "2";
+            String priorityDefault = swf ? "15" : header != null ? "priority" : null;
+            this.arrival = column("arrivalColumn", request.getArrivalColumn(), arrivalDefault, header);
+            this.burst = column("burstColumn", request.getBurstColumn(), burstDefault, header);
+            if (request.getPriorityColumn() != null) {
+                this.priority = column("priorityColumn", request.getPriorityColumn(), null, header);
+            } else if (priorityDefault != null && (header == null || indexOf(header, priorityDefault) >= 0)) {
+                this.priority = column("priorityColumn", null, priorityDefault, header);
+            } else {
+                // Sin columna de prioridad todos reciben defaultPriority
+                this.priority = -1;
+            }
+            int last = Math.max(Math.max(arrival, burst), priority);
+            this.required = (swf && request.isCompletedOnly() ? Math.max(last, SWF_STATUS) : last) + 1;
+        }
+
+        private static int column(String option, String value, String defaultValue, List<String> header) {
+            String spec = value != null ? value.trim() : defaultValue;
+            if (!spec.isEmpty() && spec.chars().allMatch(Character::isDigit)) {
+                int position = spec.length() <= 9 ? Integer.parseInt(spec) : 0;
+                if (position < 1) {
+                    throw new ResponseStatusException(HttpStatus.BAD_REQUEST, option + " must be a position from 1");
+                }
+                return position - 1;
+            }
+            if (header == null) {
+                throw new ResponseStatusException(HttpStatus.BAD_REQUEST,
+                        option + " '" + spec + "' is a name, but the trace has no header");
+            }
+            int index = indexOf(header, spec);
+            if (index < 0) {
+                throw new ResponseStatusException(HttpStatus.BAD_REQUEST, option + " '" + spec + "' not found in header");
+            }
+            return index;
+        }
+
+        private static int indexOf(List<String> header, String name) {
+            for (int i = 0; i < header.size(); i++) {
+                if (header.get(i).equalsIgnoreCase(name)) {
+                    return i;
+                }
+            }
+            return -1;
+        }
+    }
+
+    private final class Import {
+
+        private final SimulationSession session;
+        private final TraceImportRequest request;
+        private final boolean swf;
+        private final List<CreateProcessRequest> pending = new ArrayList<>(batchSize);
+        private final TraceImportResponse response;
+        private Columns columns;
+        private double origin;
+        // SWF viene ordenado por llegada: pasado toTime no queda nada por importar
+        private boolean pastWindow;
+
+        private Import(SimulationSession session, TraceImportRequest request) {
+            this.session = session;
+            this.request = request;
+            this.swf = request.getFormat() == TraceFormat.SWF;
+            this.response = new TraceImportResponse(request.getFormat());
+            if (!request.isRebase() || (!swf && request.getFromTime() == null)) {
+                // Un CSV puede venir desordenado: sin fromTime no hay origen seguro hasta leerlo entero
+                origin = 0;
+            } else if (request.getFromTime() != null) {
+                origin = request.getFromTime();
+                response.setOrigin(origin);
+            } else {
+                // SWF viene ordenado por llegada: el primer registro aceptado es el más temprano
+                origin = Double.NaN;
+            }
+        }
+
+        void offer(TraceReader reader) {
+            long index = response.getRecords();
+            response.setRecords(index + 1);
+            if (reader.isTooLong()) {
+                reject(index, reader, "Line longer than " + BUFFER_SIZE + " bytes");
+                return;
+            }
+            if (reader.fieldCount() < columns.required) {
+                reject(index, reader, "Expected at least " + columns.required + " columns, found " + reader.fieldCount());
+                return;
+            }
+            try {
+                double submitted = reader.number(columns.arrival);
+                double runtime = reader.number(columns.burst);
+                if ((swf && request.isCompletedOnly() && reader.number(SWF_STATUS) != SWF_COMPLETED)
+                        || (request.getFromTime() != null && submitted < request.getFromTime())
+                        || (request.getToTime() != null && submitted >= request.getToTime())) {
+                    response.setFiltered(response.getFiltered() + 1);
+                    pastWindow = swf && request.getToTime() != null && submitted >= request.getToTime();
+                    return;
+                }
+                // SWF usa -1 para los valores desconocidos
+                if (submitted < 0 || runtime < 0) {
+                    reject(index, reader, submitted < 0 ? "Missing arrival time" : "Missing run time");
+                    return;
+                }
+                double burst = Math.max(1, Math.ceil(runtime / request.getTimeScale()));
+                if (burst > Integer.MAX_VALUE) {
+                    reject(index, reader, "Burst time out of range: " + burst);
+                    return;
+                }
+                if ((request.getMinBurst() != null && burst < request.getMinBurst())
+                        || (request.getMaxBurst() != null && burst > request.getMaxBurst())) {
+                    response.setFiltered(response.getFiltered() + 1);
+                    return;
+                }
+                if (Double.isNaN(origin)) {
+                    origin = submitted;
+                    response.setOrigin(origin);
+                }
+                double arrival = Math.floor((submitted - origin) / request.getTimeScale());
+                if (arrival < 0 || arrival > Integer.MAX_VALUE) {
+                    reject(index, reader, arrival < 0 ? "Arrival time before origin " + origin
+                            : "Arrival time out of range: " + arrival);
+                    return;
+                }
+                int priority = request.getDefaultPriority();
+                if (columns.priority >= 0) {
+                    double value = reader.number(columns.priority);
+                    if (value >= 0) {
+                        priority = (int) Math.min(Math.round(value), 10);
+                    }
+                }
+                CreateProcessRequest process = new CreateProcessRequest();
+                process.setName(request.getNamePrefix() + (swf ? reader.text(SWF_JOB) : Long.toString(index + 1)));
+                process.setArrivalTime((int) arrival);
+                process.setBurstTime((int) burst);
+                process.setPriority(priority);
+                add(process);
+            } catch (NumberFormatException e) {
+                reject(index, reader, e.getMessage());
+            }
+        }
+
+        void flush() {
+            if (pending.isEmpty()) {
+                return;
+            }
+            schedulerService.createProcesses(session, pending);
+            pending.clear();
+        }
+
+        private void add(CreateProcessRequest process) {
+            pending.add(process);
+            response.setAccepted(response.getAccepted() + 1);
+            response.setLastArrival(Math.max(response.getLastArrival(), process.getArrivalTime()));
+            response.setTotalBurst(response.getTotalBurst() + process.getBurstTime());
+            if (pending.size() >= batchSize) {
+                flush();
+            }
+        }
+
+        private void reject(long index, TraceReader reader, String message) {
+            response.setRejected(response.getRejected() + 1);
+            if (response.getErrors().size() < MAX_REPORTED_ERRORS) {
+                response.getErrors().add(new IngestError(index, reader.lineNumber(), message));
+            } else {
+                response.setTruncated(true);
+            }
+        }
+    }
+}
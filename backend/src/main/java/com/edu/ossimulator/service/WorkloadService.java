@@ -0,0 +1,88 @@
+package com.edu.ossimulator.service;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Service;
+import org.springframework.web.server.ResponseStatusException;
+
+import com.edu.ossimulator.dto.CreateProcessRequest;
+import com.edu.ossimulator.dto.WorkloadRequest;
+import com.edu.ossimulator.dto.WorkloadResponse;
+import com.edu.ossimulator.engine.WorkloadGenerator;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+
+/**
+ * Cargas sintéticas reproducibles: se insertan directamente en la tabla de
+ * procesos de una sesión o se exportan como NDJSON, el mismo formato que
+ * acepta {@code POST /api/processes/bulk}.
+ */
+@Service
+public class WorkloadService {
+
+    private final ProcessSchedulerService schedulerService;
+    private final ObjectMapper objectMapper;
+    private final int batchSize;
+
+    public WorkloadService(ProcessSchedulerService schedulerService,
+                           ObjectMapper objectMapper,
+                           @Value("${simulator.ingest.batch-size:1000}") int batchSize) {
+        this.schedulerService = schedulerService;
+        this.objectMapper = objectMapper;
+        this.batchSize = batchSize;
+    }
+
+    public WorkloadResponse generate(String sessionId, WorkloadRequest request) {
+        SimulationSession session = schedulerService.getSession(sessionId);
+        long seed = resolveSeed(request);
+        WorkloadGenerator generator = newGenerator(request, seed);
+        List<CreateProcessRequest> batch = new ArrayList<>(batchSize);
+        int lastArrival = 0;
+        long totalBurst = 0;
+        while (generator.hasNext()) {
+            CreateProcessRequest process = generator.next();
+            lastArrival = Math.max(lastArrival, process.getArrivalTime());
+            totalBurst += process.getBurstTime();
+            batch.add(process);
+            if (batch.size() >= batchSize) {
+                schedulerService.createProcesses(session, batch);
+                batch.clear();
+            }
+        }
+        schedulerService.createProcesses(session, batch);
+        return new WorkloadResponse(request.getCount(), seed, lastArrival, totalBurst);
+    }
+
+    public void export(WorkloadRequest request, long seed, OutputStream out) throws IOException {
+        WorkloadGenerator generator = newGenerator(request, seed);
+        ObjectWriter writer = objectMapper.writer().without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+        try (JsonGenerator json = objectMapper.getFactory().createGenerator(out)) {
+            // Cada proceso termina en salto de línea, incluido el último (NDJSON)
+            json.setRootValueSeparator(null);
+            while (generator.hasNext()) {
+                writer.writeValue(json, generator.next());
+                json.writeRaw('\n');
+            }
+        }
+    }
+
+    public long resolveSeed(WorkloadRequest request) {
+        return request.getSeed() != null ? request.getSeed() : ThreadLocalRandom.current().nextLong();
+    }
+
+    private static WorkloadGenerator newGenerator(WorkloadRequest request, long seed) {
+        try {
+            return new WorkloadGenerator(request, seed);
+        } catch (IllegalArgumentException e) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, e.getMessage(), e);
+        }
+    }
+}
@@ -0,0 +1,139 @@
+package com.edu.ossimulator.util;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.StreamCorruptedException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Stream;
+import java.util.zip.CRC32C;
+
+/**
+ * Recorre en orden los registros de un directorio escrito por
+ * {@link JournalWriter}, mapeando cada segmento en memoria. Un registro
+ * incompleto al final del último segmento, o con CRC inválido si es el último
+ * del archivo, es una escritura que no llegó a disco y marca el fin del log; en
+ * cualquier otro lugar es un log dañado.
+ */
+public class JournalReader implements Closeable {
+
+    private final List<Long> bases = new ArrayList<>();
+    private final Path directory;
+    private final CRC32C crc = new CRC32C();
+    private int segmentIndex = -1;
+    private MappedByteBuffer segment;
+    private ByteBuffer payload;
+    private long offset;
+
+    public JournalReader(Path directory) throws IOException {
+        this(directory, 0);
+    }
+
+    /** Empieza en el registro {@code fromOffset}, sin leer los segmentos anteriores. */
+    public JournalReader(Path directory, long fromOffset) throws IOException {
+        this.directory = directory;
+        try (Stream<Path> files = Files.list(directory)) {
+            files.map(file -> file.getFileName().toString())
+                    .filter(name -> name.endsWith(JournalWriter.SEGMENT_EXTENSION))
+                    .map(name -> Long.parseLong(name.substring(0, name.length() - JournalWriter.SEGMENT_EXTENSION.length())))
+                    .sorted()
+                    .forEach(bases::add);
+        } catch (NumberFormatException e) {
+            throw new StreamCorruptedException("Invalid segment name in " + directory);
+        }
+        int first = 0;
+        while (first + 1 < bases.size() && bases.get(first + 1) <= fromOffset) {
+            first++;
+        }
+        segmentIndex = first - 1;
+        offset = first < bases.size() ? bases.get(first) - 1 : -1;
+        while (offset + 1 < fromOffset && next()) {
+            // Se descartan los registros anteriores dentro del segmento
+        }
+    }
+
+    /**
+     * Avanza al siguiente registro.
+     *
+     * @return {@code false} al llegar al final del log.
+     */
+    public boolean next() throws IOException {
+        while (segment == null || !segment.hasRemaining()) {
+            if (!openNext()) {
+                payload = null;
+                return false;
+            }
+        }
+        boolean last = segmentIndex == bases.size() - 1;
+        if (segment.remaining() < JournalWriter.HEADER_BYTES) {
+            return torn(last, "header");
+        }
+        int start = segment.position();
+        int length = segment.getInt();
+        int checksum = segment.getInt();
+        if (length < 0 || length > segment.remaining()) {
+            segment.position(start);
+            return torn(last, "length " + length);
+        }
+        ByteBuffer record = segment.slice(segment.position(), length).asReadOnlyBuffer();
+        crc.reset();
+        crc.update(record.duplicate());
+        if ((int) crc.getValue() != checksum) {
+            segment.position(start);
+            // Solo el último registro del archivo puede haber quedado a medio escribir
+            return torn(last && segment.position() + JournalWriter.HEADER_BYTES + length == segment.limit(), "checksum");
+        }
+        segment.position(segment.position() + length);
+        payload = record;
+        offset++;
+        return true;
+    }
+
+    /** Offset del registro actual. */
+    public long offset() {
+        return offset;
+    }
+
+    /** Datos del registro actual, de solo lectura. */
+    public ByteBuffer payload() {
+        return payload;
+    }
+
+    @Override
+    public void close() {
+        segment = null;
+        payload = null;
+    }
+
+    private boolean openNext() throws IOException {
+        if (segmentIndex + 1 >= bases.size()) {
+            return false;
+        }
+        segmentIndex++;
+        long base = bases.get(segmentIndex);
+        if (segmentIndex > 0 && base != offset + 1) {
+            throw new StreamCorruptedException("Segment " + base + " does not follow offset " + offset);
+        }
+        offset = base - 1;
+        try (FileChannel channel = FileChannel.open(directory.resolve(JournalWriter.segmentName(base)),
+                StandardOpenOption.READ)) {
+            segment = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+        }
+        return true;
+    }
+
+    private boolean torn(boolean last, String detail) throws StreamCorruptedException {
+        if (!last) {
+            throw new StreamCorruptedException("Invalid " + detail + " after offset " + offset + " in " + directory);
+        }
+        segment.position(segment.limit());
+        payload = null;
+        return false;
+    }
+}
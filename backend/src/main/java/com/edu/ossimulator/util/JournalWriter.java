@@ -0,0 +1,148 @@
+package com.edu.ossimulator.util;
+
+import java.io.Closeable;
+import java.io.FileDescriptor;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.SyncFailedException;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.zip.CRC32C;
+
+/**
+ * Log binario de solo-anexado dividido en segmentos de hasta
+ * {@code segmentBytes}. Cada registro recibe un offset creciente y se enmarca
+ * como {@code [largo][CRC32C][datos]}; cada segmento se llama como el offset de
+ * su primer registro, así un lector puede saltar segmentos enteros.
+ *
+ * <p>Los registros se acumulan en un buffer de 1 MB y {@link #sync()} los
+ * vuelca y los fuerza a disco: el fsync se hace fuera del lock, de modo que los
+ * registros siguen entrando mientras el disco confirma. Se escribe con
+ * {@code FileOutputStream} y no con un {@code FileChannel} porque el hilo de una
+ * corrida se interrumpe al detenerla, y un canal se cerraría a mitad de
+ * escritura.
+ */
+public class JournalWriter implements Closeable {
+
+    public static final String SEGMENT_EXTENSION = ".seg";
+    static final int HEADER_BYTES = 2 * Integer.BYTES;
+
+    private static final int BUFFER_SIZE = 1 << 20;
+
+    private final Path directory;
+    private final long segmentBytes;
+    private final byte[] buffer = new byte[BUFFER_SIZE];
+    private final ByteBuffer frame = ByteBuffer.wrap(buffer);
+    private final CRC32C crc = new CRC32C();
+    private FileOutputStream segment;
+    private long segmentSize;
+    private long offset;
+    private boolean dirty;
+    private boolean closed;
+
+    public JournalWriter(Path directory, long segmentBytes) throws IOException {
+        this.directory = Files.createDirectories(directory);
+        this.segmentBytes = segmentBytes;
+        openSegment();
+    }
+
+    /** Nombre del segmento que empieza en {@code baseOffset}. */
+    public static String segmentName(long baseOffset) {
+        return String.format("%020d%s", baseOffset, SEGMENT_EXTENSION);
+    }
+
+    /**
+     * Agrega un registro con los bytes restantes de {@code payload}.
+     *
+     * @return offset asignado al registro.
+     */
+    public synchronized long append(ByteBuffer payload) throws IOException {
+        int length = payload.remaining();
+        long size = HEADER_BYTES + (long) length;
+        if (segmentSize > 0 && segmentSize + size > segmentBytes) {
+            roll();
+        }
+        payload.mark();
+        crc.reset();
+        crc.update(payload);
+        payload.reset();
+        if (frame.remaining() < size) {
+            flushBuffer();
+        }
+        if (size > buffer.length) {
+            // Registro más grande que el buffer: va directo al archivo
+            ByteBuffer header = ByteBuffer.allocate(HEADER_BYTES).putInt(length).putInt((int) crc.getValue());
+            segment.write(header.array());
+            byte[] bytes = new byte[length];
+            payload.get(bytes);
+            segment.write(bytes);
+        } else {
+            frame.putInt(length).putInt((int) crc.getValue()).put(payload);
+        }
+        segmentSize += size;
+        dirty = true;
+        return offset++;
+    }
+
+    /** Offset que recibirá el próximo registro; también es la cantidad de registros escritos. */
+    public synchronized long nextOffset() {
+        return offset;
+    }
+
+    /** Vuelca lo pendiente y lo fuerza a disco; sin cambios desde el último sync no hace nada. */
+    public void sync() throws IOException {
+        FileDescriptor fd;
+        synchronized (this) {
+            if (!dirty || closed) {
+                return;
+            }
+            flushBuffer();
+            dirty = false;
+            fd = segment.getFD();
+        }
+        try {
+            fd.sync();
+        } catch (SyncFailedException e) {
+            // El segmento se cerró al rotar, y al rotar ya se forzó a disco
+            synchronized (this) {
+                if (fd.valid()) {
+                    throw e;
+                }
+            }
+        }
+    }
+
+    @Override
+    public synchronized void close() throws IOException {
+        if (closed) {
+            return;
+        }
+        closed = true;
+        try {
+            flushBuffer();
+            segment.getFD().sync();
+        } finally {
+            segment.close();
+        }
+    }
+
+    private void roll() throws IOException {
+        flushBuffer();
+        segment.getFD().sync();
+        segment.close();
+        openSegment();
+    }
+
+    private void openSegment() throws IOException {
+        segment = new FileOutputStream(directory.resolve(segmentName(offset)).toFile());
+        segmentSize = 0;
+    }
+
+    private void flushBuffer() throws IOException {
+        if (frame.position() > 0) {
+            segment.write(buffer, 0, frame.position());
+            frame.clear();
+        }
+    }
+}
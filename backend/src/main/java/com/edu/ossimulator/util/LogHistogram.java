@@ -0,0 +1,135 @@
+package com.edu.ossimulator.util;
+
+import java.io.IOException;
+import java.io.StreamCorruptedException;
+import java.util.Arrays;
+
+/**
+ * Histograma de valores no negativos con cubetas log-lineales: cada potencia
+ * de dos se divide en 32 sub-cubetas, así el error relativo de un percentil es
+ * menor al 3 % y la memoria es fija (unos 15 KB) sin importar cuántos valores
+ * se registren. Los valores menores a 32 se guardan exactos.
+ */
+public class LogHistogram {
+
+    private static final int SUB_BITS = 5;
+    private static final int SUB_BUCKETS = 1 << SUB_BITS;
+    private static final int BUCKETS = (Long.SIZE - SUB_BITS + 1) * SUB_BUCKETS;
+
+    private final long[] counts = new long[BUCKETS];
+    private long count;
+    private long sum;
+    private long min = Long.MAX_VALUE;
+    private long max = Long.MIN_VALUE;
+
+    public void record(long value) {
+        long v = Math.max(0, value);
+        counts[indexOf(v)]++;
+        count++;
+        sum += v;
+        min = Math.min(min, v);
+        max = Math.max(max, v);
+    }
+
+    public long getCount() {
+        return count;
+    }
+
+    public long getSum() {
+        return sum;
+    }
+
+    public long getMin() {
+        return count == 0 ? 0 : min;
+    }
+
+    public long getMax() {
+        return count == 0 ? 0 : max;
+    }
+
+    public double getMean() {
+        return count == 0 ? 0 : (double) sum / count;
+    }
+
+    /** Valor aproximado por debajo del cual cae la fracción {@code quantile} de los registros. */
+    public long percentile(double quantile) {
+        if (count == 0) {
+            return 0;
+        }
+        long rank = Math.max(1, (long) Math.ceil(quantile * count));
+        long seen = 0;
+        for (int i = 0; i < BUCKETS; i++) {
+            seen += counts[i];
+            if (seen >= rank) {
+                return Math.max(min, Math.min(max, midpointOf(i)));
+            }
+        }
+        return max;
+    }
+
+    public void reset() {
+        Arrays.fill(counts, 0);
+        count = 0;
+        sum = 0;
+        min = Long.MAX_VALUE;
+        max = Long.MIN_VALUE;
+    }
+
+    /** Solo las cubetas con registros, como pares (índice, cantidad). */
+    public void writeTo(SnapshotWriter out) throws IOException {
+        int used = 0;
+        for (long bucket : counts) {
+            if (bucket != 0) {
+                used++;
+            }
+        }
+        out.writeLong(count);
+        out.writeLong(sum);
+        out.writeLong(min);
+        out.writeLong(max);
+        out.writeInt(used);
+        for (int i = 0; i < BUCKETS; i++) {
+            if (counts[i] != 0) {
+                out.writeInt(i);
+                out.writeLong(counts[i]);
+            }
+        }
+    }
+
+    public static LogHistogram readFrom(SnapshotReader in) throws IOException {
+        LogHistogram histogram = new LogHistogram();
+        histogram.count = in.readLong();
+        histogram.sum = in.readLong();
+        histogram.min = in.readLong();
+        histogram.max = in.readLong();
+        int used = in.readCount();
+        for (int i = 0; i < used; i++) {
+            int index = in.readInt();
+            if (index < 0 || index >= BUCKETS) {
+                throw new StreamCorruptedException("Invalid histogram bucket " + index);
+            }
+            histogram.counts[index] = in.readLong();
+        }
+        return histogram;
+    }
+
+    private static int indexOf(long value) {
+        if (value < SUB_BUCKETS) {
+            return (int) value;
+        }
+        int exponent = 63 - Long.numberOfLeadingZeros(value);
+        int sub = (int) (value >>> (exponent - SUB_BITS)) & (SUB_BUCKETS - 1);
+        return (exponent - SUB_BITS + 1) * SUB_BUCKETS + sub;
+    }
+
+    private static long midpointOf(int index) {
+        if (index < SUB_BUCKETS) {
+            return index;
+        }
+        int exponent = index / SUB_BUCKETS + SUB_BITS - 1;
+        long sub = index % SUB_BUCKETS;
+        long width = 1L << (exponent - SUB_BITS);
+        long lower = (SUB_BUCKETS + sub) << (exponent - SUB_BITS);
+        return lower + width / 2;
+    }
+}
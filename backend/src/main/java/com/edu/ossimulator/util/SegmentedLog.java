@@ -0,0 +1,190 @@
+package com.edu.ossimulator.util;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Log de solo-anexado dividido en segmentos de tamaño fijo. Cada elemento
+ * recibe un número de secuencia creciente que se mantiene entre reinicios
+ * ({@link #reset()} abre una generación nueva a partir de la última secuencia).
+ *
+ * <p>Admite un único escritor a la vez (los escritores deben compartir un lock)
+ * y lectores concurrentes sin bloqueo: el escritor publica el elemento antes de
+ * incrementar el tamaño volátil, así que un lector nunca ve huecos. Crecer
+ * nunca copia elementos, solo el directorio de segmentos.
+ */
+public class SegmentedLog<T> {
+
+    private final int segmentBits;
+    private final int segmentMask;
+    private volatile Generation current;
+
+    public SegmentedLog() {
+        this(12);
+    }
+
+    public SegmentedLog(int segmentBits) {
+        this.segmentBits = segmentBits;
+        this.segmentMask = (1 << segmentBits) - 1;
+        this.current = new Generation(0);
+    }
+
+    public void append(T value) {
+        Generation generation = current;
+        int index = generation.size;
+        int segment = index >>> segmentBits;
+        Object[][] segments = generation.segments;
+        if (segment == segments.length) {
+            segments = Arrays.copyOf(segments, Math.max(4, segments.length * 2));
+        }
+        if (segments[segment] == null) {
+            segments[segment] = new Object[1 << segmentBits];
+        }
+        segments[segment][index & segmentMask] = value;
+        generation.segments = segments;
+        generation.size = index + 1;
+    }
+
+    public void reset() {
+        Generation generation = current;
+        current = new Generation(generation.baseSeq + generation.size);
+    }
+
+    /** Secuencia del primer elemento de la generación actual. */
+    public long firstSeq() {
+        return current.baseSeq;
+    }
+
+    /** Secuencia que recibirá el próximo elemento. */
+    public long endSeq() {
+        Generation generation = current;
+        return generation.baseSeq + generation.size;
+    }
+
+    public int size() {
+        return current.size;
+    }
+
+    /**
+     * Devuelve hasta {@code limit} elementos a partir de {@code fromSeq}. Si la
+     * secuencia pertenece a una generación anterior se lee desde el inicio de la
+     * actual.
+     */
+    public List<T> read(long fromSeq, int limit) {
+        return slice(fromSeq, limit).getEntries();
+    }
+
+    /**
+     * Igual que {@link #read(long, int)} pero conserva la secuencia base de la
+     * generación leída, para que el llamador no la consulte por separado y
+     * mezcle dos generaciones si hubo un {@link #reset()} entremedio.
+     */
+    public Slice<T> slice(long fromSeq, int limit) {
+        Generation generation = current;
+        int size = generation.size;
+        Object[][] segments = generation.segments;
+        long start = Math.max(fromSeq, generation.baseSeq) - generation.baseSeq;
+        if (start >= size || limit <= 0) {
+            return new Slice<>(generation.baseSeq, generation.baseSeq + Math.min(start, size), new ArrayList<>(0));
+        }
+        int from = (int) start;
+        int to = (int) Math.min(size, start + limit);
+        List<T> result = new ArrayList<>(to - from);
+        for (int i = from; i < to; i++) {
+            result.add(elementAt(segments, i));
+        }
+        return new Slice<>(generation.baseSeq, generation.baseSeq + from, result);
+    }
+
+    /**
+     * Vista fija de la generación actual: no copia elementos y no ve lo que se
+     * agregue después ni se afecta por un {@link #reset()} posterior, así que se
+     * puede recorrer varias veces con el mismo resultado.
+     */
+    public View<T> view() {
+        Generation generation = current;
+        int size = generation.size;
+        return new View<>(this, generation.baseSeq, generation.segments, size);
+    }
+
+    public List<T> toList() {
+        return read(Long.MIN_VALUE, Integer.MAX_VALUE);
+    }
+
+    @SuppressWarnings("unchecked")
+    private T elementAt(Object[][] segments, int index) {
+        return (T) segments[index >>> segmentBits][index & segmentMask];
+    }
+
+    /** Tramo leído del log junto con las secuencias que lo ubican. */
+    public static final class Slice<T> {
+
+        private final long firstSeq;
+        private final long startSeq;
+        private final List<T> entries;
+
+        private Slice(long firstSeq, long startSeq, List<T> entries) {
+            this.firstSeq = firstSeq;
+            this.startSeq = startSeq;
+            this.entries = entries;
+        }
+
+        /** Primera secuencia disponible en la generación leída. */
+        public long getFirstSeq() {
+            return firstSeq;
+        }
+
+        /** Secuencia del primer elemento devuelto. */
+        public long getStartSeq() {
+            return startSeq;
+        }
+
+        public long getNextSeq() {
+            return startSeq + entries.size();
+        }
+
+        public List<T> getEntries() {
+            return entries;
+        }
+    }
+
+    /** Elementos de una generación hasta el tamaño que tenía al crear la vista. */
+    public static final class View<T> {
+
+        private final SegmentedLog<T> log;
+        private final long firstSeq;
+        private final Object[][] segments;
+        private final int size;
+
+        private View(SegmentedLog<T> log, long firstSeq, Object[][] segments, int size) {
+            this.log = log;
+            this.firstSeq = firstSeq;
+            this.segments = segments;
+            this.size = size;
+        }
+
+        public long getFirstSeq() {
+            return firstSeq;
+        }
+
+        public int size() {
+            return size;
+        }
+
+        public T get(int index) {
+            return log.elementAt(segments, index);
+        }
+    }
+
+    private static final class Generation {
+
+        private final long baseSeq;
+        private volatile Object[][] segments = new Object[4][];
+        private volatile int size;
+
+        private Generation(long baseSeq) {
+            this.baseSeq = baseSeq;
+        }
+    }
+}
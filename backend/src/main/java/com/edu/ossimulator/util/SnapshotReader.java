@@ -0,0 +1,114 @@
+package com.edu.ossimulator.util;
+
+import java.io.Closeable;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.StreamCorruptedException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Lectura secuencial de un snapshot mapeando el archivo en memoria por
+ * ventanas de hasta 1 GB: el sistema operativo trae las páginas a medida que
+ * se recorren y los archivos de varios GB no se copian al heap. Cuando lo que
+ * sigue no entra en la ventana actual se mapea una nueva desde esa posición.
+ * No cierra el canal.
+ */
+public class SnapshotReader implements Closeable {
+
+    private static final long WINDOW_SIZE = 1L << 30;
+
+    private final FileChannel channel;
+    private final long size;
+    private long windowStart;
+    private MappedByteBuffer window;
+
+    public SnapshotReader(FileChannel channel) throws IOException {
+        this.channel = channel;
+        this.size = channel.size();
+        this.window = channel.map(FileChannel.MapMode.READ_ONLY, 0, Math.min(WINDOW_SIZE, size));
+    }
+
+    public int readByte() throws IOException {
+        ensure(Byte.BYTES);
+        return window.get();
+    }
+
+    public boolean readBoolean() throws IOException {
+        return readByte() != 0;
+    }
+
+    public int readInt() throws IOException {
+        ensure(Integer.BYTES);
+        return window.getInt();
+    }
+
+    public long readLong() throws IOException {
+        ensure(Long.BYTES);
+        return window.getLong();
+    }
+
+    public double readDouble() throws IOException {
+        ensure(Double.BYTES);
+        return window.getDouble();
+    }
+
+    public Integer readOptionalInt() throws IOException {
+        return readBoolean() ? readInt() : null;
+    }
+
+    public String readString() throws IOException {
+        int length = readInt();
+        if (length == -1) {
+            return null;
+        }
+        checkLength(length);
+        byte[] bytes = new byte[length];
+        ensure(length);
+        window.get(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Lee la cantidad de elementos que sigue y descarta las que no podrían
+     * caber en el resto del archivo, para que un snapshot dañado no pida
+     * arreglos enormes.
+     */
+    public int readCount() throws IOException {
+        int count = readInt();
+        checkLength(count);
+        return count;
+    }
+
+    public long position() {
+        return windowStart + window.position();
+    }
+
+    public long size() {
+        return size;
+    }
+
+    @Override
+    public void close() {
+        window = null;
+    }
+
+    private void checkLength(int length) throws IOException {
+        if (length < 0 || length > size - position()) {
+            throw new StreamCorruptedException("Invalid length " + length + " at byte " + position());
+        }
+    }
+
+    private void ensure(int bytes) throws IOException {
+        if (window.remaining() >= bytes) {
+            return;
+        }
+        long position = position();
+        if (position + bytes > size) {
+            throw new EOFException("Snapshot truncated at byte " + position);
+        }
+        windowStart = position;
+        window = channel.map(FileChannel.MapMode.READ_ONLY, position, Math.min(Math.max(WINDOW_SIZE, bytes), size - position));
+    }
+}
@@ -0,0 +1,101 @@
+package com.edu.ossimulator.util;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Escritura secuencial de un snapshot binario. Los primitivos se copian a un
+ * buffer directo y el canal recibe bloques de 1 MB, sin la sincronización por
+ * byte de {@code DataOutputStream}. No cierra el canal.
+ */
+public class SnapshotWriter implements Closeable {
+
+    private static final int BUFFER_SIZE = 1 << 20;
+
+    private final FileChannel channel;
+    private final ByteBuffer buffer = ByteBuffer.allocateDirect(BUFFER_SIZE);
+    private long flushed;
+
+    public SnapshotWriter(FileChannel channel) {
+        this.channel = channel;
+    }
+
+    public void writeByte(int value) throws IOException {
+        ensure(Byte.BYTES);
+        buffer.put((byte) value);
+    }
+
+    public void writeBoolean(boolean value) throws IOException {
+        writeByte(value ? 1 : 0);
+    }
+
+    public void writeInt(int value) throws IOException {
+        ensure(Integer.BYTES);
+        buffer.putInt(value);
+    }
+
+    public void writeLong(long value) throws IOException {
+        ensure(Long.BYTES);
+        buffer.putLong(value);
+    }
+
+    public void writeDouble(double value) throws IOException {
+        ensure(Double.BYTES);
+        buffer.putDouble(value);
+    }
+
+    /** Entero opcional: un byte de presencia y el valor solo si existe. */
+    public void writeOptionalInt(Integer value) throws IOException {
+        writeBoolean(value != null);
+        if (value != null) {
+            writeInt(value);
+        }
+    }
+
+    /** UTF-8 precedido por su largo en bytes; -1 representa {@code null}. */
+    public void writeString(String value) throws IOException {
+        if (value == null) {
+            writeInt(-1);
+            return;
+        }
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        writeInt(bytes.length);
+        if (bytes.length > buffer.capacity()) {
+            flush();
+            ByteBuffer direct = ByteBuffer.wrap(bytes);
+            while (direct.hasRemaining()) {
+                flushed += channel.write(direct);
+            }
+            return;
+        }
+        ensure(bytes.length);
+        buffer.put(bytes);
+    }
+
+    /** Bytes escritos hasta ahora, incluidos los que siguen en el buffer. */
+    public long size() {
+        return flushed + buffer.position();
+    }
+
+    public void flush() throws IOException {
+        buffer.flip();
+        while (buffer.hasRemaining()) {
+            flushed += channel.write(buffer);
+        }
+        buffer.clear();
+    }
+
+    @Override
+    public void close() throws IOException {
+        flush();
+    }
+
+    private void ensure(int bytes) throws IOException {
+        if (buffer.remaining() < bytes) {
+            flush();
+        }
+    }
+}
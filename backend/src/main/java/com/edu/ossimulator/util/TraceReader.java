@@ -0,0 +1,255 @@
+package com.edu.ossimulator.util;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+/**
+ * Lee un archivo de texto por líneas y campos directamente sobre los bytes de
+ * un buffer NIO, sin crear un {@code String} por línea: los números se
+ * convierten desde los bytes y solo {@link #text(int)} decodifica. Los campos
+ * se separan por espacios y tabulaciones (SWF) o por un delimitador, con
+ * comillas dobles opcionales (CSV). Una línea que no entra en el buffer se
+ * descarta entera y se reporta con {@link #isTooLong()}.
+ */
+public class TraceReader implements Closeable {
+
+    public static final byte WHITESPACE = 0;
+
+    private final ReadableByteChannel channel;
+    private final ByteBuffer buffer;
+    private final byte[] bytes;
+    private final byte delimiter;
+    private int[] starts = new int[32];
+    private int[] ends = new int[32];
+    private int fields;
+    private int position;
+    private long line;
+    private long bytesRead;
+    private boolean tooLong;
+    private boolean eof;
+
+    /**
+     * @param delimiter separador de campos, o {@link #WHITESPACE} para
+     *                  cualquier secuencia de espacios y tabulaciones.
+     */
+    public TraceReader(ReadableByteChannel channel, int bufferSize, byte delimiter) {
+        this.channel = channel;
+        this.buffer = ByteBuffer.allocate(bufferSize);
+        this.bytes = buffer.array();
+        this.delimiter = delimiter;
+        buffer.limit(0);
+    }
+
+    /**
+     * Avanza a la siguiente línea y la separa en campos.
+     *
+     * @return {@code false} al terminar el archivo.
+     */
+    public boolean nextLine() throws IOException {
+        tooLong = false;
+        int end;
+        while ((end = indexOfNewline(position)) < 0) {
+            if (eof) {
+                if (position == buffer.limit() && !tooLong) {
+                    return false;
+                }
+                // Última línea sin salto final
+                end = buffer.limit();
+                break;
+            }
+            if (position == 0 && buffer.limit() == buffer.capacity()) {
+                // La línea no entra en el buffer: se descarta hasta el próximo salto
+                tooLong = true;
+                position = buffer.limit();
+            }
+            fill();
+        }
+        line++;
+        int next = end < buffer.limit() ? end + 1 : end;
+        if (tooLong) {
+            fields = 0;
+        } else {
+            if (end > position && bytes[end - 1] == '\r') {
+                end--;
+            }
+            split(position, end);
+        }
+        position = next;
+        return true;
+    }
+
+    /** Número de línea actual, desde 1. */
+    public long lineNumber() {
+        return line;
+    }
+
+    /** Bytes leídos del canal hasta ahora. */
+    public long bytesRead() {
+        return bytesRead;
+    }
+
+    /** La línea actual superaba el buffer y se descartó sin separar sus campos. */
+    public boolean isTooLong() {
+        return tooLong;
+    }
+
+    public int fieldCount() {
+        return fields;
+    }
+
+    /** La línea actual no tiene ningún campo con contenido. */
+    public boolean isEmpty() {
+        return fields == 0 || (fields == 1 && starts[0] == ends[0]);
+    }
+
+    /** La línea actual empieza (ignorando espacios) con {@code prefix}. */
+    public boolean startsWith(char prefix) {
+        return fields > 0 && bytes[starts[0]] == prefix;
+    }
+
+    public String text(int field) {
+        String value = new String(bytes, starts[field], ends[field] - starts[field], StandardCharsets.UTF_8);
+        return value.indexOf('"') >= 0 ? value.replace("\"\"", "\"") : value;
+    }
+
+    /**
+     * Valor numérico del campo: signo opcional, dígitos y decimales opcionales.
+     *
+     * @throws NumberFormatException si el campo está vacío o no es un número.
+     */
+    public double number(int field) {
+        int i = starts[field];
+        int end = ends[field];
+        boolean negative = i < end && bytes[i] == '-';
+        if (i < end && (bytes[i] == '-' || bytes[i] == '+')) {
+            i++;
+        }
+        int digitsStart = i;
+        long integer = 0;
+        while (i < end && bytes[i] >= '0' && bytes[i] <= '9') {
+            if (integer > (Long.MAX_VALUE - 9) / 10) {
+                throw invalid(field);
+            }
+            integer = integer * 10 + (bytes[i++] - '0');
+        }
+        double value = integer;
+        int digits = i - digitsStart;
+        if (i < end && bytes[i] == '.') {
+            i++;
+            double scale = 0.1;
+            while (i < end && bytes[i] >= '0' && bytes[i] <= '9') {
+                value += (bytes[i++] - '0') * scale;
+                scale /= 10;
+                digits++;
+            }
+        }
+        if (digits == 0 || i != end) {
+            throw invalid(field);
+        }
+        return negative ? -value : value;
+    }
+
+    @Override
+    public void close() throws IOException {
+        channel.close();
+    }
+
+    private NumberFormatException invalid(int field) {
+        return new NumberFormatException("Invalid number '" + text(field) + "' in column " + (field + 1));
+    }
+
+    private int indexOfNewline(int from) {
+        int limit = buffer.limit();
+        for (int i = from; i < limit; i++) {
+            if (bytes[i] == '\n') {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    // Mueve la línea incompleta al principio del buffer y lee más bytes detrás
+    private void fill() throws IOException {
+        int pending = buffer.limit() - position;
+        System.arraycopy(bytes, position, bytes, 0, pending);
+        position = 0;
+        buffer.limit(buffer.capacity()).position(pending);
+        while (buffer.hasRemaining()) {
+            if (channel.read(buffer) < 0) {
+                eof = true;
+                break;
+            }
+        }
+        bytesRead += buffer.position() - pending;
+        buffer.flip();
+    }
+
+    private void split(int from, int to) {
+        fields = 0;
+        int i = from;
+        if (delimiter == WHITESPACE) {
+            while (true) {
+                while (i < to && isBlank(bytes[i])) {
+                    i++;
+                }
+                if (i == to) {
+                    return;
+                }
+                int start = i;
+                while (i < to && !isBlank(bytes[i])) {
+                    i++;
+                }
+                add(start, i);
+            }
+        }
+        while (true) {
+            while (i < to && bytes[i] == ' ') {
+                i++;
+            }
+            int start = i;
+            int end;
+            if (i < to && bytes[i] == '"') {
+                // Campo entre comillas: puede contener el delimitador; "" es una comilla
+                start = ++i;
+                while (i < to && (bytes[i] != '"' || (i + 1 < to && bytes[i + 1] == '"'))) {
+                    i += bytes[i] == '"' ? 2 : 1;
+                }
+                end = i;
+                while (i < to && bytes[i] != delimiter) {
+                    i++;
+                }
+            } else {
+                while (i < to && bytes[i] != delimiter) {
+                    i++;
+                }
+                end = i;
+                while (end > start && bytes[end - 1] == ' ') {
+                    end--;
+                }
+            }
+            add(start, end);
+            if (i >= to) {
+                return;
+            }
+            i++;
+        }
+    }
+
+    private void add(int start, int end) {
+        if (fields == starts.length) {
+            starts = Arrays.copyOf(starts, fields * 2);
+            ends = Arrays.copyOf(ends, fields * 2);
+        }
+        starts[fields] = start;
+        ends[fields] = end;
+        fields++;
+    }
+
+    private static boolean isBlank(byte b) {
+        return b == ' ' || b == '\t';
+    }
+}
@@ -0,0 +1,95 @@
+package com.edu.ossimulator.benchmarks;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.edu.ossimulator.engine.ReadyQueue;
+import com.edu.ossimulator.model.ProcessControlBlock;
+import com.edu.ossimulator.model.ProcessQueue;
+import com.edu.ossimulator.model.SchedulerAlgorithm;
+
+/**
+ * Operaciones de cola en régimen estable: la cola se llena una vez con
+ * {@code size} procesos y cada operación deja el mismo tamaño.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "-Xmx4g")
+public class ReadyQueueBenchmark {
+
+    // FCFS usa la cola FIFO intrusiva; PRIORITY, SJF y STRIDE, el heap indexado; LOTTERY, el árbol de Fenwick
+    @Param({"FCFS", "PRIORITY", "SJF", "LOTTERY", "STRIDE"})
+    public SchedulerAlgorithm algorithm;
+
+    @Param({"10", "1000", "100000", "1000000"})
+    public int size;
+
+    private ReadyQueue queue;
+    private ProcessControlBlock[] processes;
+    private ProcessQueue ready;
+    private ProcessQueue waiting;
+    private int cursor;
+
+    @Setup
+    public void fill() {
+        List<ProcessControlBlock> workload = WorkloadShape.POISSON_EXPONENTIAL.build(size);
+        processes = workload.toArray(new ProcessControlBlock[0]);
+        queue = ReadyQueue.forAlgorithm(algorithm);
+        ready = new ProcessQueue();
+        waiting = new ProcessQueue();
+        for (ProcessControlBlock pcb : processes) {
+            queue.offer(pcb);
+            ready.add(pcb);
+        }
+    }
+
+    @Benchmark
+    public ProcessControlBlock pollOffer() {
+        ProcessControlBlock pcb = queue.poll();
+        queue.offer(pcb);
+        return pcb;
+    }
+
+    @Benchmark
+    public ProcessControlBlock removeOffer() {
+        ProcessControlBlock pcb = next();
+        queue.remove(pcb);
+        queue.offer(pcb);
+        return pcb;
+    }
+
+    @Benchmark
+    public boolean contains() {
+        return queue.contains(next());
+    }
+
+    // Movimiento ready -> waiting -> ready como en una interrupción de I/O
+    @Benchmark
+    public ProcessControlBlock moveBetweenSystemQueues() {
+        ProcessControlBlock pcb = next();
+        waiting.add(pcb);
+        ready.add(pcb);
+        return pcb;
+    }
+
+    private ProcessControlBlock next() {
+        ProcessControlBlock pcb = processes[cursor];
+        cursor = cursor + 1 == processes.length ? 0 : cursor + 1;
+        return pcb;
+    }
+}
@@ -0,0 +1,96 @@
+package com.edu.ossimulator.benchmarks;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.edu.ossimulator.dto.TimelineEntry;
+import com.edu.ossimulator.engine.SimulationListener;
+import com.edu.ossimulator.engine.VirtualTimeEngine;
+import com.edu.ossimulator.model.ProcessControlBlock;
+import com.edu.ossimulator.model.SchedulerAlgorithm;
+
+/**
+ * Corrida completa de cada algoritmo en tiempo virtual. Es el mismo camino que
+ * usa {@code mode=VIRTUAL_TIME}; los métodos puros de la sesión no se miden
+ * porque ninguna ruta de la aplicación los invoca.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = "-Xmx4g")
+public class SchedulerBenchmark {
+
+    private static final int QUANTUM = 4;
+
+    // EDF y RATE_MONOTONIC corren aquí con carga aperiódica: miden el costo del heap, no el de las liberaciones
+    @Param({"FCFS", "ROUND_ROBIN", "PRIORITY", "SJF", "SRTF", "PRIORITY_PREEMPTIVE", "MLFQ", "FAIR", "LOTTERY", "STRIDE",
+            "EDF", "RATE_MONOTONIC"})
+    public SchedulerAlgorithm algorithm;
+
+    @Param({"10", "1000", "100000", "1000000"})
+    public int processes;
+
+    @Param({"POISSON_EXPONENTIAL", "BATCH_BIMODAL", "POISSON_PARETO"})
+    public WorkloadShape shape;
+
+    private List<ProcessControlBlock> workload;
+
+    @Setup(Level.Trial)
+    public void generate() {
+        workload = shape.build(processes);
+    }
+
+    @Setup(Level.Invocation)
+    public void reset() {
+        workload.forEach(ProcessControlBlock::resetRuntimeData);
+    }
+
+    @Benchmark
+    public long runToCompletion() {
+        SliceCounter counter = new SliceCounter();
+        new VirtualTimeEngine(algorithm, QUANTUM, VirtualTimeEngine.DEFAULT_IO_DURATION, workload, counter)
+                .runToCompletion();
+        return counter.slices;
+    }
+
+    private static final class SliceCounter implements SimulationListener {
+
+        private long slices;
+
+        @Override
+        public void processDispatched(ProcessControlBlock pcb) {
+        }
+
+        @Override
+        public void processReleased(ProcessControlBlock pcb) {
+        }
+
+        @Override
+        public void processTerminated(ProcessControlBlock pcb, int time) {
+        }
+
+        @Override
+        public void ioCompleted(ProcessControlBlock pcb) {
+        }
+
+        @Override
+        public void sliceCompleted(TimelineEntry entry) {
+            slices++;
+        }
+    }
+}
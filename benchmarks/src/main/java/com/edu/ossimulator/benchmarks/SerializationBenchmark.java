@@ -0,0 +1,83 @@
+package com.edu.ossimulator.benchmarks;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.edu.ossimulator.dto.SystemStateResponse;
+import com.edu.ossimulator.model.ProcessControlBlock;
+import com.edu.ossimulator.model.ProcessState;
+import com.edu.ossimulator.service.SimulationStatus;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+
+/**
+ * Serialización de {@code GET /api/simulation/state} con las colas repartidas
+ * en tercios. La salida se descarta para medir solo Jackson y los getters.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = "-Xmx4g")
+public class SerializationBenchmark {
+
+    @Param({"10", "1000", "100000", "1000000"})
+    public int processes;
+
+    // Misma configuración de fechas que aplica Spring Boot por defecto
+    private final ObjectMapper mapper = JsonMapper.builder()
+            .findAndAddModules()
+            .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+            .build();
+    private SystemStateResponse state;
+
+    @Setup
+    public void build() {
+        List<ProcessControlBlock> workload = WorkloadShape.POISSON_EXPONENTIAL.build(processes);
+        int third = Math.max(1, workload.size() / 3);
+        List<ProcessControlBlock> ready = workload.subList(0, Math.min(third, workload.size()));
+        List<ProcessControlBlock> waiting = workload.subList(ready.size(), Math.min(2 * third, workload.size()));
+        List<ProcessControlBlock> terminated = workload.subList(ready.size() + waiting.size(), workload.size());
+        waiting.forEach(pcb -> pcb.setState(ProcessState.WAITING, "I/O interrupt: benchmark"));
+        terminated.forEach(pcb -> pcb.setState(ProcessState.TERMINATED));
+        state = new SystemStateResponse(SimulationStatus.RUNNING, ready, waiting, terminated, workload.get(0));
+    }
+
+    @Benchmark
+    public long writeState() throws IOException {
+        CountingOutputStream out = new CountingOutputStream();
+        mapper.writeValue(out, state);
+        return out.count;
+    }
+
+    private static final class CountingOutputStream extends OutputStream {
+
+        private long count;
+
+        @Override
+        public void write(int b) {
+            count++;
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) {
+            count += len;
+        }
+    }
+}
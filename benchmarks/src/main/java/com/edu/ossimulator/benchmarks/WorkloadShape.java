@@ -0,0 +1,50 @@
+package com.edu.ossimulator.benchmarks;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import com.edu.ossimulator.dto.CreateProcessRequest;
+import com.edu.ossimulator.dto.WorkloadRequest;
+import com.edu.ossimulator.engine.WorkloadGenerator;
+import com.edu.ossimulator.model.ArrivalDistribution;
+import com.edu.ossimulator.model.BurstDistribution;
+import com.edu.ossimulator.model.ProcessControlBlock;
+
+/**
+ * Formas de carga usadas en los benchmarks, todas con semilla fija para que
+ * dos corridas midan exactamente el mismo trabajo.
+ */
+public enum WorkloadShape {
+    POISSON_EXPONENTIAL(ArrivalDistribution.POISSON, BurstDistribution.EXPONENTIAL),
+    BATCH_BIMODAL(ArrivalDistribution.BATCH, BurstDistribution.BIMODAL),
+    POISSON_PARETO(ArrivalDistribution.POISSON, BurstDistribution.PARETO);
+
+    private static final long SEED = 20240601L;
+
+    private final ArrivalDistribution arrivals;
+    private final BurstDistribution bursts;
+
+    WorkloadShape(ArrivalDistribution arrivals, BurstDistribution bursts) {
+        this.arrivals = arrivals;
+        this.bursts = bursts;
+    }
+
+    public List<ProcessControlBlock> build(int count) {
+        WorkloadRequest request = new WorkloadRequest();
+        request.setCount(count);
+        request.setArrivals(arrivals);
+        request.setBursts(bursts);
+        // Tasa de llegada un poco por debajo de la de servicio para que la cola no crezca sin límite
+        request.setArrivalRate(1.0 / (request.getMeanBurst() * 1.1));
+        WorkloadGenerator generator = new WorkloadGenerator(request, SEED);
+        List<ProcessControlBlock> processes = new ArrayList<>(count);
+        while (generator.hasNext()) {
+            CreateProcessRequest process = generator.next();
+            ProcessControlBlock pcb = new ProcessControlBlock(process.getName(), process.getArrivalTime(),
+                    process.getBurstTime(), process.getPriority());
+            pcb.resetRuntimeData();
+            processes.add(pcb);
+        }
+        return processes;
+    }
+}
@@ -5,10 +5,15 @@ const defaultApiUrl = (() => {
 
 const BASE_URL = import.meta.env.VITE_API_URL ?? defaultApiUrl;
 
+// Cada pestaña trabaja sobre su propia sesión de simulación en el backend
+const SESSION_STORAGE_KEY = 'os-simulator-session';
+let sessionId = sessionStorage.getItem(SESSION_STORAGE_KEY);
+
 async function request(path, options = {}) {
   const response = await fetch(`${BASE_URL}${path}`, {
     headers: {
       'Content-Type': 'application/json',
+      ...(sessionId ? { 'X-Session-Id': sessionId } : {}),
       ...(options.headers ?? {}),
     },
     ...options,
@@ -32,6 +37,20 @@ async function request(path, options = {}) {
 }
 
 export const osApi = {
+  async ensureSession() {
+    if (sessionId) {
+      try {
+        await request(`/sessions/${sessionId}`);
+        return sessionId;
+      } catch {
+        sessionId = null;
+      }
+    }
+    const session = await request('/sessions', { method: 'POST' });
+    sessionId = session.id;
+    sessionStorage.setItem(SESSION_STORAGE_KEY, sessionId);
+    return sessionId;
+  },
   createProcess(payload) {
     return request('/processes', {
       method: 'POST',
@@ -56,12 +75,36 @@ export const osApi = {
   stopSimulation() {
     return request('/simulation/stop', { method: 'POST' });
   },
+  // Sin nombre el checkpoint lleva el id de la sesión
+  checkpointSimulation() {
+    return request('/simulation/checkpoint', { method: 'POST' });
+  },
+  restoreSimulation() {
+    return request('/simulation/restore', { method: 'POST' });
+  },
   getSystemState() {
     return request('/simulation/state');
   },
   getTimeline() {
     return request('/simulation/timeline');
   },
+  // Un enlace de descarga no lleva cabeceras propias: la sesión va como parámetro
+  timelineExportUrl(format) {
+    const params = new URLSearchParams({ format });
+    if (sessionId) {
+      params.set('sessionId', sessionId);
+    }
+    return `${BASE_URL}/simulation/timeline/export?${params}`;
+  },
+  openStateStream(onDelta, onError) {
+    const params = sessionId ? `?sessionId=${encodeURIComponent(sessionId)}` : '';
+    const source = new EventSource(`${BASE_URL}/simulation/stream${params}`);
+    source.addEventListener('delta', (event) => onDelta(JSON.parse(event.data)));
+    if (onError) {
+      source.onerror = onError;
+    }
+    return source;
+  },
   emitInterruption(payload) {
     return request('/interruptions', {
       method: 'POST',